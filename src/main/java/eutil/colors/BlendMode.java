@@ -0,0 +1,22 @@
+package eutil.colors;
+
+/**
+ * The Porter-Duff style blend modes supported by {@link ColorBlender}.
+ * Every mode operates on premultiplied ARGB colors where each color
+ * channel is already scaled by the pixel's alpha.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public enum BlendMode {
+
+	/** Standard alpha compositing: {@code src + dst * (1 - srcA)}. */
+	SRC_OVER,
+	/** Darkens by multiplying channels: {@code src * dst + src * (1 - dstA) + dst * (1 - srcA)}. */
+	MULTIPLY,
+	/** Lightens by inverting, multiplying, and inverting again: {@code src + dst - src * dst}. */
+	SCREEN,
+	/** Adds each channel together, saturating at full intensity. */
+	ADD;
+
+}
@@ -1,44 +1,244 @@
 package eutil.colors;
 
-import eutil.debug.Broken;
-import eutil.debug.Experimental;
+import java.util.stream.IntStream;
 
 /**
- * An incomplete experimental implementation of a standard integer color blending algorithm.
- * 
+ * An integer only alpha compositing engine for ARGB colors and pixel
+ * buffers.
+ *
+ * <p>
+ * All blending is done on premultiplied colors using 8-bit fixed point
+ * math, where every product of two channels is divided by 255 with
+ * correct rounding. {@link BlendMode#SRC_OVER} additionally processes the
+ * red/blue and alpha/green channel pairs two at a time within a single
+ * int. Buffers are addressed as row strided regions so that sub-rectangles
+ * of larger images can be composited in place, and the '*Parallel'
+ * variants split the region into bands of rows on the common fork-join
+ * pool.
+ *
+ * <blockquote><pre>
+ *     ColorBlender.premultiply(layer);
+ *     ColorBlender.compositeParallel(BlendMode.SRC_OVER, layer, 0, w, frame, 0, w, w, h);
+ * </pre></blockquote><p>
+ *
+ * Results are undefined for colors which are not validly premultiplied
+ * (any color channel greater than its alpha).
+ *
  * @author Hunter Bragg
  * @since 1.0.0
  */
-@Experimental(since="Its inception")
-@Broken(reason="Fairly certain this code has never worked properly", since="2.2.0")
 public class ColorBlender {
-	
+
+	/** The approximate number of pixels each parallel task composites. */
+	public static final int PARALLEL_TILE = 1 << 15;
+
+	//---------------
+	// Single Colors
+	//---------------
+
+	/**
+	 * Composites a straight (non-premultiplied) ARGB overlay color on top of a
+	 * straight background color and returns the straight result.
+	 */
 	public static int overlayColor(int background, int overlay) {
-		long base = (long) background;
-		long over = (long) overlay;
-		
-		long bA = (base >> 24) & 0xff;
-		long bR = (base >> 16) & 0xff;
-		long bG = (base >> 8) & 0xff;
-		long bB = (base) & 0xff;
-		
-		//long colorA = (bR << 16) + (bG << 8) + bB;
-		
-		long oA = (over >> 24) & 0xff;
-		long oR = (over >> 16) & 0xff;
-		long oG = (over >> 8) & 0xff;
-		long oB = (over) & 0xff;
-		
-		//long colorB = (oR << 16) + (oG << 8) + oB;
-		long newAlpha = (long) (255 - (255 - oA) * (255 - bA));
-		
-		double newRed = oR * oA / newAlpha + (bR * bA * (255 - oA) / newAlpha) / 255;
-		double newGreen = oG * oA / newAlpha + (bG * bA * (255 - oA) / newAlpha) / 255;
-		double newBlue = oB * oA / newAlpha + (bB * bA * (255 - oA) / newAlpha) / 255;
-		
-		long newColor = ((long) newAlpha << 24) + ((long) newRed << 16) + ((long) newGreen << 8) + (long) newBlue;
-		
-		return (int) newColor;
+		return unpremultiply(srcOver(premultiply(overlay), premultiply(background)));
+	}
+
+	/** Blends the premultiplied 'src' color onto the premultiplied 'dst' color with the given mode. */
+	public static int blend(BlendMode mode, int src, int dst) {
+		switch (mode) {
+		case SRC_OVER: return srcOver(src, dst);
+		case MULTIPLY: return multiply(src, dst);
+		case SCREEN: return screen(src, dst);
+		case ADD: return add(src, dst);
+		default: throw new IllegalArgumentException("Unsupported blend mode: " + mode);
+		}
+	}
+
+	/** Converts a straight ARGB color into its premultiplied form. */
+	public static int premultiply(int argb) {
+		int a = argb >>> 24;
+		if (a == 0xff) return argb;
+		if (a == 0) return 0;
+		int r = mul(((argb >> 16) & 0xff), a);
+		int g = mul(((argb >> 8) & 0xff), a);
+		int b = mul((argb & 0xff), a);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	/** Converts a premultiplied ARGB color back into its straight form. */
+	public static int unpremultiply(int argb) {
+		int a = argb >>> 24;
+		if (a == 0xff) return argb;
+		if (a == 0) return 0;
+		int half = a >> 1;
+		int r = Math.min(0xff, (((argb >> 16) & 0xff) * 255 + half) / a);
+		int g = Math.min(0xff, (((argb >> 8) & 0xff) * 255 + half) / a);
+		int b = Math.min(0xff, ((argb & 0xff) * 255 + half) / a);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	//---------------
+	// Pixel Buffers
+	//---------------
+
+	/** Premultiplies every pixel of the given buffer in place. */
+	public static void premultiply(int[] buf) { premultiply(buf, 0, buf.length); }
+
+	/** Premultiplies 'len' pixels starting at 'off' in place. */
+	public static void premultiply(int[] buf, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) buf[i] = premultiply(buf[i]);
+	}
+
+	/** Converts every premultiplied pixel of the given buffer back to straight alpha in place. */
+	public static void unpremultiply(int[] buf) { unpremultiply(buf, 0, buf.length); }
+
+	/** Converts 'len' premultiplied pixels starting at 'off' back to straight alpha in place. */
+	public static void unpremultiply(int[] buf, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) buf[i] = unpremultiply(buf[i]);
+	}
+
+	/**
+	 * Composites a 'width' by 'height' region of premultiplied 'src' pixels
+	 * onto the same sized region of 'dst' in place.
+	 *
+	 * @param mode The blend mode to use
+	 * @param src The source (top layer) pixels
+	 * @param srcOff The index of the region's top left pixel in 'src'
+	 * @param srcStride The number of pixels between the start of each row in 'src'
+	 * @param dst The destination (bottom layer) pixels which receive the result
+	 * @param dstOff The index of the region's top left pixel in 'dst'
+	 * @param dstStride The number of pixels between the start of each row in 'dst'
+	 * @param width The width of the region in pixels
+	 * @param height The height of the region in pixels
+	 */
+	public static void composite(BlendMode mode, int[] src, int srcOff, int srcStride,
+								 int[] dst, int dstOff, int dstStride, int width, int height)
+	{
+		checkRegion(src, srcOff, srcStride, width, height);
+		checkRegion(dst, dstOff, dstStride, width, height);
+		compositeRows(mode, src, srcOff, srcStride, dst, dstOff, dstStride, width, 0, height);
+	}
+
+	/** Composites two equally sized, tightly packed buffers. */
+	public static void composite(BlendMode mode, int[] src, int[] dst) {
+		if (src.length != dst.length) throw new IllegalArgumentException("Both buffers must be the same size!");
+		compositeRows(mode, src, 0, src.length, dst, 0, dst.length, src.length, 0, 1);
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link #composite(BlendMode, int[], int, int, int[], int, int, int, int)}
+	 * which splits the region into bands of rows. Small regions are
+	 * composited on the calling thread.
+	 */
+	public static void compositeParallel(BlendMode mode, int[] src, int srcOff, int srcStride,
+										 int[] dst, int dstOff, int dstStride, int width, int height)
+	{
+		checkRegion(src, srcOff, srcStride, width, height);
+		checkRegion(dst, dstOff, dstStride, width, height);
+
+		if ((long) width * height <= PARALLEL_TILE || height < 2) {
+			compositeRows(mode, src, srcOff, srcStride, dst, dstOff, dstStride, width, 0, height);
+			return;
+		}
+
+		final int band = Math.max(1, PARALLEL_TILE / Math.max(1, width));
+		final int bands = (height + band - 1) / band;
+		IntStream.range(0, bands).parallel().forEach(t -> {
+			int start = t * band;
+			int end = Math.min(height, start + band);
+			compositeRows(mode, src, srcOff, srcStride, dst, dstOff, dstStride, width, start, end);
+		});
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/** Composites the rows [rowStart, rowEnd) of the given region. */
+	private static void compositeRows(BlendMode mode, int[] src, int srcOff, int srcStride,
+									  int[] dst, int dstOff, int dstStride, int width, int rowStart, int rowEnd)
+	{
+		for (int y = rowStart; y < rowEnd; y++) {
+			int s = srcOff + y * srcStride;
+			int d = dstOff + y * dstStride;
+			int end = s + width;
+
+			// the mode is resolved once per row so that each inner loop stays monomorphic
+			switch (mode) {
+			case SRC_OVER: for (; s < end; s++, d++) dst[d] = srcOver(src[s], dst[d]); break;
+			case MULTIPLY: for (; s < end; s++, d++) dst[d] = multiply(src[s], dst[d]); break;
+			case SCREEN: for (; s < end; s++, d++) dst[d] = screen(src[s], dst[d]); break;
+			case ADD: for (; s < end; s++, d++) dst[d] = add(src[s], dst[d]); break;
+			default: throw new IllegalArgumentException("Unsupported blend mode: " + mode);
+			}
+		}
+	}
+
+	private static void checkRegion(int[] buf, int off, int stride, int width, int height) {
+		if (width < 0 || height < 0 || off < 0 || stride < width) {
+			throw new IllegalArgumentException("Invalid region: off=" + off + ", stride=" + stride + ", size=" + width + "x" + height);
+		}
+		if (height > 0 && off + (long) (height - 1) * stride + width > buf.length) {
+			throw new ArrayIndexOutOfBoundsException("Region extends past the end of a buffer of length " + buf.length);
+		}
+	}
+
+	/** Returns 'a * b / 255' correctly rounded, for 'a' and 'b' between 0 and 255. */
+	private static int mul(int a, int b) {
+		int t = a * b + 0x80;
+		return (t + (t >>> 8)) >>> 8;
+	}
+
+	/** {@code src + dst * (1 - srcA)}, scaling the two channel pairs of 'dst' at once. */
+	private static int srcOver(int src, int dst) {
+		int inv = 255 - (src >>> 24);
+		if (inv == 0) return src;
+		if (inv == 255) return src + dst;
+
+		// each 16-bit lane holds at most 255 * 255 + 0x80 + 0xff so no lane overflows into the next
+		int rb = (dst & 0x00ff00ff) * inv + 0x00800080;
+		rb = ((rb + ((rb >>> 8) & 0x00ff00ff)) >>> 8) & 0x00ff00ff;
+		int ag = ((dst >>> 8) & 0x00ff00ff) * inv + 0x00800080;
+		ag = (ag + ((ag >>> 8) & 0x00ff00ff)) & 0xff00ff00;
+
+		return src + (ag | rb);
+	}
+
+	private static int multiply(int src, int dst) {
+		int sa = src >>> 24, da = dst >>> 24;
+		int isa = 255 - sa, ida = 255 - da;
+		int a = sa + da - mul(sa, da);
+		int r = multiplyChannel((src >> 16) & 0xff, (dst >> 16) & 0xff, isa, ida);
+		int g = multiplyChannel((src >> 8) & 0xff, (dst >> 8) & 0xff, isa, ida);
+		int b = multiplyChannel(src & 0xff, dst & 0xff, isa, ida);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	private static int multiplyChannel(int s, int d, int invSrcA, int invDstA) {
+		// all three products share one rounding step, dividing by a constant compiles to a multiply
+		return Math.min(0xff, (s * d + s * invDstA + d * invSrcA + 127) / 255);
+	}
+
+	private static int screen(int src, int dst) {
+		int a = screenChannel(src >>> 24, dst >>> 24);
+		int r = screenChannel((src >> 16) & 0xff, (dst >> 16) & 0xff);
+		int g = screenChannel((src >> 8) & 0xff, (dst >> 8) & 0xff);
+		int b = screenChannel(src & 0xff, dst & 0xff);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	private static int screenChannel(int s, int d) {
+		return s + d - mul(s, d);
+	}
+
+	private static int add(int src, int dst) {
+		int a = Math.min(0xff, (src >>> 24) + (dst >>> 24));
+		int r = Math.min(0xff, ((src >> 16) & 0xff) + ((dst >> 16) & 0xff));
+		int g = Math.min(0xff, ((src >> 8) & 0xff) + ((dst >> 8) & 0xff));
+		int b = Math.min(0xff, (src & 0xff) + (dst & 0xff));
+		return (a << 24) | (r << 16) | (g << 8) | b;
 	}
 
 }
@@ -0,0 +1,222 @@
+package eutil.colors;
+
+import java.util.stream.IntStream;
+
+/**
+ * A static library of bulk color kernels which operate directly on packed
+ * ARGB pixel buffers.
+ *
+ * <p>
+ * Each operation works over a whole {@code int[]} (or an offset range of
+ * one) using plain integer or float arithmetic, so no objects are created
+ * per pixel. Buffers larger than {@link #PARALLEL_TILE} pixels can be
+ * split into tiles and processed on the common fork-join pool through the
+ * '*Parallel' variants. Hue values are in degrees [0, 360) while
+ * saturation and luminance are in [0, 1], matching {@link HSLColor}.
+ *
+ * <blockquote><pre>
+ *     ColorOps.adjustBrightnessParallel(frame, 128);
+ *     ColorOps.toHSL(frame, h, s, l);
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class ColorOps {
+
+	private ColorOps() {}
+
+	/** The number of pixels each parallel task processes. */
+	public static final int PARALLEL_TILE = 1 << 15;
+
+	//-----------------
+	// Single Channels
+	//-----------------
+
+	public static int alpha(int argb) { return argb >>> 24; }
+	public static int red(int argb) { return (argb >> 16) & 0xff; }
+	public static int green(int argb) { return (argb >> 8) & 0xff; }
+	public static int blue(int argb) { return argb & 0xff; }
+
+	/** Packs the given channels, each between 0 and 255, into one ARGB int. */
+	public static int argb(int a, int r, int g, int b) {
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	/** Returns the exact value of 'x / 255' truncated, for any 'x' between 0 and 65535. */
+	static int div255(int x) {
+		return (x * 0x8081) >>> 23;
+	}
+
+	//--------------
+	// Single Pixel
+	//--------------
+
+	/** Scales the RGB channels of the given color by 'br / 255' leaving alpha unchanged. */
+	public static int brightness(int argb, int br) {
+		int r = div255(((argb >> 16) & 0xff) * br);
+		int g = div255(((argb >> 8) & 0xff) * br);
+		int b = div255((argb & 0xff) * br);
+		return (argb & 0xff000000) | (r << 16) | (g << 8) | b;
+	}
+
+	/** Adds each channel of the two colors together, clamping each at 255. */
+	public static int mix(int c1, int c2) {
+		int a = Math.min(0xff, (c1 >>> 24) + (c2 >>> 24));
+		int r = Math.min(0xff, ((c1 >> 16) & 0xff) + ((c2 >> 16) & 0xff));
+		int g = Math.min(0xff, ((c1 >> 8) & 0xff) + ((c2 >> 8) & 0xff));
+		int b = Math.min(0xff, (c1 & 0xff) + (c2 & 0xff));
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+
+	/**
+	 * Converts the given HSL values into an opaque RGB color. Hue is given
+	 * in degrees while saturation and luminance are between 0 and 1.
+	 */
+	public static int hslToRGB(float h, float s, float l) {
+		float c = (1 - Math.abs(2 * l - 1)) * s;
+		float hp = (h % 360) / 60;
+		if (hp < 0) hp += 6;
+		float x = c * (1 - Math.abs(hp % 2 - 1));
+		float m = l - c / 2;
+
+		float r, g, b;
+		switch ((int) hp) {
+		case 0: r = c; g = x; b = 0; break;
+		case 1: r = x; g = c; b = 0; break;
+		case 2: r = 0; g = c; b = x; break;
+		case 3: r = 0; g = x; b = c; break;
+		case 4: r = x; g = 0; b = c; break;
+		default: r = c; g = 0; b = x; break;
+		}
+
+		return 0xff000000 | (toByte(r + m) << 16) | (toByte(g + m) << 8) | toByte(b + m);
+	}
+
+	//--------------
+	// Bulk Kernels
+	//--------------
+
+	/** Converts each ARGB pixel into its hue, saturation, and luminance. */
+	public static void toHSL(int[] argb, float[] h, float[] s, float[] l) {
+		toHSL(argb, h, s, l, 0, argb.length);
+	}
+
+	/** Converts 'len' ARGB pixels starting at 'off' into the same indices of the HSL arrays. */
+	public static void toHSL(int[] argb, float[] h, float[] s, float[] l, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) {
+			int c = argb[i];
+			int r = (c >> 16) & 0xff, g = (c >> 8) & 0xff, b = c & 0xff;
+			int max = Math.max(r, Math.max(g, b));
+			int min = Math.min(r, Math.min(g, b));
+			int sum = max + min;
+			int d = max - min;
+
+			l[i] = sum / 510f;
+			if (d == 0) {
+				h[i] = 0;
+				s[i] = 0;
+				continue;
+			}
+
+			s[i] = (float) d / ((sum > 255) ? 510 - sum : sum);
+
+			float hue;
+			if (max == r) hue = (float) (g - b) / d + ((g < b) ? 6 : 0);
+			else if (max == g) hue = (float) (b - r) / d + 2;
+			else hue = (float) (r - g) / d + 4;
+			h[i] = hue * 60;
+		}
+	}
+
+	/** Converts each HSL triple back into a pixel with the given alpha. */
+	public static void fromHSL(float[] h, float[] s, float[] l, int alpha, int[] argb) {
+		fromHSL(h, s, l, alpha, argb, 0, argb.length);
+	}
+
+	/** Converts 'len' HSL triples starting at 'off' back into pixels with the given alpha. */
+	public static void fromHSL(float[] h, float[] s, float[] l, int alpha, int[] argb, int off, int len) {
+		int a = alpha << 24;
+		for (int i = off, end = off + len; i < end; i++) {
+			argb[i] = (hslToRGB(h[i], s[i], l[i]) & 0x00ffffff) | a;
+		}
+	}
+
+	/** Scales the RGB channels of every pixel by 'br / 255' leaving alpha unchanged. */
+	public static void adjustBrightness(int[] buf, int br) { adjustBrightness(buf, 0, buf.length, br); }
+
+	/** Scales the RGB channels of 'len' pixels starting at 'off' by 'br / 255'. */
+	public static void adjustBrightness(int[] buf, int off, int len, int br) {
+		for (int i = off, end = off + len; i < end; i++) buf[i] = brightness(buf[i], br);
+	}
+
+	/** Replaces the alpha channel of every pixel. */
+	public static void setOpacity(int[] buf, int a) { setOpacity(buf, 0, buf.length, a); }
+
+	/** Replaces the alpha channel of 'len' pixels starting at 'off'. */
+	public static void setOpacity(int[] buf, int off, int len, int a) {
+		int alpha = a << 24;
+		for (int i = off, end = off + len; i < end; i++) buf[i] = (buf[i] & 0x00ffffff) | alpha;
+	}
+
+	/** Writes the clamped channel sum of each pair of pixels in 'a' and 'b' into 'out'. */
+	public static void mix(int[] a, int[] b, int[] out) { mix(a, b, out, 0, out.length); }
+
+	/** Mixes 'len' pairs of pixels starting at 'off'. */
+	public static void mix(int[] a, int[] b, int[] out, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) out[i] = mix(a[i], b[i]);
+	}
+
+	//------------------
+	// Parallel Kernels
+	//------------------
+
+	public static void toHSLParallel(int[] argb, float[] h, float[] s, float[] l) {
+		tiles(argb.length, (off, len) -> toHSL(argb, h, s, l, off, len));
+	}
+
+	public static void fromHSLParallel(float[] h, float[] s, float[] l, int alpha, int[] argb) {
+		tiles(argb.length, (off, len) -> fromHSL(h, s, l, alpha, argb, off, len));
+	}
+
+	public static void adjustBrightnessParallel(int[] buf, int br) {
+		tiles(buf.length, (off, len) -> adjustBrightness(buf, off, len, br));
+	}
+
+	public static void setOpacityParallel(int[] buf, int a) {
+		tiles(buf.length, (off, len) -> setOpacity(buf, off, len, a));
+	}
+
+	public static void mixParallel(int[] a, int[] b, int[] out) {
+		tiles(out.length, (off, len) -> mix(a, b, out, off, len));
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	@FunctionalInterface
+	private interface TileKernel {
+		void run(int off, int len);
+	}
+
+	/** Runs the kernel over [0, length) directly if small, otherwise tile by tile in parallel. */
+	private static void tiles(int length, TileKernel kernel) {
+		final int tile = PARALLEL_TILE;
+		if (length <= tile) {
+			kernel.run(0, length);
+			return;
+		}
+		int tiles = (length + tile - 1) / tile;
+		IntStream.range(0, tiles).parallel().forEach(t -> {
+			int off = t * tile;
+			kernel.run(off, Math.min(tile, length - off));
+		});
+	}
+
+	private static int toByte(float v) {
+		int i = (int) (v * 255 + 0.5f);
+		return (i < 0) ? 0 : (i > 255) ? 255 : i;
+	}
+
+}
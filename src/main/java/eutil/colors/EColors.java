@@ -1,6 +1,7 @@
 package eutil.colors;
 
 import java.awt.Color;
+import java.util.HashMap;
 
 import eutil.math.vectors.Vec3f;
 import eutil.math.vectors.Vec3i;
@@ -163,10 +164,10 @@ public enum EColors {
 	}
 	
 	/** Converts this EColor's integer parts to a Vec3i. (does not include alpha values) */
-	public Vec3i toVec3i() { int[] c = argb(); return new Vec3i(c[1], c[2], c[3]); }
+	public Vec3i toVec3i() { return convertToVec3i(intVal); }
 	
 	/** Converts this EColor's integer parts to a Vec3i. */
-	public Vec4i toVec4i() { int[] c = argb(); return new Vec4i(c[0], c[1], c[2], c[3]); }
+	public Vec4i toVec4i() { return convertToVec4i(intVal); }
 	
 	/** Converts this EColor's integer parts to a Vec3f. (does not include alpha values) */
 	public Vec3f toVec3f() { float[] c = argbf(); return new Vec3f(c[1], c[2], c[3]); }
@@ -183,38 +184,18 @@ public enum EColors {
 	
 	/** Modifies the given color's brightness values. New brightness values should be between 0 and 255 inclusively. */
 	public static int changeBrightness(int color, int br) {
-		float factor = (float) br * F_255;
-		int a = (color >> 24) & 0xff;
-		int r = (int) (((color >> 16) & 0xFF) * factor);
-		int g = (int) (((color >> 8) & 0xFF) * factor);
-		int b = (int) ((color & 0xFF) * factor);
-		return (a << 24) | (r << 16) | (g << 8) | b;
+		return ColorOps.brightness(color, br);
 	}
 	
 	public static int mix(EColors c1, EColors c2) { return mix(c1.intVal, c2.intVal); }
 	public static int mix(EColors c1, int c2) { return mix(c1.intVal, c2); }
 	public static int mix(int c1, EColors c2) { return mix(c1, c2.intVal); }
 	public static int mix(int c1, int c2) {
-		int a1 = (c1 >> 24) & 0xff;
-		int r1 = (int) ((c1 >> 16) & 0xff);
-		int g1 = (int) ((c1 >> 8) & 0xff);
-		int b1 = (int) (c1 & 0xff);
-		
-		int a2 = (c2 >> 24) & 0xff;
-		int r2 = (int) ((c2 >> 16) & 0xff);
-		int g2 = (int) ((c2 >> 8) & 0xff);
-		int b2 = (int) (c2 & 0xff);
-		
-		int a = Math.min(0xff, a1 + a2);
-		int r = Math.min(0xff, r1 + r2);
-		int g = Math.min(0xff, g1 + g2);
-		int b = Math.min(0xff, b1 + b2);
-		
-		return (a << 24) | (r << 16) | (g << 8) | b;
+		return ColorOps.mix(c1, c2);
 	}
 	
-	public static Vec3i convertToVec3i(EColors color) { int[] c = color.argb(); return new Vec3i(c[1], c[2], c[3]); }
-	public static Vec4i convertToVec4i(EColors color) { int[] c = color.argb(); return new Vec4i(c[0], c[1], c[2], c[3]); }
+	public static Vec3i convertToVec3i(EColors color) { return convertToVec3i(color.intVal); }
+	public static Vec4i convertToVec4i(EColors color) { return convertToVec4i(color.intVal); }
 	public static Vec3f convertToVec3f(EColors color) { float[] c = color.argbf(); return new Vec3f(c[1], c[2], c[3]); }
 	public static Vec4f convertToVec4f(EColors color) { float[] c = color.argbf(); return new Vec4f(c[0], c[1], c[2], c[3]); }
 	
@@ -250,10 +231,7 @@ public enum EColors {
 	
 	/** Returns an EColors with the corresponding integer color (if any). */
 	public static EColors byIntVal(int colorIn) {
-		for (EColors c : values()) {
-			if (c.intVal == colorIn) return c;
-		}
-		return null;
+		return Lookup.BY_INT.get(colorIn);
 	}
 	
 	public static EColors getEColor(String nameIn) {
@@ -265,20 +243,42 @@ public enum EColors {
 	
 	/** Returns an EColors with the corresponding code (if any). */
 	public static EColors byCode(int codeIn) {
-		for (EColors c : values()) {
-			if (c.color_replacement_code == codeIn) return c;
-		}
-		return null;
+		var codes = Lookup.BY_CODE;
+		return (codeIn >= 0 && codeIn < codes.length) ? codes[codeIn] : null;
 	}
 	
 	/** Returns an EColors with the corresponding String name (if any). */
 	public static EColors byName(String colorNameIn) {
-		if (colorNameIn != null) {
-			for (EColors c : values()) {
-				if (c.name.toLowerCase().equals(colorNameIn.toLowerCase())) return c;
-			}
-		}
-		return null;
+		return (colorNameIn != null) ? Lookup.BY_NAME.get(colorNameIn.toLowerCase()) : null;
+	}
+	
+	/**
+	 * Returns the EColors entry closest to the given color. Alpha is ignored.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static EColors nearest(int colorIn) {
+		return Lookup.VALUES[Lookup.PALETTE.nearest(colorIn)];
+	}
+	
+	/**
+	 * Maps every pixel of the given image to the ordinal of its closest
+	 * EColors entry, writing the ordinals into 'ordinalsOut'.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static void quantize(int[] image, int[] ordinalsOut) {
+		Lookup.PALETTE.quantize(image, ordinalsOut);
+	}
+	
+	/**
+	 * Returns the nearest color index over every EColors entry, indexed by
+	 * ordinal.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static PaletteIndex paletteIndex() {
+		return Lookup.PALETTE;
 	}
 	
 	/** Returns a random EColors color. */
@@ -298,6 +298,27 @@ public enum EColors {
 	
 	//------------------------------------------------------------------
 	
+	/** Precomputed lookups which are built the first time any of them is used. */
+	private static final class Lookup {
+		private static final EColors[] VALUES = values();
+		private static final HashMap<Integer, EColors> BY_INT = new HashMap<>();
+		private static final HashMap<String, EColors> BY_NAME = new HashMap<>();
+		private static final EColors[] BY_CODE = new EColors[VALUES.length];
+		private static final PaletteIndex PALETTE;
+		
+		static {
+			int[] colors = new int[VALUES.length];
+			for (EColors c : VALUES) {
+				// the first declared color wins where several share a value or name
+				BY_INT.putIfAbsent(c.intVal, c);
+				BY_NAME.putIfAbsent(c.name.toLowerCase(), c);
+				if (c.color_replacement_code < BY_CODE.length) BY_CODE[c.color_replacement_code] = c;
+				colors[c.ordinal()] = c.intVal;
+			}
+			PALETTE = new PaletteIndex(colors);
+		}
+	}
+	
 	/** Static class to hold static color id. */
 	private static final class ColorID {
 		private static int ID = 0;
@@ -0,0 +1,117 @@
+package eutil.colors;
+
+/**
+ * A nearest color lookup structure over a fixed palette of RGB colors.
+ *
+ * <p>
+ * The RGB color space is divided into a 32x32x32 cube of cells and the
+ * index of the palette entry closest to each cell's center is precomputed
+ * when the index is built. Mapping any color to its palette entry is then
+ * a single table lookup on the top 5 bits of each channel, which makes
+ * quantizing whole images O(pixels) regardless of palette size. Because
+ * colors within one cell share a result, {@link #nearestExact(int)} is
+ * provided for when the true nearest entry is required.
+ *
+ * <p>
+ * Distances are squared Euclidean distances in RGB. Alpha is ignored and
+ * ties resolve to the earliest palette entry.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class PaletteIndex {
+
+	private static final int BITS = 5;
+	private static final int SIZE = 1 << BITS;
+
+	private final int[] palette;
+	/** The nearest palette index of every cell, addressed as (r << 10) | (g << 5) | b. */
+	private final byte[] cube;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Builds an index over the given RGB palette, which may hold at most 256 colors. */
+	public PaletteIndex(int... paletteIn) {
+		if (paletteIn.length == 0 || paletteIn.length > 256) {
+			throw new IllegalArgumentException("A palette must hold between 1 and 256 colors!");
+		}
+		palette = paletteIn.clone();
+		cube = new byte[SIZE * SIZE * SIZE];
+
+		int shift = 8 - BITS;
+		int center = 1 << (shift - 1);
+		for (int r = 0; r < SIZE; r++) {
+			for (int g = 0; g < SIZE; g++) {
+				for (int b = 0; b < SIZE; b++) {
+					int rgb = (((r << shift) + center) << 16) | (((g << shift) + center) << 8) | ((b << shift) + center);
+					cube[(r << (2 * BITS)) | (g << BITS) | b] = (byte) nearestExact(rgb);
+				}
+			}
+		}
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns the palette index nearest to the given color's cell. */
+	public int nearest(int argb) {
+		return cube[cell(argb)] & 0xff;
+	}
+
+	/** Returns the palette index truly nearest to the given color by checking every entry. */
+	public int nearestExact(int argb) {
+		int r = (argb >> 16) & 0xff, g = (argb >> 8) & 0xff, b = argb & 0xff;
+		int best = 0;
+		int bestDist = Integer.MAX_VALUE;
+		for (int i = 0; i < palette.length; i++) {
+			int p = palette[i];
+			int dr = r - ((p >> 16) & 0xff);
+			int dg = g - ((p >> 8) & 0xff);
+			int db = b - (p & 0xff);
+			int dist = dr * dr + dg * dg + db * db;
+			if (dist < bestDist) {
+				bestDist = dist;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/** Writes the nearest palette index of every pixel in 'image' into 'out'. */
+	public void quantize(int[] image, int[] out) { quantize(image, 0, out, 0, image.length); }
+
+	/** Writes the nearest palette index of 'len' pixels from 'image' into 'out'. */
+	public void quantize(int[] image, int off, int[] out, int outOff, int len) {
+		final byte[] c = cube;
+		for (int i = 0; i < len; i++) out[outOff + i] = c[cell(image[off + i])] & 0xff;
+	}
+
+	/** Replaces every pixel of the given image with its nearest palette color, keeping its alpha. */
+	public void reduce(int[] image) {
+		final byte[] c = cube;
+		for (int i = 0; i < image.length; i++) {
+			int p = image[i];
+			image[i] = (p & 0xff000000) | (palette[c[cell(p)] & 0xff] & 0x00ffffff);
+		}
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int size() { return palette.length; }
+	public int getColor(int index) { return palette[index]; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static int cell(int argb) {
+		// keeps the top 5 bits of each channel: rrrrr ggggg bbbbb
+		return ((argb >> 9) & 0x7c00) | ((argb >> 6) & 0x03e0) | ((argb >> 3) & 0x001f);
+	}
+
+}
@@ -0,0 +1,450 @@
+package eutil.datatypes.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiPredicate;
+
+import eutil.datatypes.EArrayList;
+import eutil.file.LineReader;
+import eutil.strings.EStringBuilder;
+import eutil.strings.Tokenizer;
+
+/**
+ * The differences between two lists as a compact edit script.
+ *
+ * <p>
+ * Differences are found with Myers' O(ND) algorithm using its linear
+ * space refinement, which searches forwards and backwards at once for
+ * the middle of the shortest edit path and then recurses on both halves.
+ * The run time grows with the number of differences rather than with the
+ * size of the lists, and the common prefix and suffix are trimmed off
+ * before any searching starts. Unless an equality test is given, each
+ * element is first swapped for an int id shared by every equal element,
+ * so the search compares ints rather than calling 'equals'.
+ *
+ * <blockquote><pre>
+ *     var diff = Diff.lines(yesterday, today);
+ *     diff.unifiedTo(System.out, "yesterday", "today", 3);
+ *     EList&lt;String&gt; rebuilt = diff.apply(LineReader.readAllLines(yesterday));
+ * </pre></blockquote><p>
+ *
+ * The script only holds the elements that were removed or added, so it
+ * can be applied to another copy of the source list, or reverted from a
+ * copy of the target list, without either original being kept.
+ *
+ * @param <E> The type of element being compared
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class Diff<E> {
+
+	/**
+	 * One contiguous change: the elements 'removed' starting at
+	 * 'sourceIndex' in the source list were replaced by the elements
+	 * 'added' starting at 'targetIndex' in the target list.
+	 */
+	public record Change<E>(int sourceIndex, int targetIndex, EList<E> removed, EList<E> added) {}
+
+	private final List<E> source;
+	private final EList<Change<E>> changes;
+	private final BiPredicate<? super E, ? super E> equality;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private Diff(List<E> sourceIn, EList<Change<E>> changesIn, BiPredicate<? super E, ? super E> equalityIn) {
+		source = sourceIn;
+		changes = changesIn;
+		equality = equalityIn;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Diffs two lists using 'equals'. */
+	public static <E> Diff<E> of(List<E> source, List<E> target) {
+		var ids = new HashMap<E, Integer>();
+		int[] a = idsOf(source, ids);
+		int[] b = idsOf(target, ids);
+		return build(source, target, new Myers((i, j) -> a[i] == b[j], a.length, b.length), Objects::equals);
+	}
+
+	/** Diffs two lists using the given equality test. */
+	public static <E> Diff<E> of(List<E> source, List<E> target, BiPredicate<? super E, ? super E> equality) {
+		var a = randomAccess(source);
+		var b = randomAccess(target);
+		return build(source, target, new Myers((i, j) -> equality.test(a.get(i), b.get(j)), a.size(), b.size()), equality);
+	}
+
+	/**
+	 * Diffs two pieces of text line by line, splitting on '\n'. Like reading
+	 * a file, a final '\n' does not start another line and empty text has
+	 * no lines at all.
+	 */
+	public static Diff<String> lines(CharSequence source, CharSequence target) {
+		return of(textLines(source), textLines(target));
+	}
+
+	/** Diffs two files line by line. */
+	public static Diff<String> lines(File source, File target) throws IOException {
+		return of(readLines(source), readLines(target));
+	}
+
+	/** Diffs two pieces of text character by character. */
+	public static Diff<Character> chars(CharSequence source, CharSequence target) {
+		var a = charList(source);
+		var b = charList(target);
+		return build(a, b, new Myers((i, j) -> source.charAt(i) == target.charAt(j), a.size(), b.size()), Objects::equals);
+	}
+
+	/** Returns a read only list view of the given characters. */
+	public static List<Character> charList(CharSequence s) {
+		return new CharList(s);
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/**
+	 * Returns a new list made by applying this script to the given copy of
+	 * the source list.
+	 *
+	 * @throws IllegalStateException if the given list does not hold the
+	 *                               elements this script removes
+	 */
+	public EList<E> apply(List<E> sourceList) {
+		var out = new EArrayList<E>(sourceList.size() + targetDelta());
+		int at = 0;
+		for (var c : changes) {
+			expect(sourceList, c.sourceIndex(), c.removed(), "source");
+			out.addAll(sourceList.subList(at, c.sourceIndex()));
+			out.addAll(c.added());
+			at = c.sourceIndex() + c.removed().size();
+		}
+		out.addAll(sourceList.subList(at, sourceList.size()));
+		return out;
+	}
+
+	/**
+	 * Returns a new list made by undoing this script on the given copy of
+	 * the target list.
+	 *
+	 * @throws IllegalStateException if the given list does not hold the
+	 *                               elements this script added
+	 */
+	public EList<E> revert(List<E> targetList) {
+		var out = new EArrayList<E>(Math.max(0, targetList.size() - targetDelta()));
+		int at = 0;
+		for (var c : changes) {
+			expect(targetList, c.targetIndex(), c.added(), "target");
+			out.addAll(targetList.subList(at, c.targetIndex()));
+			out.addAll(c.removed());
+			at = c.targetIndex() + c.added().size();
+		}
+		out.addAll(targetList.subList(at, targetList.size()));
+		return out;
+	}
+
+	/** Renders this diff in unified format with the given lines of context. */
+	public String toUnified(String sourceName, String targetName, int context) {
+		var sb = new EStringBuilder();
+		unifiedTo(sb, sourceName, targetName, context);
+		return sb.toString();
+	}
+
+	/**
+	 * Writes this diff in unified format, as produced by 'diff -u', with the
+	 * given number of unchanged lines around each change. Nothing is written
+	 * if there are no differences.
+	 */
+	public void unifiedTo(Appendable out, String sourceName, String targetName, int context) {
+		if (changes.isEmpty()) return;
+		try {
+			out.append("--- ").append(sourceName).append('\n');
+			out.append("+++ ").append(targetName).append('\n');
+
+			int first = 0;
+			while (first < changes.size()) {
+				// changes close enough for their context to touch share one hunk
+				int last = first;
+				while (last + 1 < changes.size() && gap(changes.get(last), changes.get(last + 1)) <= 2 * context) last++;
+				hunk(out, first, last, context);
+				first = last + 1;
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public EList<Change<E>> getChanges() { return changes; }
+	public boolean isEmpty() { return changes.isEmpty(); }
+	/** Returns the number of elements removed plus the number added. */
+	public int getEditCount() {
+		int n = 0;
+		for (var c : changes) n += c.removed().size() + c.added().size();
+		return n;
+	}
+
+	//----------------
+	// Static Helpers
+	//----------------
+
+	/** Applies the given character diff to a copy of its source text. */
+	public static String patch(Diff<Character> diff, CharSequence source) {
+		var out = diff.apply(charList(source));
+		var sb = new StringBuilder(out.size());
+		for (char c : out) sb.append(c);
+		return sb.toString();
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private int targetDelta() {
+		int n = 0;
+		for (var c : changes) n += c.added().size() - c.removed().size();
+		return n;
+	}
+
+	private void expect(List<E> list, int at, EList<E> expected, String side) {
+		if (at + expected.size() > list.size()) {
+			throw new IllegalStateException("The " + side + " list ends before the change at " + at + "!");
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			if (!equality.test(list.get(at + i), expected.get(i))) {
+				throw new IllegalStateException("The " + side + " list does not match the change at " + (at + i) + "!");
+			}
+		}
+	}
+
+	private static int gap(Change<?> before, Change<?> after) {
+		return after.sourceIndex() - (before.sourceIndex() + before.removed().size());
+	}
+
+	private void hunk(Appendable out, int first, int last, int context) throws IOException {
+		var a = changes.get(first);
+		var z = changes.get(last);
+		int srcStart = Math.max(0, a.sourceIndex() - context);
+		int srcEnd = Math.min(source.size(), z.sourceIndex() + z.removed().size() + context);
+		int tgtStart = a.targetIndex() - (a.sourceIndex() - srcStart);
+		int tgtEnd = srcEnd - srcStart + tgtStart;
+		for (int i = first; i <= last; i++) tgtEnd += changes.get(i).added().size() - changes.get(i).removed().size();
+
+		out.append("@@ -").append(range(srcStart, srcEnd - srcStart)).append(" +").append(range(tgtStart, tgtEnd - tgtStart)).append(" @@\n");
+		int at = srcStart;
+		for (int i = first; i <= last; i++) {
+			var c = changes.get(i);
+			for (; at < c.sourceIndex(); at++) line(out, ' ', source.get(at));
+			for (var e : c.removed()) line(out, '-', e);
+			for (var e : c.added()) line(out, '+', e);
+			at = c.sourceIndex() + c.removed().size();
+		}
+		for (; at < srcEnd; at++) line(out, ' ', source.get(at));
+	}
+
+	/** Unified ranges are 1-based, except that an empty range names the line before it. */
+	private static String range(int start, int count) {
+		if (count == 1) return String.valueOf(start + 1);
+		return ((count == 0) ? start : start + 1) + "," + count;
+	}
+
+	private static void line(Appendable out, char marker, Object e) throws IOException {
+		out.append(marker).append(String.valueOf(e)).append('\n');
+	}
+
+	private static <E> int[] idsOf(List<E> list, HashMap<E, Integer> ids) {
+		var out = new int[list.size()];
+		int i = 0;
+		for (var e : list) {
+			Integer id = ids.get(e);
+			if (id == null) ids.put(e, id = ids.size());
+			out[i++] = id;
+		}
+		return out;
+	}
+
+	private static <E> List<E> randomAccess(List<E> list) {
+		return (list instanceof RandomAccess) ? list : new EArrayList<>(list);
+	}
+
+	private static EList<String> textLines(CharSequence text) {
+		int len = text.length();
+		if (len > 0 && text.charAt(len - 1) == '\n') len--;
+		else if (len == 0) return new EArrayList<>();
+		return Tokenizer.of(CharBuffer.wrap(text, 0, len), '\n').toList();
+	}
+
+	private static EList<String> readLines(File file) throws IOException {
+		try (var reader = new LineReader(file)) {
+			var lines = new EArrayList<String>();
+			while (reader.hasNextLine()) lines.add(reader.nextLine());
+			return lines;
+		}
+	}
+
+	/** Turns the marks left by the search into changes, copying only the differing elements. */
+	private static <E> Diff<E> build(List<E> source, List<E> target, Myers m, BiPredicate<? super E, ? super E> equality) {
+		m.run();
+		var a = randomAccess(source);
+		var b = randomAccess(target);
+		var changes = new EArrayList<Change<E>>();
+		int i = 0, j = 0;
+		final int n = a.size(), k = b.size();
+		while (i < n || j < k) {
+			if (i < n && j < k && !m.removed[i] && !m.added[j]) {
+				i++;
+				j++;
+				continue;
+			}
+			int si = i, sj = j;
+			// removals and additions with nothing in common between them form one change
+			do {
+				while (i < n && m.removed[i]) i++;
+				while (j < k && m.added[j]) j++;
+			}
+			while ((i < n && m.removed[i]) || (j < k && m.added[j]));
+			changes.add(new Change<>(si, sj, new EArrayList<>(a.subList(si, i)), new EArrayList<>(b.subList(sj, j))));
+		}
+		return new Diff<>(source, changes, equality);
+	}
+
+	/** Compares element 'i' of the source with element 'j' of the target. */
+	@FunctionalInterface
+	private interface Matcher {
+		boolean matches(int i, int j);
+	}
+
+	/** The linear space search, marking which source elements are removed and which target elements are added. */
+	private static final class Myers {
+		final Matcher eq;
+		final boolean[] removed;
+		final boolean[] added;
+		final int[] forward;
+		final int[] backward;
+		final int offset;
+
+		Myers(Matcher eqIn, int n, int m) {
+			eq = eqIn;
+			removed = new boolean[n];
+			added = new boolean[m];
+			offset = (n + m + 1) / 2 + 1;
+			forward = new int[2 * offset + 1];
+			backward = new int[2 * offset + 1];
+		}
+
+		void run() {
+			compare(0, removed.length, 0, added.length);
+		}
+
+		private void compare(int aLo, int aHi, int bLo, int bHi) {
+			while (true) {
+				while (aLo < aHi && bLo < bHi && eq.matches(aLo, bLo)) {
+					aLo++;
+					bLo++;
+				}
+				while (aLo < aHi && bLo < bHi && eq.matches(aHi - 1, bHi - 1)) {
+					aHi--;
+					bHi--;
+				}
+				if (aLo == aHi) {
+					for (int j = bLo; j < bHi; j++) added[j] = true;
+					return;
+				}
+				if (bLo == bHi) {
+					for (int i = aLo; i < aHi; i++) removed[i] = true;
+					return;
+				}
+
+				long split = middle(aLo, aHi, bLo, bHi);
+				int x = (int) (split >>> 32), y = (int) split;
+				// recurse into the smaller half and loop on the larger to bound the stack
+				if ((x - aLo) + (y - bLo) < (aHi - x) + (bHi - y)) {
+					compare(aLo, x, bLo, y);
+					aLo = x;
+					bLo = y;
+				}
+				else {
+					compare(x, aHi, y, bHi);
+					aHi = x;
+					bHi = y;
+				}
+			}
+		}
+
+		/**
+		 * Finds a point on a shortest edit path through the given ranges by
+		 * extending paths from both corners until they overlap, returning it
+		 * as the source index in the high int and the target index in the low.
+		 */
+		private long middle(int aLo, int aHi, int bLo, int bHi) {
+			final int n = aHi - aLo, m = bHi - bLo;
+			final int delta = n - m;
+			final boolean odd = (delta & 1) != 0;
+			final int max = (n + m + 1) / 2;
+			final int[] vf = forward, vb = backward;
+			final int off = offset;
+			vf[off + 1] = 0;
+			vb[off + 1] = 0;
+
+			for (int d = 0; d <= max; d++) {
+				for (int k = -d; k <= d; k += 2) {
+					int x = (k == -d || (k != d && vf[off + k - 1] < vf[off + k + 1])) ? vf[off + k + 1] : vf[off + k - 1] + 1;
+					int y = x - k;
+					while (x < n && y < m && eq.matches(aLo + x, bLo + y)) {
+						x++;
+						y++;
+					}
+					vf[off + k] = x;
+					int c = delta - k;
+					if (odd && c >= -(d - 1) && c <= d - 1 && x + vb[off + c] >= n) {
+						return ((long) (aLo + x) << 32) | (bLo + y);
+					}
+				}
+				for (int k = -d; k <= d; k += 2) {
+					// x and y count back from the ends of the ranges
+					int x = (k == -d || (k != d && vb[off + k - 1] < vb[off + k + 1])) ? vb[off + k + 1] : vb[off + k - 1] + 1;
+					int y = x - k;
+					while (x < n && y < m && eq.matches(aHi - 1 - x, bHi - 1 - y)) {
+						x++;
+						y++;
+					}
+					vb[off + k] = x;
+					int c = delta - k;
+					if (!odd && c >= -d && c <= d && vf[off + c] + x >= n) {
+						int fx = vf[off + c];
+						return ((long) (aLo + fx) << 32) | (bLo + fx - c);
+					}
+				}
+			}
+			throw new IllegalStateException("No middle snake found!");
+		}
+	}
+
+	/** A list view of a CharSequence. */
+	private static final class CharList extends AbstractList<Character> implements RandomAccess {
+		private final CharSequence s;
+
+		CharList(CharSequence sIn) { s = sIn; }
+
+		@Override public Character get(int index) { return s.charAt(index); }
+		@Override public int size() { return s.length(); }
+	}
+
+}
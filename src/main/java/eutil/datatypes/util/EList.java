@@ -12,11 +12,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,6 +27,7 @@ import eutil.EUtil;
 import eutil.datatypes.EArrayList;
 import eutil.debug.PlannedForRefactor;
 import eutil.random.ERandomUtil;
+import eutil.random.Sampling;
 
 /**
  * An interface that wraps the functionality of enhanced lists.
@@ -332,6 +335,21 @@ public interface EList<E> extends List<E>, Deque<E> {
         return (isEmpty()) ? null : remove(ERandomUtil.getRoll(0, size() - 1));
     }
     
+    /**
+     * Returns up to 'k' distinct random elements of this list in random order.
+     * 
+     * @since 2.7.1
+     */
+    default EList<E> getRandom(int k) { return Sampling.sample(this, k); }
+    
+    /**
+     * Returns up to 'k' distinct random elements of this list in random order
+     * using the given random generator.
+     * 
+     * @since 2.7.1
+     */
+    default EList<E> getRandom(int k, RandomGenerator rng) { return Sampling.sample(this, k, rng); }
+    
     default E removeIfContains(E object) {
         int index = indexOf(object);
         if (index >= 0) return remove(index);
@@ -863,6 +881,30 @@ public interface EList<E> extends List<E>, Deque<E> {
         for (E o : objects) remove(o);
     }
     
+    //=======
+    // Diffs
+    //=======
+    
+    /**
+     * Returns the changes that turn this list into the given one.
+     * 
+     * @see Diff
+     * @since 2.7.1
+     */
+    default Diff<E> diff(List<E> other) {
+        return Diff.of(this, other);
+    }
+    
+    /**
+     * Returns the changes that turn this list into the given one, comparing
+     * elements with the given equality test.
+     * 
+     * @since 2.7.1
+     */
+    default Diff<E> diff(List<E> other, BiPredicate<? super E, ? super E> equality) {
+        return Diff.of(this, other, equality);
+    }
+    
     //================
     // Helper Methods
     //================
@@ -1,6 +1,7 @@
 package eutil.date;
 
 import eutil.strings.EStringUtil;
+import eutil.strings.Tokenizer;
 import java.sql.Date;
 
 /**
@@ -41,20 +42,23 @@ public class EDate implements Comparable<EDate> {
 		try {
 			Character c = EStringUtil.testCharR(dateString.charAt(2), '/', '\\', '-', '|', '_', '.');
 			if (c != null) {
-				String[] parts = dateString.split(c + "");
+				var parts = Tokenizer.of(dateString, c);
+				int first = parts.nextInt();
+				int second = parts.nextInt();
+				int third = parts.nextInt();
 				
 				switch (formatIn) {
 				case MDY:
-					m = Integer.parseInt(parts[0]);
-					d = Integer.parseInt(parts[1]);
+					m = first;
+					d = second;
 					break;
 				case DMY:
-					d = Integer.parseInt(parts[0]);
-					m = Integer.parseInt(parts[1]);
+					d = first;
+					m = second;
 					break;
 				}
 				
-				y = Integer.parseInt(parts[2]);
+				y = third;
 			}
 		}
 		catch (Exception e) {}
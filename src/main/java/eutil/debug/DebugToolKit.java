@@ -1,7 +1,9 @@
 package eutil.debug;
 
+import eutil.strings.CompiledFormat;
 import eutil.strings.EStringBuilder;
 import eutil.strings.EStringUtil;
+import eutil.strings.Joiner;
 
 /**
  * A slew of functions that are intended to aid in overall development
@@ -33,10 +35,11 @@ public class DebugToolKit {
 	 *             	 insertions
 	 *             
 	 * @return A string with nested arguments included
+	 * @apiNote 2.7.1: Formats are compiled once and cached, see {@link CompiledFormat}
 	 * @since 1.6.0
 	 */
 	public static String format(String format, Object... args) {
-		return performFormat(format, args);
+		return CompiledFormat.of(format).format(args);
 	}
 	
 	/**
@@ -98,16 +101,26 @@ public class DebugToolKit {
 	}
 	
 	public static String debugPrintWithTitle(String title, boolean printToConsole, Object... toPrint) {
-		String converted = EStringUtil.combineAll(toPrint);
+		var converted = new StringBuilder();
+		for (var o : toPrint) converted.append(o);
 		boolean hasTitle = title != null && !title.isBlank();
 		
-		converted = converted.replace("\t", "    ");
-		if (converted.endsWith("\n")) converted = converted.substring(0, converted.length() - 1);
-		
-		int longestConvertedLength = converted.length();
-		if (converted.contains("\n")) {
-			longestConvertedLength = EStringUtil.getLongestLength(converted.split("\n"));
+		// expand tabs and find the longest line in one pass
+		int longestConvertedLength = 0;
+		int lineStart = 0;
+		for (int i = 0; i < converted.length(); i++) {
+			char c = converted.charAt(i);
+			if (c == '\t') {
+				converted.replace(i, i + 1, "    ");
+				i += 3;
+			}
+			else if (c == '\n') {
+				longestConvertedLength = Math.max(longestConvertedLength, i - lineStart);
+				lineStart = i + 1;
+			}
 		}
+		if (converted.length() > 0 && converted.charAt(converted.length() - 1) == '\n') converted.setLength(converted.length() - 1);
+		longestConvertedLength = Math.max(longestConvertedLength, converted.length() - Math.min(lineStart, converted.length()));
 		
 		int len = longestConvertedLength;
 		if (hasTitle) {
@@ -115,12 +128,11 @@ public class DebugToolKit {
 			len = Math.max(len, title.length());
 		}
 		
-		String titleDashes = EStringUtil.repeatString("-", title.length());
 		String dashes = EStringUtil.repeatString("-", len);
 		
-		var sb = new EStringBuilder();
+		var sb = new EStringBuilder(converted.length() + 4 * len);
 		if (hasTitle) {
-			sb.println(titleDashes);
+			sb.println(EStringUtil.repeatString("-", title.length()));
 			sb.println(title);
 		}
 		sb.println(dashes);
@@ -136,82 +148,6 @@ public class DebugToolKit {
 	
 	//------------------------------------------------------------------------------
 	
-	private static String performFormat(String format, Object[] args) {
-		StringBuilder out = new StringBuilder();
-		StringBuilder argNumString = null;
-		boolean inNum = false;
-		
-		for (int i = 0; i < format.length(); i++) {
-			char c = format.charAt(i);
-			
-			if (inNum) {
-				//if digit, continue to add to argNumString
-				if (Character.isDigit(c)) argNumString.append(c);
-				//if '}' is found convert argNum to int and insert arg value
-				else if (c == '}') {
-					int argNum = Integer.parseInt(argNumString.toString());
-					//if argNum is out of arg length -- error out
-					if (argNum >= args.length) {
-						throw new IndexOutOfBoundsException("Bad arg index! {"+argNum+"} is out of range: [0,"+(args.length-1)+"]");
-					}
-					out.append(EStringUtil.toString(args[argNum]));
-					argNumString = null;
-					inNum = false;
-				}
-				//if the character wasn't a digit or a '}' then cancel argument insertion
-				else {
-					out.append('{');
-					out.append(argNumString.toString());
-					
-					if (c == '{') {
-						//check if at end
-						if (i == format.length() - 1) {
-							out.append(c);
-							break;
-						}
-						//check if empty argument
-						if ((format.length() - 1 == i) || format.length() > i && format.charAt(i + 1) == '}') {
-							out.append("{}");
-							i++;
-							continue;
-						}
-						
-						argNumString = new StringBuilder();
-						inNum = true;
-					}
-					else {
-						out.append(c);
-						argNumString = null;
-						inNum = false;
-					}
-				}
-			}
-			//if '{' start trying to read an argument index number for insertion
-			else if (c == '{') {
-				//check if at end
-				if (i == format.length() - 1) {
-					out.append(c);
-					break;
-				}
-				//check if empty argument
-				if ((format.length() - 1 == i) || format.length() > i && format.charAt(i + 1) == '}') {
-					out.append("{}");
-					i++;
-					continue;
-				}
-				
-				argNumString = new StringBuilder();
-				inNum = true;
-			}
-			//otherwise, just append the character onto the output
-			else {
-				out.append(c);
-			}
-		}
-		
-		return out.toString();
-	}
-	
 	private static void performPrintln(boolean nl, String toPrint, Object[] args) {
 		if (args.length == 0) {
 			if (nl) System.out.println(toPrint);
@@ -219,7 +155,7 @@ public class DebugToolKit {
 			return;
 		}
 		
-		String out = performFormat(toPrint, args);
+		String out = CompiledFormat.of(toPrint).format(args);
 		
 		if (nl) System.out.println(out);
 		else System.out.print(out);
@@ -231,11 +167,7 @@ public class DebugToolKit {
 			return;
 		}
 		
-		StringBuilder out = new StringBuilder();
-		for (int i = 0; i < toPrint.length; i++) {
-			out.append(EStringUtil.toString(toPrint[i]));
-			if (i < toPrint.length - 1) out.append(printSpacer);
-		}
+		String out = Joiner.join(toPrint, printSpacer);
 		
 		if (nl) System.out.println(out);
 		else System.out.print(out);
@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -17,7 +18,6 @@ import java.util.function.Predicate;
 import eutil.EUtil;
 import eutil.datatypes.util.EList;
 import eutil.debug.PoorlyDocumented;
-import eutil.random.ERandomUtil;
 
 /**
  * A collection of functions that assist with common file operations.
@@ -612,6 +612,9 @@ public class EFileUtil {
 	/**
 	 * Returns the total number of lines in the given file.
 	 * Returns -1 if there was an issue with reading the file.
+	 * <p>
+	 * The file is counted with a single buffered pass, is closed again before
+	 * returning, and no index of it is kept, see {@link LineIndex#countLines(Path)}.
 	 * 
 	 * @param f The file to parse through
 	 * @return The number of lines
@@ -621,7 +624,7 @@ public class EFileUtil {
 	public static long countLines(File f) throws FileNotFoundException, IOException {
 		if (!fileExists(f)) return -1;
 		
-		return Files.lines(f.toPath()).count();
+		return LineIndex.countLines(f.toPath());
 	}
 	
 	/**
@@ -679,13 +682,62 @@ public class EFileUtil {
 		if (!fileExists(fileIn)) return defaultVal;
 		
 		try {
-			var p = fileIn.toPath();
-			var count = Files.lines(p).count();
-			var randIndex = ERandomUtil.getRoll(0L, count - 1);
-			var randLine = Files.lines(p).skip(randIndex).findFirst().orElse(null);
-			return randLine;
+			var line = LineIndex.of(fileIn.toPath()).randomLine();
+			return (line != null) ? line : defaultVal;
+		}
+		catch (IOException | UncheckedIOException e) {
+			return defaultVal;
+		}
+	}
+	
+	/**
+	 * Returns up to 'k' distinct random lines from the given file in random
+	 * order.
+	 * <p>
+	 * If the file doesn't exist or an issue occurred while reading it, an
+	 * empty list will be returned instead.
+	 * 
+	 * @param fileIn The file to parse through
+	 * @param k      The number of lines to pick
+	 * 
+	 * @return Distinct random lines from the given file
+	 * 
+	 * @since 2.7.1
+	 */
+	public static EList<String> randomLines(File fileIn, int k) {
+		if (!fileExists(fileIn)) return EList.newList();
+		
+		try {
+			return LineIndex.of(fileIn.toPath()).randomLines(k);
+		}
+		catch (IOException | UncheckedIOException e) {
+			return EList.newList();
+		}
+	}
+	
+	/**
+	 * Returns the line at the given zero based index of the given file.
+	 * <p>
+	 * If the file doesn't exist, the index is out of bounds, or an issue
+	 * occurred while reading it, the given 'defaultVal' will be returned
+	 * instead.
+	 * 
+	 * @param fileIn     The file to read from
+	 * @param lineNum    The zero based line to read
+	 * @param defaultVal The value to return on failure
+	 * 
+	 * @return The line at the given index
+	 * 
+	 * @since 2.7.1
+	 */
+	public static String lineAt(File fileIn, long lineNum, String defaultVal) {
+		if (!fileExists(fileIn)) return defaultVal;
+		
+		try {
+			var index = LineIndex.of(fileIn.toPath());
+			return (lineNum >= 0 && lineNum < index.lineCount()) ? index.lineAt(lineNum) : defaultVal;
 		}
-		catch (IOException e) {
+		catch (IOException | UncheckedIOException e) {
 			return defaultVal;
 		}
 	}
@@ -0,0 +1,442 @@
+package eutil.file;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.EList;
+import eutil.random.AliasTable;
+import eutil.random.Sampling;
+
+/**
+ * An index of the byte offset at which every line of a file starts,
+ * allowing any line to be read directly without scanning the file.
+ *
+ * <p>
+ * The index is built with a single buffered pass over the file which checks
+ * 8 bytes at a time for line feeds. Offsets are stored as the low 32 bits
+ * of each line's start plus a short table marking where the high bits
+ * change, so files larger than 4GB cost only 4 bytes per line. Once built,
+ * {@link #lineCount()} is constant time and {@link #lineAt} performs one
+ * lookup and one positional read of just that line.
+ *
+ * <p>
+ * An index never holds the file open. The file is opened for each scan or
+ * read and closed again before returning, so indexed files can still be
+ * deleted or rewritten on systems which lock open files.
+ *
+ * <p>
+ * Indexes obtained through {@link #of(Path)} are cached per file and
+ * revalidated against the file's size and last modified time on every
+ * call. The cache holds the {@value #CACHE_SIZE} most recently used files.
+ * {@link #of(Path, boolean)} can additionally persist the
+ * index as a '.lidx' sidecar next to the file so that later runs skip the
+ * scan, while {@link #countLines(Path)} only counts and keeps nothing.
+ *
+ * <p>
+ * Lines are split on '\n' with a preceding '\r' removed, and are decoded
+ * as UTF-8 unless another charset is given. A final line without a
+ * trailing line feed is included. Indexes are immutable and thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class LineIndex {
+
+	/** The file name suffix appended to persisted indexes. */
+	public static final String SIDECAR_SUFFIX = ".lidx";
+
+	private static final int MAGIC = 0x4C494458; // "LIDX"
+	private static final int VERSION = 1;
+	/** The size of the buffer files are scanned through. */
+	private static final int CHUNK = 1 << 16;
+
+	/** The number of indexes kept in the cache. */
+	public static final int CACHE_SIZE = 16;
+
+	/** Least recently used files are dropped first. Guarded by its own lock. */
+	private static final Map<Path, LineIndex> CACHE = new LinkedHashMap<>(CACHE_SIZE * 2, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, LineIndex> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private final Path path;
+	private final long size;
+	private final long modified;
+	private final int lineCount;
+	/** The low 32 bits of each line's starting offset. */
+	private final int[] lowStarts;
+	/** highStarts[h] is the first line whose starting offset is at least h * 2^32. */
+	private final int[] highStarts;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private LineIndex(Path pathIn, long sizeIn, long modifiedIn, int lineCountIn, int[] lowIn, int[] highIn) {
+		path = pathIn;
+		size = sizeIn;
+		modified = modifiedIn;
+		lineCount = lineCountIn;
+		lowStarts = lowIn;
+		highStarts = highIn;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Returns the cached index of the given file, building it if missing or out of date. */
+	public static LineIndex of(Path file) throws IOException { return of(file, false); }
+
+	/**
+	 * Returns the cached index of the given file, building it if missing or
+	 * out of date. If 'persist' is true, a valid sidecar index is loaded
+	 * instead of scanning the file and a newly built index is written as
+	 * one. Failing to write the sidecar does not fail this call.
+	 */
+	public static LineIndex of(Path file, boolean persist) throws IOException {
+		Path key = file.toAbsolutePath().normalize();
+		long size = Files.size(key);
+		long modified = Files.getLastModifiedTime(key).toMillis();
+
+		var cached = cached(key);
+		if (cached != null && cached.size == size && cached.modified == modified) return cached;
+
+		LineIndex index = (persist) ? readSidecar(key, size, modified) : null;
+		if (index == null) {
+			index = build(key, size, modified);
+			if (persist) index.writeSidecar();
+		}
+		synchronized (CACHE) {
+			CACHE.put(key, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Counts the lines of the given file by the same rules as an index
+	 * without building or caching one. A cached index which is still up to
+	 * date is used instead of scanning.
+	 */
+	public static long countLines(Path file) throws IOException {
+		Path key = file.toAbsolutePath().normalize();
+		long size = Files.size(key);
+		var cached = cached(key);
+		if (cached != null && cached.size == size && cached.modified == Files.getLastModifiedTime(key).toMillis()) return cached.lineCount;
+		return scan(key, size, null);
+	}
+
+	/** Removes the given file's index from the cache. */
+	public static void evict(Path file) {
+		synchronized (CACHE) {
+			CACHE.remove(file.toAbsolutePath().normalize());
+		}
+	}
+
+	/** Returns the sidecar path an index of the given file is persisted to. */
+	public static Path sidecarOf(Path file) {
+		return file.resolveSibling(file.getFileName() + SIDECAR_SUFFIX);
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns the line at the given zero based index decoded as UTF-8. */
+	public String lineAt(long n) { return lineAt(n, StandardCharsets.UTF_8); }
+
+	/** Returns the line at the given zero based index decoded with the given charset. */
+	public String lineAt(long n, Charset charset) {
+		return new String(lineBytes(n), charset);
+	}
+
+	/**
+	 * Returns the raw bytes of the line at the given zero based index without
+	 * its terminator.
+	 *
+	 * @throws UncheckedIOException if the file can no longer be read
+	 */
+	public byte[] lineBytes(long n) {
+		if (n < 0 || n >= lineCount) throw new IndexOutOfBoundsException("Line: " + n + ", Lines: " + lineCount);
+		try (var ch = open(path)) {
+			return lineBytes(ch, (int) n);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** Returns a uniformly random line using the current thread's generator. */
+	public String randomLine() { return randomLine(ThreadLocalRandom.current()); }
+
+	/** Returns a uniformly random line, or null if the file has no lines. */
+	public String randomLine(RandomGenerator rng) {
+		return (lineCount == 0) ? null : lineAt(rng.nextInt(lineCount));
+	}
+
+	/** Returns up to 'k' distinct random lines in random order. */
+	public EList<String> randomLines(int k) { return randomLines(k, ThreadLocalRandom.current()); }
+
+	public EList<String> randomLines(int k, RandomGenerator rng) {
+		var indices = Sampling.sampleIndices(lineCount, Math.min(k, lineCount), rng);
+		var out = new EArrayList<String>(indices.length);
+		if (indices.length == 0) return out;
+		try (var ch = open(path)) {
+			for (int i : indices) out.add(new String(lineBytes(ch, i), StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Returns a random line drawn from the given table, which must have been
+	 * built with one weight per line (see {@link #weights}).
+	 */
+	public String randomLine(AliasTable weights, RandomGenerator rng) {
+		if (weights.size() != lineCount) throw new IllegalArgumentException("Expected " + lineCount + " weights but got " + weights.size());
+		return lineAt(weights.next(rng));
+	}
+
+	/**
+	 * Reads every line once and builds an alias table from the weight the
+	 * given function assigns to each. Build the table once and reuse it with
+	 * {@link #randomLine(AliasTable, RandomGenerator)}.
+	 */
+	public AliasTable weights(ToDoubleFunction<String> weightOf) {
+		var w = new double[lineCount];
+		try (var ch = open(path)) {
+			for (int i = 0; i < lineCount; i++) w[i] = weightOf.applyAsDouble(new String(lineBytes(ch, i), StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new AliasTable(w);
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public Path getPath() { return path; }
+	public int lineCount() { return lineCount; }
+	/** Returns the size of the file when it was indexed. */
+	public long fileSize() { return size; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static LineIndex cached(Path key) {
+		synchronized (CACHE) {
+			return CACHE.get(key);
+		}
+	}
+
+	private long startOf(int line) {
+		// the high table is tiny, a file would need to be 4GB per entry
+		int h = highStarts.length - 1;
+		while (highStarts[h] > line) h--;
+		return ((long) h << 32) | (lowStarts[line] & 0xffffffffL);
+	}
+
+	/** Reads one line through the given channel with a single positional read. */
+	private byte[] lineBytes(FileChannel ch, int line) throws IOException {
+		long start = startOf(line);
+		long end = (line + 1 < lineCount) ? startOf(line + 1) : size;
+
+		var buf = ByteBuffer.allocate((int) (end - start));
+		while (buf.hasRemaining()) {
+			if (ch.read(buf, start + buf.position()) < 0) throw new EOFException("The file has shrunk since it was indexed: " + path);
+		}
+
+		var out = buf.array();
+		int len = out.length;
+		if (len > 0 && out[len - 1] == '\n') len--;
+		if (len > 0 && out[len - 1] == '\r') len--;
+		return (len == out.length) ? out : Arrays.copyOf(out, len);
+	}
+
+	private static FileChannel open(Path file) throws IOException {
+		return FileChannel.open(file, StandardOpenOption.READ);
+	}
+
+	/** Scans the file for line feeds and records where each line starts. */
+	private static LineIndex build(Path file, long size, long modified) throws IOException {
+		var starts = new Starts((int) Math.min(1 << 16, Math.max(16, size / 16)));
+		scan(file, size, starts);
+		return new LineIndex(file, size, modified, starts.count, Arrays.copyOf(starts.low, starts.count), starts.high);
+	}
+
+	/**
+	 * Reads the first 'size' bytes of the file in chunks, adding where every
+	 * line starts to 'starts' unless it is null, and returns how many lines
+	 * there are.
+	 */
+	private static long scan(Path file, long size, Starts starts) throws IOException {
+		long lines = 0;
+		if (size > 0) {
+			lines++;
+			if (starts != null) starts.add(0);
+		}
+
+		var buf = ByteBuffer.allocate((int) Math.min(CHUNK, Math.max(8, size))).order(ByteOrder.LITTLE_ENDIAN);
+		try (var ch = open(file)) {
+			for (long base = 0; base < size; base += buf.limit()) {
+				buf.clear().limit((int) Math.min(buf.capacity(), size - base));
+				while (buf.hasRemaining()) {
+					if (ch.read(buf) < 0) throw new EOFException("The file shrank while it was being indexed: " + file);
+				}
+				int limit = buf.limit();
+				int i = 0;
+
+				for (; i + 8 <= limit; i += 8) {
+					long x = buf.getLong(i) ^ 0x0A0A0A0A0A0A0A0AL;
+					// exact zero byte test, leaves the high bit set in every byte that was a line feed
+					long t = ~(((x & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | x | 0x7F7F7F7F7F7F7F7FL);
+					while (t != 0) {
+						long next = base + i + (Long.numberOfTrailingZeros(t) >>> 3) + 1;
+						if (next < size) {
+							lines++;
+							if (starts != null) starts.add(next);
+						}
+						t &= t - 1;
+					}
+				}
+				for (; i < limit; i++) {
+					long next = base + i + 1;
+					if (buf.get(i) == '\n' && next < size) {
+						lines++;
+						if (starts != null) starts.add(next);
+					}
+				}
+			}
+		}
+
+		return lines;
+	}
+
+	/** A growable list of line starting offsets split into low bits and a high bit table. */
+	private static final class Starts {
+		int[] low;
+		int[] high = { 0 };
+		int count;
+
+		Starts(int capacity) { low = new int[capacity]; }
+
+		void add(long offset) {
+			if (count == low.length) {
+				if (count == Integer.MAX_VALUE - 8) throw new IllegalStateException("Too many lines to index!");
+				low = Arrays.copyOf(low, (int) Math.min(Integer.MAX_VALUE - 8L, count * 2L));
+			}
+			int h = (int) (offset >>> 32);
+			while (high.length <= h) {
+				high = Arrays.copyOf(high, high.length + 1);
+				high[high.length - 1] = count;
+			}
+			low[count++] = (int) offset;
+		}
+	}
+
+	//-----------------
+	// Sidecar Storage
+	//-----------------
+
+	/** Writes this index as a sidecar, leaving none behind if that fails as it is only an optimization. */
+	private void writeSidecar() {
+		Path out = sidecarOf(path);
+		try (var ch = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			var header = ByteBuffer.allocate(32);
+			header.putInt(MAGIC).putInt(VERSION).putLong(size).putLong(modified).putInt(lineCount).putInt(highStarts.length).flip();
+			writeFully(ch, header);
+			writeInts(ch, highStarts, highStarts.length);
+			writeInts(ch, lowStarts, lineCount);
+		}
+		catch (IOException e) {
+			try {
+				// never leave a partial one behind
+				if (Files.isRegularFile(out)) Files.delete(out);
+			}
+			catch (IOException ignored) {}
+		}
+	}
+
+	/** Returns the persisted index if it exists and matches the file, otherwise null. */
+	private static LineIndex readSidecar(Path file, long size, long modified) throws IOException {
+		Path in = sidecarOf(file);
+		if (!Files.isRegularFile(in)) return null;
+
+		try (var ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			var header = ByteBuffer.allocate(32);
+			readFully(ch, header);
+			header.flip();
+			if (header.getInt() != MAGIC || header.getInt() != VERSION) return null;
+			if (header.getLong() != size || header.getLong() != modified) return null;
+
+			int count = header.getInt();
+			int highCount = header.getInt();
+			if (count < 0 || highCount < 1 || ch.size() != 32 + 4L * (count + highCount)) return null;
+
+			var high = new int[highCount];
+			var low = new int[count];
+			readInts(ch, high);
+			readInts(ch, low);
+			return new LineIndex(file, size, modified, count, low, high);
+		}
+	}
+
+	private static void writeInts(FileChannel ch, int[] values, int count) throws IOException {
+		var buf = ByteBuffer.allocate(1 << 20);
+		var ints = buf.asIntBuffer();
+		for (int i = 0; i < count; ) {
+			int n = Math.min(ints.capacity(), count - i);
+			ints.clear();
+			ints.put(values, i, n);
+			buf.clear().limit(n * 4);
+			writeFully(ch, buf);
+			i += n;
+		}
+	}
+
+	private static void readInts(FileChannel ch, int[] dst) throws IOException {
+		var buf = ByteBuffer.allocate(1 << 20);
+		for (int i = 0; i < dst.length; ) {
+			int n = Math.min(buf.capacity() / 4, dst.length - i);
+			buf.clear().limit(n * 4);
+			readFully(ch, buf);
+			buf.flip();
+			buf.asIntBuffer().get(dst, i, n);
+			i += n;
+		}
+	}
+
+	private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) ch.write(buf);
+	}
+
+	private static void readFully(FileChannel ch, ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) {
+			if (ch.read(buf) < 0) throw new EOFException("Unexpected end of sidecar index");
+		}
+	}
+
+}
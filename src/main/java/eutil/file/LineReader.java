@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import eutil.datatypes.util.EList;
+import eutil.strings.StringInterner;
 
 /**
  * Creates an auto-closable stream that reads a specified file
@@ -23,6 +24,7 @@ public class LineReader implements Closeable {
 	private long lineNum = 0;
 	private boolean grabbed = false;
 	private String grabbedLine;
+	private StringInterner interner;
 	
 	//--------------
 	// Constructors
@@ -48,6 +50,20 @@ public class LineReader implements Closeable {
 	// Methods
 	//---------
 	
+	/**
+	 * Passes every line read through the given interner so that repeated
+	 * lines share a single String instance instead of each being kept as
+	 * its own copy. Passing null turns interning back off.
+	 * 
+	 * @param internerIn The interner to share lines through
+	 * @return This LineReader
+	 * @since 2.7.1
+	 */
+	public LineReader interning(StringInterner internerIn) {
+		interner = internerIn;
+		return this;
+	}
+	
 	/**
 	 * Returns true if this LineReader has another line to be read.
 	 * The LineReader does not advance past any unread line.
@@ -57,7 +73,7 @@ public class LineReader implements Closeable {
 	 */
 	public boolean hasNextLine() throws IOException {
 		if (grabbed) return true;
-		grabbedLine = reader.readLine();
+		grabbedLine = intern(reader.readLine());
 		grabbed = grabbedLine != null;
 		if (grabbed) lineNum++;
 		return grabbed;
@@ -80,8 +96,8 @@ public class LineReader implements Closeable {
 	public void mark(int readAheadLimit) throws IOException { reader.mark(readAheadLimit); }
 	public void reset() throws IOException { reader.reset(); }
 	
-	public Stream<String> lines() { return reader.lines(); }
-	public void forEach(Consumer<? super String> action) { reader.lines().forEach(action); }
+	public Stream<String> lines() { return (interner != null) ? reader.lines().map(interner::intern) : reader.lines(); }
+	public void forEach(Consumer<? super String> action) { lines().forEach(action); }
 	
 	public EList<String> getAllLines() { return lines().collect(EList.toEList()); }
 	
@@ -107,6 +123,10 @@ public class LineReader implements Closeable {
 		return reader.lines().count();
 	}
 	
+	private String intern(String line) {
+		return (interner != null) ? interner.intern(line) : line;
+	}
+	
 	//----------------
 	// Static Methods
 	//----------------
@@ -180,45 +180,27 @@ public class ENumUtil {
 	public static boolean isNumber(String in) { return parseNumber(in) != null; }
 	
 	/** Attempts to parse a number from a given string.
-	 *  Returns either a long or a double depending on which type it reads. */
+	 *  Returns either a long or a double depending on which type it reads.
+	 *  Only an optional leading '-', digits, and at most one '.' are read,
+	 *  so exponents, a leading '+', NaN, and Infinity are not numbers here
+	 *  (see {@link NumberParser#valueOf} for the wider syntax). */
 	public static Number parseNumber(String in) {
-		if (in != null && !in.trim().isEmpty() && !in.isEmpty()) {
-			if (in.length() == 1 && (in.charAt(0) == '.' || in.charAt(0) == '-')) return null;
-			boolean decimal = false;
-			boolean negative = false;
-			
-			for (int i = 0; i < in.length(); i++) {
-				char c = in.charAt(i);
-				
-				//check if negative
-				if (i == 0 && c == '-') negative = true;
-				else if (c == '.') {
-					//if there is more than one decimal, it's not a number
-					if (decimal) return null;
-					decimal = true;
-				}
-				else if (!Character.isDigit(c)) return null;
-			}
-			
-			try {
-				Number val;
-				
-				if (decimal) {
-					val = (negative) ? -Double.valueOf(in) : Double.valueOf(in);
-				}
-				else {
-					val = (negative) ? -Long.valueOf(in) : Long.valueOf(in);
-				}
-				
-				return val;
-			}
-			catch (NumberFormatException e) { e.printStackTrace(); }
-		}
-		return null;
+		int kind = plainNumberKind(in);
+		if (kind < 0) return null;
+		
+		var p = PARSER.get();
+		if (kind == 1) return (p.parseDouble(in) == NumberParser.OK) ? Double.valueOf(p.doubleValue()) : null;
+		
+		int status = p.parseLong(in);
+		if (status == NumberParser.OK) return p.longValue();
+		if (status != NumberParser.INVALID || !hasNonAscii(in)) return null;
+		// Long.valueOf also reads non-ASCII digits
+		try { return Long.valueOf(in); }
+		catch (NumberFormatException e) { return null; }
 	}
 	
 	/** Returns true if the given string is an integer. */
-	public static boolean isInteger(String s) { return s.matches("-?\\d+"); }
+	public static boolean isInteger(String s) { return NumberParser.isInteger(s); }
 	/** Returns true if the given string is an integer when using the specified base. */
 	public static boolean isInteger(String s, int radix) {
 		if (s.isEmpty()) return false;
@@ -337,6 +319,59 @@ public class ENumUtil {
 		return total;
 	}
 	
+	/**
+	 * Returns the sum of all values within the given array.
+	 * @see eutil.math.stats.StreamingStats
+	 * @since 2.7.1
+	 */
+	public static double sumValues(double... valsIn) {
+		if (valsIn == null) return Double.NaN;
+		
+		double total = 0;
+		for (int i = 0; i < valsIn.length; i++) total += valsIn[i];
+		return total;
+	}
+	
+	/**
+	 * Returns the sum of each value raised to the given expIn value.
+	 * @since 2.7.1
+	 */
+	public static double squareAndPowValues(double[] valsIn, double expIn) {
+		if (valsIn == null) return Double.NaN;
+		
+		double total = 0;
+		if (expIn == 2.0) for (int i = 0; i < valsIn.length; i++) total += valsIn[i] * valsIn[i];
+		else for (int i = 0; i < valsIn.length; i++) total += Math.pow(valsIn[i], expIn);
+		return total;
+	}
+	
+	/**
+	 * Returns the sum of each element multiplied by the value in the same index of the other array.
+	 * @see eutil.math.stats.CovarianceStats
+	 * @since 2.7.1
+	 */
+	public static double sumOfProducts(double[] vals1, double[] vals2) {
+		if (EUtil.anyNull(vals1, vals2)) return Double.NaN;
+		if (vals1.length != vals2.length) return Double.NaN;
+		
+		double total = 0;
+		for (int i = 0; i < vals1.length; i++) total += vals1[i] * vals2[i];
+		return total;
+	}
+	
+	/**
+	 * Returns the sum of each element raised to expIn and multiplied by the value in the same index of the other array.
+	 * @since 2.7.1
+	 */
+	public static double sumSquareFirstProdSecond(double[] vals1, int expIn, double[] vals2) {
+		if (EUtil.anyNull(vals1, vals2)) return Double.NaN;
+		if (vals1.length != vals2.length) return Double.NaN;
+		
+		double total = 0;
+		for (int i = 0; i < vals1.length; i++) total += Math.pow(vals1[i], expIn) * vals2[i];
+		return total;
+	}
+	
 	//==========================
 	// Number Comparison Checks
 	//==========================
@@ -742,8 +777,7 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static byte parseByte(String in, byte defaultValue) {
-		try { return Byte.parseByte(in); }
-		catch (Throwable t) { return defaultValue; }
+		return (byte) parseRanged(in, Byte.MIN_VALUE, Byte.MAX_VALUE, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'short' from the given string.
@@ -755,12 +789,12 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static short parseShort(String in, short defaultValue) {
-		try { return Short.parseShort(in); }
-		catch (Throwable t) { return defaultValue; }
+		return (short) parseRanged(in, Short.MIN_VALUE, Short.MAX_VALUE, defaultValue);
 	}
 	/**
 	 * Attempts to parse an 'int' from the given string.
 	 * If the operation fails, the 'defaultValue' is returned instead.
+	 * Accepts the same input as {@link Integer#parseInt(String)}.
 	 * 
 	 * @param in The string to parse
 	 * @param defaultValue Returned if the parse operation fails
@@ -768,12 +802,18 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static int parseInt(String in, int defaultValue) {
+		if (in == null) return defaultValue;
+		var p = PARSER.get();
+		int status = p.parseInt(in);
+		if (status == NumberParser.OK) return p.intValue();
+		if (status != NumberParser.INVALID || !hasNonAscii(in)) return defaultValue;
 		try { return Integer.parseInt(in); }
-		catch (Throwable t) { return defaultValue; }
+		catch (NumberFormatException e) { return defaultValue; }
 	}
 	/**
 	 * Attempts to parse a 'long' from the given string.
 	 * If the operation fails, the 'defaultValue' is returned instead.
+	 * Accepts the same input as {@link Long#parseLong(String)}.
 	 * 
 	 * @param in The string to parse
 	 * @param defaultValue Returned if the parse operation fails
@@ -781,12 +821,18 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static long parseLong(String in, long defaultValue) {
+		if (in == null) return defaultValue;
+		var p = PARSER.get();
+		int status = p.parseLong(in);
+		if (status == NumberParser.OK) return p.longValue();
+		if (status != NumberParser.INVALID || !hasNonAscii(in)) return defaultValue;
 		try { return Long.parseLong(in); }
-		catch (Throwable t) { return defaultValue; }
+		catch (NumberFormatException e) { return defaultValue; }
 	}
 	/**
 	 * Attempts to parse a 'float' from the given string.
 	 * If the operation fails, the 'defaultValue' is returned instead.
+	 * Accepts the same input as {@link Float#parseFloat(String)}.
 	 * 
 	 * @param in The string to parse
 	 * @param defaultValue Returned if the parse operation fails
@@ -794,12 +840,12 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static float parseFloat(String in, float defaultValue) {
-		try { return Float.parseFloat(in); }
-		catch (Throwable t) { return defaultValue; }
+		return parseTrimmedFloat(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'double' from the given string.
 	 * If the operation fails, the 'defaultValue' is returned instead.
+	 * Accepts the same input as {@link Double#parseDouble(String)}.
 	 * 
 	 * @param in The string to parse
 	 * @param defaultValue Returned if the parse operation fails
@@ -807,8 +853,7 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static double parseDouble(String in, double defaultValue) {
-		try { return Double.parseDouble(in); }
-		catch (Throwable t) { return defaultValue; }
+		return parseTrimmedDouble(in, defaultValue);
 	}
 	
 	//-----------------------------
@@ -826,8 +871,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static byte parseByte(List<String> list, int index, byte defaultValue) {
-		try { return Byte.parseByte(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseByte(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'short' from the string at the given index of the given list.
@@ -840,8 +885,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static short parseShort(List<String> list, int index, short defaultValue) {
-		try { return Short.parseShort(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseShort(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse an 'int' from the string at the given index of the given list.
@@ -854,8 +899,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static int parseInt(List<String> list, int index, int defaultValue) {
-		try { return Integer.parseInt(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseInt(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'long' from the string at the given index of the given list.
@@ -868,8 +913,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static long parseLong(List<String> list, int index, long defaultValue) {
-		try { return Long.parseLong(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseLong(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'float' from the string at the given index of the given list.
@@ -882,8 +927,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static float parseFloat(List<String> list, int index, float defaultValue) {
-		try { return Float.parseFloat(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseFloat(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'double' from the string at the given index of the given list.
@@ -896,8 +941,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static double parseDouble(List<String> list, int index, double defaultValue) {
-		try { return Double.parseDouble(list.get(index)); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (list != null && index >= 0 && index < list.size()) ? list.get(index) : null;
+		return parseDouble(in, defaultValue);
 	}
 	
 	//------------------------------
@@ -915,8 +960,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static byte parseByte(String[] arr, int index, byte defaultValue) {
-		try { return Byte.parseByte(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseByte(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'short' from the string at the given index of the given array.
@@ -929,8 +974,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static short parseShort(String[] arr, int index, short defaultValue) {
-		try { return Short.parseShort(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseShort(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse an 'int' from the string at the given index of the given array.
@@ -943,8 +988,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static int parseInt(String[] arr, int index, int defaultValue) {
-		try { return Integer.parseInt(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseInt(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'long' from the string at the given index of the given array.
@@ -957,8 +1002,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static long parseLong(String[] arr, int index, long defaultValue) {
-		try { return Long.parseLong(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseLong(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'float' from the string at the given index of the given array.
@@ -971,8 +1016,8 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static float parseFloat(String[] arr, int index, float defaultValue) {
-		try { return Float.parseFloat(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseFloat(in, defaultValue);
 	}
 	/**
 	 * Attempts to parse a 'double' from the string at the given index of the given array.
@@ -985,8 +1030,93 @@ public class ENumUtil {
 	 * @since 1.6.0
 	 */
 	public static double parseDouble(String[] arr, int index, double defaultValue) {
-		try { return Double.parseDouble(arr[index]); }
-		catch (Throwable t) { return defaultValue; }
+		String in = (arr != null && index >= 0 && index < arr.length) ? arr[index] : null;
+		return parseDouble(in, defaultValue);
+	}
+	
+	//-------------------------
+	// Internal Parse Helpers
+	//-------------------------
+	
+	/**
+	 * Each thread's parser for the plain ASCII syntax. Anything it rejects
+	 * which the JDK parsers could still accept, such as non-ASCII digits,
+	 * type suffixes, or hex floats, is handed to them instead so that these
+	 * helpers accept exactly what they did before.
+	 */
+	private static final ThreadLocal<NumberParser> PARSER = ThreadLocal.withInitial(NumberParser::new);
+	
+	/** Integer.MIN_VALUE doubles as the failure marker as it is outside of both the byte and short ranges. */
+	private static int parseRanged(String in, int min, int max, int defaultValue) {
+		int val = parseInt(in, Integer.MIN_VALUE);
+		return (val < min || val > max) ? defaultValue : val;
+	}
+	
+	/** Like the JDK, surrounding whitespace is ignored when parsing decimals. */
+	private static double parseTrimmedDouble(String in, double defaultValue) {
+		if (in == null) return defaultValue;
+		int from = 0, to = in.length();
+		while (from < to && in.charAt(from) <= ' ') from++;
+		while (to > from && in.charAt(to - 1) <= ' ') to--;
+		var p = PARSER.get();
+		if (p.parseDouble(in, from, to) == NumberParser.OK) return p.doubleValue();
+		if (!jdkDecimal(in, from, to)) return defaultValue;
+		try { return Double.parseDouble(in); }
+		catch (NumberFormatException e) { return defaultValue; }
+	}
+	
+	/** Validates the syntax first so that Float.parseFloat can round directly to float without throwing. */
+	private static float parseTrimmedFloat(String in, float defaultValue) {
+		if (in == null) return defaultValue;
+		int from = 0, to = in.length();
+		while (from < to && in.charAt(from) <= ' ') from++;
+		while (to > from && in.charAt(to - 1) <= ' ') to--;
+		if (!NumberParser.isNumber(in, from, to) && !jdkDecimal(in, from, to)) return defaultValue;
+		try { return Float.parseFloat(in); }
+		catch (NumberFormatException e) { return defaultValue; }
+	}
+	
+	/**
+	 * Checks the plain number syntax read by {@link #parseNumber(String)},
+	 * returning 0 for an integer, 1 for a decimal, or -1 if it is neither.
+	 */
+	private static int plainNumberKind(String in) {
+		if (in == null || in.isEmpty()) return -1;
+		int i = (in.charAt(0) == '-') ? 1 : 0;
+		boolean decimal = false, digits = false;
+		
+		for (; i < in.length(); i++) {
+			char c = in.charAt(i);
+			if (c == '.') {
+				// more than one decimal point is not a number
+				if (decimal) return -1;
+				decimal = true;
+			}
+			else if (Character.isDigit(c)) digits = true;
+			else return -1;
+		}
+		
+		return (!digits) ? -1 : (decimal) ? 1 : 0;
+	}
+	
+	/** Returns true if the given string holds a character the ASCII parser does not read as a digit. */
+	private static boolean hasNonAscii(String in) {
+		for (int i = 0; i < in.length(); i++) {
+			if (in.charAt(i) >= 128) return true;
+		}
+		return false;
+	}
+	
+	/** Returns true if the given range could be a decimal that only the JDK reads: a hex float or one with a type suffix. */
+	private static boolean jdkDecimal(String in, int from, int to) {
+		if (from >= to) return false;
+		char last = in.charAt(to - 1);
+		if (last == 'd' || last == 'D' || last == 'f' || last == 'F') return true;
+		for (int i = from; i < to; i++) {
+			char c = in.charAt(i);
+			if (c == 'x' || c == 'X') return true;
+		}
+		return false;
 	}
 	
 }
@@ -0,0 +1,342 @@
+package eutil.math;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A table driven codec which converts between raw bytes, longs, and their
+ * hexadecimal or binary text forms.
+ *
+ * <p>
+ * Every conversion works a whole byte or nibble at a time through
+ * precomputed lookup tables and writes straight into a pre-sized
+ * {@code char[]} or {@code byte[]}, so encoding and decoding run in linear
+ * time with a single allocation for the result. For very large blobs the
+ * streaming methods convert in fixed size chunks between
+ * {@link InputStream}s and {@link OutputStream}s or between
+ * {@link ByteBuffer}s without ever holding the full text in memory.
+ *
+ * <blockquote><pre>
+ *     String hex = HexCodec.encode(bytes);           // "00ff1a..."
+ *     byte[] raw = HexCodec.decode(hex);
+ *     HexCodec.encode(fileIn, System.out);           // streaming hex dump
+ * </pre></blockquote><p>
+ *
+ * Decoding accepts both upper and lower case digits and throws an
+ * {@link IllegalArgumentException} on any other character.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class HexCodec {
+
+	private HexCodec() {}
+
+	//--------
+	// Tables
+	//--------
+
+	private static final char[] LOWER = "0123456789abcdef".toCharArray();
+	private static final char[] UPPER = "0123456789ABCDEF".toCharArray();
+
+	/** Maps each ASCII character to its nibble value, or -1 if it is not a hex digit. */
+	private static final byte[] NIBBLES = new byte[128];
+
+	/** The 4 character binary string of each nibble. */
+	private static final char[][] NIBBLE_BITS = new char[16][4];
+
+	/** Both hex characters of every byte value packed into one int, high char in the upper 16 bits. */
+	private static final int[] BYTE_TO_HEX = new int[256];
+
+	private static final int CHUNK = 8192;
+
+	static {
+		Arrays.fill(NIBBLES, (byte) -1);
+		for (int i = 0; i < 16; i++) {
+			NIBBLES[LOWER[i]] = (byte) i;
+			NIBBLES[UPPER[i]] = (byte) i;
+			for (int b = 0; b < 4; b++) NIBBLE_BITS[i][b] = ((i >>> (3 - b)) & 1) == 0 ? '0' : '1';
+		}
+		for (int i = 0; i < 256; i++) BYTE_TO_HEX[i] = (LOWER[i >>> 4] << 16) | LOWER[i & 0xF];
+	}
+
+	//--------------
+	// Hex Encoding
+	//--------------
+
+	/** Returns the lower case hex form of the given bytes. */
+	public static String encode(byte[] bytes) { return encode(bytes, 0, bytes.length, false); }
+
+	/** Returns the hex form of 'len' bytes starting at 'off'. */
+	public static String encode(byte[] bytes, int off, int len, boolean upperCase) {
+		var out = new char[len * 2];
+		encode(bytes, off, len, out, 0, upperCase);
+		return new String(out);
+	}
+
+	/**
+	 * Writes the hex form of 'len' bytes starting at 'off' into the given
+	 * char array starting at 'dstOff'. The destination must have room for
+	 * 'len * 2' characters.
+	 */
+	public static void encode(byte[] bytes, int off, int len, char[] dst, int dstOff, boolean upperCase) {
+		if (upperCase) {
+			for (int i = off, end = off + len; i < end; i++) {
+				int b = bytes[i] & 0xFF;
+				dst[dstOff++] = UPPER[b >>> 4];
+				dst[dstOff++] = UPPER[b & 0xF];
+			}
+			return;
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = BYTE_TO_HEX[bytes[i] & 0xFF];
+			dst[dstOff++] = (char) (pair >>> 16);
+			dst[dstOff++] = (char) pair;
+		}
+	}
+
+	/** Writes the lower case hex form of the given bytes as ASCII into 'dst' starting at 'dstOff'. */
+	public static void encodeAscii(byte[] bytes, int off, int len, byte[] dst, int dstOff) {
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = BYTE_TO_HEX[bytes[i] & 0xFF];
+			dst[dstOff++] = (byte) (pair >>> 16);
+			dst[dstOff++] = (byte) pair;
+		}
+	}
+
+	/** Appends the lower case hex form of the given bytes to the given builder. */
+	public static StringBuilder encode(byte[] bytes, int off, int len, StringBuilder sb) {
+		sb.ensureCapacity(sb.length() + len * 2);
+		for (int i = off, end = off + len; i < end; i++) {
+			int pair = BYTE_TO_HEX[bytes[i] & 0xFF];
+			sb.append((char) (pair >>> 16)).append((char) pair);
+		}
+		return sb;
+	}
+
+	/** Returns the full 16 digit lower case hex form of the given long. */
+	public static String encode(long value) { return encode(value, 16); }
+
+	/**
+	 * Returns the lowest 'digits' hex digits of the given value, padded with
+	 * leading zeros.
+	 */
+	public static String encode(long value, int digits) {
+		if (digits < 0 || digits > 16) throw new IllegalArgumentException("Digits must be between 0 and 16!");
+		var out = new char[digits];
+		for (int i = digits - 1; i >= 0; i--, value >>>= 4) out[i] = LOWER[(int) value & 0xF];
+		return new String(out);
+	}
+
+	//--------------
+	// Hex Decoding
+	//--------------
+
+	/**
+	 * Decodes the given hex text into bytes. An optional "0x" prefix is
+	 * skipped and an odd number of digits is treated as having a leading
+	 * zero.
+	 */
+	public static byte[] decode(CharSequence hex) {
+		int from = hasPrefix(hex) ? 2 : 0;
+		int digits = hex.length() - from;
+		var out = new byte[(digits + 1) / 2];
+		int o = 0, i = from;
+		if ((digits & 1) == 1) out[o++] = (byte) nibble(hex, i++);
+		for (; i < hex.length(); i += 2) {
+			out[o++] = (byte) ((nibble(hex, i) << 4) | nibble(hex, i + 1));
+		}
+		return out;
+	}
+
+	/**
+	 * Decodes the even length range [from, to) of hex text into 'dst'
+	 * starting at 'dstOff' and returns the number of bytes written.
+	 */
+	public static int decode(CharSequence hex, int from, int to, byte[] dst, int dstOff) {
+		if (((to - from) & 1) == 1) throw new IllegalArgumentException("Hex text must have an even number of digits!");
+		int o = dstOff;
+		for (int i = from; i < to; i += 2) {
+			dst[o++] = (byte) ((nibble(hex, i) << 4) | nibble(hex, i + 1));
+		}
+		return o - dstOff;
+	}
+
+	/** Decodes up to 16 hex digits, with an optional "0x" prefix, into a long. */
+	public static long decodeLong(CharSequence hex) {
+		int from = hasPrefix(hex) ? 2 : 0;
+		if (hex.length() - from > 16) throw new IllegalArgumentException("More than 16 hex digits: " + hex);
+		long result = 0;
+		for (int i = from; i < hex.length(); i++) result = (result << 4) | nibble(hex, i);
+		return result;
+	}
+
+	/** Returns the value of the given hex digit, or -1 if it is not one. */
+	public static int digitValue(int c) {
+		return (c >= 0 && c < 128) ? NIBBLES[c] : -1;
+	}
+
+	//--------
+	// Binary
+	//--------
+
+	/** Returns the binary form of the given hex text, 4 bits per hex digit. */
+	public static String hexToBinary(CharSequence hex) {
+		int from = hasPrefix(hex) ? 2 : 0;
+		var out = new char[(hex.length() - from) * 4];
+		for (int i = from, o = 0; i < hex.length(); i++, o += 4) {
+			System.arraycopy(NIBBLE_BITS[nibble(hex, i)], 0, out, o, 4);
+		}
+		return new String(out);
+	}
+
+	/**
+	 * Returns the lower case hex form of the given binary text. Bits are
+	 * grouped from the right, so a length which is not a multiple of 4 is
+	 * treated as having leading zeros.
+	 */
+	public static String binaryToHex(CharSequence bits) {
+		int len = bits.length();
+		int digits = (len + 3) / 4;
+		var out = new char[digits];
+		int i = len - 1;
+		for (int d = digits - 1; d >= 0; d--) {
+			int v = 0;
+			for (int b = 0; b < 4 && i >= 0; b++, i--) v |= bit(bits, i) << b;
+			out[d] = LOWER[v];
+		}
+		return new String(out);
+	}
+
+	/** Returns the lowest 'bits' bits of the given value as binary text. */
+	public static String toBinary(long value, int bits) {
+		if (bits < 0 || bits > 64) throw new IllegalArgumentException("Bits must be between 0 and 64!");
+		var out = new char[bits];
+		for (int i = bits - 1; i >= 0; i--, value >>>= 1) out[i] = ((value & 1) == 0) ? '0' : '1';
+		return new String(out);
+	}
+
+	//-----------
+	// Streaming
+	//-----------
+
+	/**
+	 * Reads every byte from 'in' and writes its lower case hex form to 'out'
+	 * as ASCII. Neither stream is closed. Returns the number of bytes read.
+	 */
+	public static long encode(InputStream in, OutputStream out) {
+		var raw = new byte[CHUNK];
+		var text = new byte[CHUNK * 2];
+		long total = 0;
+		try {
+			int read;
+			while ((read = in.read(raw)) != -1) {
+				encodeAscii(raw, 0, read, text, 0);
+				out.write(text, 0, read * 2);
+				total += read;
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return total;
+	}
+
+	/**
+	 * Reads ASCII hex text from 'in' and writes the decoded bytes to 'out'.
+	 * Whitespace between digits is ignored so that formatted dumps can be
+	 * read back. Neither stream is closed. Returns the number of bytes
+	 * written.
+	 */
+	public static long decode(InputStream in, OutputStream out) {
+		var text = new byte[CHUNK * 2];
+		var raw = new byte[CHUNK];
+		long total = 0;
+		int high = -1;
+		try {
+			int read;
+			while ((read = in.read(text)) != -1) {
+				int o = 0;
+				for (int i = 0; i < read; i++) {
+					int c = text[i];
+					if (c == ' ' || c == '\n' || c == '\r' || c == '\t') continue;
+					int v = digitValue(c);
+					if (v < 0) throw new IllegalArgumentException("Invalid hex character: '" + (char) c + "'");
+					if (high < 0) high = v;
+					else {
+						raw[o++] = (byte) ((high << 4) | v);
+						high = -1;
+					}
+				}
+				out.write(raw, 0, o);
+				total += o;
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (high >= 0) throw new IllegalArgumentException("Hex text must have an even number of digits!");
+		return total;
+	}
+
+	/**
+	 * Encodes as many bytes from 'src' as fit in 'dst' as lower case ASCII
+	 * hex. Both buffers' positions are advanced. Returns the number of
+	 * source bytes consumed.
+	 */
+	public static int encode(ByteBuffer src, ByteBuffer dst) {
+		int n = Math.min(src.remaining(), dst.remaining() / 2);
+		if (src.hasArray() && dst.hasArray()) {
+			encodeAscii(src.array(), src.arrayOffset() + src.position(), n, dst.array(), dst.arrayOffset() + dst.position());
+			src.position(src.position() + n);
+			dst.position(dst.position() + n * 2);
+			return n;
+		}
+		for (int i = 0; i < n; i++) {
+			int pair = BYTE_TO_HEX[src.get() & 0xFF];
+			dst.put((byte) (pair >>> 16)).put((byte) pair);
+		}
+		return n;
+	}
+
+	/**
+	 * Decodes as many complete hex digit pairs from 'src' as fit in 'dst'.
+	 * Both buffers' positions are advanced. Returns the number of bytes
+	 * written.
+	 */
+	public static int decode(ByteBuffer src, ByteBuffer dst) {
+		int n = Math.min(src.remaining() / 2, dst.remaining());
+		for (int i = 0; i < n; i++) {
+			int hi = digitValue(src.get()), lo = digitValue(src.get());
+			if ((hi | lo) < 0) throw new IllegalArgumentException("Invalid hex character at " + (src.position() - 2));
+			dst.put((byte) ((hi << 4) | lo));
+		}
+		return n;
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static boolean hasPrefix(CharSequence s) {
+		return s.length() >= 2 && s.charAt(0) == '0' && (s.charAt(1) == 'x' || s.charAt(1) == 'X');
+	}
+
+	private static int nibble(CharSequence s, int i) {
+		int v = digitValue(s.charAt(i));
+		if (v < 0) throw new IllegalArgumentException("Invalid hex character '" + s.charAt(i) + "' at " + i);
+		return v;
+	}
+
+	private static int bit(CharSequence s, int i) {
+		char c = s.charAt(i);
+		if (c == '0') return 0;
+		if (c == '1') return 1;
+		throw new IllegalArgumentException("Invalid binary character '" + c + "' at " + i);
+	}
+
+}
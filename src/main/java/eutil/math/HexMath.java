@@ -1,7 +1,6 @@
 package eutil.math;
 
 import java.awt.Color;
-import java.util.HashMap;
 
 /**
  * A static library containing various helper functions related to
@@ -12,28 +11,6 @@ import java.util.HashMap;
  */
 public class HexMath {
 	
-	/** Contains a direct mapping of hex to binary conversions for each 0-f hex character. */
-	static HashMap<String, String> hexVals = new HashMap<>();
-	
-	static {
-		hexVals.put("0", "0000");
-		hexVals.put("1", "0001");
-		hexVals.put("2", "0010");
-		hexVals.put("3", "0011");
-		hexVals.put("4", "0100");
-		hexVals.put("5", "0101");
-		hexVals.put("6", "0110");
-		hexVals.put("7", "0111");
-		hexVals.put("8", "1000");
-		hexVals.put("9", "1001");
-		hexVals.put("a", "1010");
-		hexVals.put("b", "1011");
-		hexVals.put("c", "1100");
-		hexVals.put("d", "1101");
-		hexVals.put("e", "1110");
-		hexVals.put("f", "1111");
-	}
-	
 	/** If the input value is between [0,15] (inclusively) the resulting output is the corresponding hexadecimal character value. */
 	public static String getHexChar(int in) {
 		if (in < 0) return null;
@@ -53,67 +30,34 @@ public class HexMath {
 	
 	/** Takes a hexadecimal value (in string form) and converts it to the equivalent binary representation (also in string form). */
 	public static String hexToBinary(String in) {
-		String binary = "";
-		
-		for (int i = 0; i < in.length(); i++) {
-			char c = Character.toLowerCase(in.charAt(i));
-			binary += hexVals.get(new String() + c);
-		}
-		
-		return binary;
+		return HexCodec.hexToBinary(in);
 	}
 	
 	/** Takes a binary value (in string form) and converts it to the equivalent hexadecimal representation (also in string form). */
 	public static String binaryToHex(String in) {
-		String hex = "0x";
-		
-		int i = 0;
-		int x = 0;
-		String cur = "";
-		
-		while (i < in.length()) {
-			x++;
-			
-			cur += in.charAt(i);
-			
-			if (x % 4 == 0 || (i == in.length() - 1)) {
-				hex += getHexChar(Integer.parseInt(cur, 2));
-				x = 0;
-				cur = "";
-			}
-			
-			i++;
-		}
-		
-		return hex;
+		return "0x" + HexCodec.binaryToHex(in);
 	}
 	
 	/** Takes in a valid binary number (in string form) and returns the binary string form of the twos complement operation. */
 	public static String twosComplement(String in) {
 		int n = in.length();
-		int i;
+		char[] twos = new char[n];
 		
-		String ones = "", twos = "";
-		ones = twos = "";
-		
-		for (i = 0; i < n; i++) {
-			ones += (in.charAt(i) == '0') ? '1' : '0';
+		// invert every bit then add one, carrying from the right
+		for (int i = 0; i < n; i++) {
+			twos[i] = (in.charAt(i) == '0') ? '1' : '0';
 		}
 		
-		twos = ones;
-		
+		int i;
 		for (i = n - 1; i >= 0; i--) {
-			if (ones.charAt(i) == '1') {
-				twos = twos.substring(0, i) + '0' + twos.substring(i + 1);
-			}
+			if (twos[i] == '1') twos[i] = '0';
 			else {
-				twos = twos.substring(0, i) + '1' + twos.substring(i + 1);
-				break; 
+				twos[i] = '1';
+				break;
 			}
 		}
-		if (i == -1) twos = '1' + twos;
 		
-		return twos;
+		return (i == -1) ? '1' + new String(twos) : new String(twos);
 	}
 	
 	/** Converts a valid binary value (in string form) to the equivalent integer based value. */
@@ -167,6 +167,9 @@ public class Matrix {
 		return rangeCheck(rowNumIn, 0) ? table.getBoxWithA(rowNumIn).getB() : null;
 	}
 	
+	/** Returns every row in order, walking the table once instead of searching it for each row. */
+	public List<List<Number>> getRows() { return table.getBVals(); }
+	
 	public List<Number> getColumn(int colNumIn) {
 		if (rangeCheck(0, colNumIn)) {
 			EArrayList<Number> l = new EArrayList(cSize);
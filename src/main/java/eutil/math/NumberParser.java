@@ -0,0 +1,581 @@
+package eutil.math;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An allocation free, exception free number parser which reads ints,
+ * longs, and doubles directly from {@code CharSequence} or ASCII
+ * {@code byte[]} ranges.
+ *
+ * <p>
+ * Instead of throwing, every parse reports one of the status codes
+ * {@link #OK}, {@link #EMPTY}, {@link #INVALID}, or {@link #OVERFLOW} and
+ * leaves the parsed value on this parser where it can be read back with
+ * {@link #longValue()}, {@link #intValue()}, or {@link #doubleValue()}. A
+ * parser instance can be reused for any number of parses but is not
+ * thread safe. The static helpers which take a default value use a per
+ * thread parser internally.
+ *
+ * <blockquote><pre>
+ *     var p = new NumberParser();
+ *     if (p.parseDouble(line, start, end) == NumberParser.OK) sum += p.doubleValue();
+ *
+ *     int port = NumberParser.parseInt(text, 8080);
+ * </pre></blockquote><p>
+ *
+ * <p>
+ * Decimals are converted with the Eisel-Lemire algorithm which produces
+ * the same correctly rounded result as {@link Double#parseDouble(String)}
+ * for the accepted syntax:
+ * <pre>  [+-]? digits? ('.' digits?)? ([eE] [+-]? digits)?  |  [+-]? (NaN | Infinity)</pre>
+ * At least one digit is required. Unlike the JDK parsers, surrounding
+ * whitespace, hexadecimal floats, and type suffixes such as 'd' or 'f' are
+ * not accepted.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class NumberParser {
+
+	//------------------
+	// Status Constants
+	//------------------
+
+	/** The range was parsed successfully. */
+	public static final int OK = 0;
+	/** The range contained no characters. */
+	public static final int EMPTY = 1;
+	/** The range contained characters which are not part of a number. */
+	public static final int INVALID = 2;
+	/** The range held a valid integer that does not fit in the target type. */
+	public static final int OVERFLOW = 3;
+
+	//-----------------
+	// Static Internal
+	//-----------------
+
+	private static final ThreadLocal<NumberParser> LOCAL = ThreadLocal.withInitial(NumberParser::new);
+
+	private static final int SMALLEST_POWER = -342;
+	private static final int LARGEST_POWER = 308;
+
+	/** The high and low halves of the 128-bit truncated mantissa of each power of 5. */
+	private static final long[] POW5_HI = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+	private static final long[] POW5_LO = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+
+	/** Powers of ten which are exactly representable as doubles. */
+	private static final double[] EXACT_POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	static {
+		// built once with the same rules as the reference fast_float tables
+		var two127 = BigInteger.ONE.shiftLeft(127);
+		var two128 = BigInteger.ONE.shiftLeft(128);
+		var mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		var five = BigInteger.valueOf(5);
+
+		for (int q = SMALLEST_POWER; q <= LARGEST_POWER; q++) {
+			BigInteger c;
+			if (q < 0) {
+				var power5 = five.pow(-q);
+				int z = power5.bitLength();
+				int b = (q >= -27) ? z + 127 : 2 * z + 128;
+				c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+				while (c.compareTo(two128) >= 0) c = c.shiftRight(1);
+			}
+			else {
+				c = five.pow(q);
+				while (c.compareTo(two127) < 0) c = c.shiftLeft(1);
+				while (c.compareTo(two128) >= 0) c = c.shiftRight(1);
+			}
+			POW5_HI[q - SMALLEST_POWER] = c.shiftRight(64).longValue();
+			POW5_LO[q - SMALLEST_POWER] = c.and(mask64).longValue();
+		}
+	}
+
+	//--------
+	// Fields
+	//--------
+
+	private long longValue;
+	private double doubleValue;
+	private boolean decimal;
+
+	// scanned decimal state shared between the CharSequence and byte[] scanners
+	private long mantissa;
+	private int exponent;
+	private boolean negative;
+	private boolean truncated;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	public NumberParser() {}
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the value produced by the last successful integer parse. */
+	public long longValue() { return longValue; }
+	/** Returns the value produced by the last successful integer parse cast to an int. */
+	public int intValue() { return (int) longValue; }
+	/** Returns the value produced by the last successful parse as a double. */
+	public double doubleValue() { return doubleValue; }
+	/** Returns true if the last {@link #parseNumber} call read a decimal. */
+	public boolean isDecimal() { return decimal; }
+
+	//--------------------------
+	// Instance Parsing Methods
+	//--------------------------
+
+	public int parseLong(CharSequence s) { return parseLong(s, 0, s.length()); }
+	public int parseInt(CharSequence s) { return parseInt(s, 0, s.length()); }
+	public int parseDouble(CharSequence s) { return parseDouble(s, 0, s.length()); }
+	public int parseNumber(CharSequence s) { return parseNumber(s, 0, s.length()); }
+
+	/** Parses a base 10 long from the range [from, to) of the given sequence. */
+	public int parseLong(CharSequence s, int from, int to) {
+		if (from >= to) return EMPTY;
+
+		int i = from;
+		char c = s.charAt(i);
+		boolean neg = c == '-';
+		if (neg || c == '+') {
+			if (++i == to) return INVALID;
+		}
+
+		// accumulate negatively so that Long.MIN_VALUE can be represented
+		long limit = neg ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multMin = limit / 10;
+		long result = 0;
+
+		for (; i < to; i++) {
+			int d = s.charAt(i) - '0';
+			if (d < 0 || d > 9) return INVALID;
+			if (result < multMin) return OVERFLOW;
+			result *= 10;
+			if (result < limit + d) return OVERFLOW;
+			result -= d;
+		}
+
+		longValue = neg ? result : -result;
+		doubleValue = longValue;
+		return OK;
+	}
+
+	/** Parses a base 10 long from the range [from, to) of the given ASCII bytes. */
+	public int parseLong(byte[] b, int from, int to) {
+		if (from >= to) return EMPTY;
+
+		int i = from;
+		byte c = b[i];
+		boolean neg = c == '-';
+		if (neg || c == '+') {
+			if (++i == to) return INVALID;
+		}
+
+		long limit = neg ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multMin = limit / 10;
+		long result = 0;
+
+		for (; i < to; i++) {
+			int d = b[i] - '0';
+			if (d < 0 || d > 9) return INVALID;
+			if (result < multMin) return OVERFLOW;
+			result *= 10;
+			if (result < limit + d) return OVERFLOW;
+			result -= d;
+		}
+
+		longValue = neg ? result : -result;
+		doubleValue = longValue;
+		return OK;
+	}
+
+	/** Parses a base 10 int from the range [from, to) of the given sequence. */
+	public int parseInt(CharSequence s, int from, int to) {
+		int status = parseLong(s, from, to);
+		if (status == OK && (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE)) return OVERFLOW;
+		return status;
+	}
+
+	/** Parses a base 10 int from the range [from, to) of the given ASCII bytes. */
+	public int parseInt(byte[] b, int from, int to) {
+		int status = parseLong(b, from, to);
+		if (status == OK && (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE)) return OVERFLOW;
+		return status;
+	}
+
+	/** Parses a correctly rounded double from the range [from, to) of the given sequence. */
+	public int parseDouble(CharSequence s, int from, int to) {
+		int status = scan(s, from, to);
+		if (status != OK) return status;
+		if (special(s, from, to)) return OK;
+		doubleValue = toDouble();
+		if (Double.isNaN(doubleValue)) doubleValue = Double.parseDouble(s.subSequence(from, to).toString());
+		return OK;
+	}
+
+	/** Parses a correctly rounded double from the range [from, to) of the given ASCII bytes. */
+	public int parseDouble(byte[] b, int from, int to) {
+		int status = scan(b, from, to);
+		if (status != OK) return status;
+		if (special(b, from, to)) return OK;
+		doubleValue = toDouble();
+		if (Double.isNaN(doubleValue)) doubleValue = Double.parseDouble(new String(b, from, to - from, StandardCharsets.ISO_8859_1));
+		return OK;
+	}
+
+	/**
+	 * Parses either a long or a double from the given range. Plain integers
+	 * are read as longs while anything containing a '.', an exponent, or
+	 * which does not fit in a long is read as a double. Check
+	 * {@link #isDecimal()} to see which was produced.
+	 */
+	public int parseNumber(CharSequence s, int from, int to) {
+		int status = parseLong(s, from, to);
+		if (status == OK) {
+			decimal = false;
+			return OK;
+		}
+		decimal = true;
+		return parseDouble(s, from, to);
+	}
+
+	/** Byte array version of {@link #parseNumber(CharSequence, int, int)}. */
+	public int parseNumber(byte[] b, int from, int to) {
+		int status = parseLong(b, from, to);
+		if (status == OK) {
+			decimal = false;
+			return OK;
+		}
+		decimal = true;
+		return parseDouble(b, from, to);
+	}
+
+	//----------------
+	// Static Helpers
+	//----------------
+
+	public static int parseInt(CharSequence s, int defaultValue) { return (s == null) ? defaultValue : parseInt(s, 0, s.length(), defaultValue); }
+	public static long parseLong(CharSequence s, long defaultValue) { return (s == null) ? defaultValue : parseLong(s, 0, s.length(), defaultValue); }
+	public static double parseDouble(CharSequence s, double defaultValue) { return (s == null) ? defaultValue : parseDouble(s, 0, s.length(), defaultValue); }
+
+	public static int parseInt(CharSequence s, int from, int to, int defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseInt(s, from, to) == OK) ? p.intValue() : defaultValue;
+	}
+
+	public static long parseLong(CharSequence s, int from, int to, long defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseLong(s, from, to) == OK) ? p.longValue() : defaultValue;
+	}
+
+	public static double parseDouble(CharSequence s, int from, int to, double defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseDouble(s, from, to) == OK) ? p.doubleValue() : defaultValue;
+	}
+
+	public static int parseInt(byte[] b, int from, int to, int defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseInt(b, from, to) == OK) ? p.intValue() : defaultValue;
+	}
+
+	public static long parseLong(byte[] b, int from, int to, long defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseLong(b, from, to) == OK) ? p.longValue() : defaultValue;
+	}
+
+	public static double parseDouble(byte[] b, int from, int to, double defaultValue) {
+		var p = LOCAL.get();
+		return (p.parseDouble(b, from, to) == OK) ? p.doubleValue() : defaultValue;
+	}
+
+	/** Returns true if the given sequence is an optionally negative run of base 10 digits. */
+	public static boolean isInteger(CharSequence s) {
+		if (s == null) return false;
+		int len = s.length();
+		int i = (len > 0 && s.charAt(0) == '-') ? 1 : 0;
+		if (i == len) return false;
+		for (; i < len; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+		return true;
+	}
+
+	/** Returns true if the given sequence can be parsed as either a long or a double. */
+	public static boolean isNumber(CharSequence s) {
+		return s != null && isNumber(s, 0, s.length());
+	}
+
+	/** Returns true if the range [from, to) of the given sequence can be parsed as either a long or a double. */
+	public static boolean isNumber(CharSequence s, int from, int to) {
+		return LOCAL.get().scan(s, from, to) == OK;
+	}
+
+	/**
+	 * Parses the given sequence as either a Long or a Double depending on
+	 * which type it reads. Returns null if the sequence is not a number.
+	 */
+	public static Number valueOf(CharSequence s) {
+		if (s == null) return null;
+		var p = LOCAL.get();
+		if (p.parseNumber(s, 0, s.length()) != OK) return null;
+		return (p.isDecimal()) ? (Number) p.doubleValue() : (Number) p.longValue();
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/**
+	 * Scans a decimal number into a sign, up to 19 significant digits, and a
+	 * base 10 exponent without converting it.
+	 */
+	private int scan(CharSequence s, int from, int to) {
+		if (from >= to) return EMPTY;
+
+		int i = from;
+		char c = s.charAt(i);
+		negative = c == '-';
+		if (negative || c == '+') i++;
+		if (i < to && (s.charAt(i) == 'N' || s.charAt(i) == 'I')) return matchSpecial(s, i, to) ? OK : INVALID;
+
+		long w = 0;
+		int digits = 0, exp = 0;
+		boolean anyDigit = false, dropped = false;
+
+		for (; i < to; i++) {
+			int d = s.charAt(i) - '0';
+			if (d < 0 || d > 9) break;
+			anyDigit = true;
+			if (w == 0 && d == 0) continue;
+			if (digits < 19) { w = w * 10 + d; digits++; }
+			else { exp++; dropped |= d != 0; }
+		}
+
+		if (i < to && s.charAt(i) == '.') {
+			for (i++; i < to; i++) {
+				int d = s.charAt(i) - '0';
+				if (d < 0 || d > 9) break;
+				anyDigit = true;
+				if (w == 0 && d == 0) { exp--; continue; }
+				if (digits < 19) { w = w * 10 + d; digits++; exp--; }
+				else dropped |= d != 0;
+			}
+		}
+
+		if (!anyDigit) return INVALID;
+
+		if (i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+			if (++i == to) return INVALID;
+			boolean expNeg = s.charAt(i) == '-';
+			if (expNeg || s.charAt(i) == '+') {
+				if (++i == to) return INVALID;
+			}
+			int e = 0;
+			int start = i;
+			for (; i < to; i++) {
+				int d = s.charAt(i) - '0';
+				if (d < 0 || d > 9) break;
+				if (e < 100_000) e = e * 10 + d;
+			}
+			if (i == start) return INVALID;
+			exp += expNeg ? -e : e;
+		}
+
+		if (i != to) return INVALID;
+
+		mantissa = w;
+		exponent = exp;
+		truncated = dropped;
+		return OK;
+	}
+
+	/** Byte array version of {@link #scan(CharSequence, int, int)}. */
+	private int scan(byte[] b, int from, int to) {
+		if (from >= to) return EMPTY;
+
+		int i = from;
+		byte c = b[i];
+		negative = c == '-';
+		if (negative || c == '+') i++;
+		if (i < to && (b[i] == 'N' || b[i] == 'I')) return matchSpecial(b, i, to) ? OK : INVALID;
+
+		long w = 0;
+		int digits = 0, exp = 0;
+		boolean anyDigit = false, dropped = false;
+
+		for (; i < to; i++) {
+			int d = b[i] - '0';
+			if (d < 0 || d > 9) break;
+			anyDigit = true;
+			if (w == 0 && d == 0) continue;
+			if (digits < 19) { w = w * 10 + d; digits++; }
+			else { exp++; dropped |= d != 0; }
+		}
+
+		if (i < to && b[i] == '.') {
+			for (i++; i < to; i++) {
+				int d = b[i] - '0';
+				if (d < 0 || d > 9) break;
+				anyDigit = true;
+				if (w == 0 && d == 0) { exp--; continue; }
+				if (digits < 19) { w = w * 10 + d; digits++; exp--; }
+				else dropped |= d != 0;
+			}
+		}
+
+		if (!anyDigit) return INVALID;
+
+		if (i < to && (b[i] == 'e' || b[i] == 'E')) {
+			if (++i == to) return INVALID;
+			boolean expNeg = b[i] == '-';
+			if (expNeg || b[i] == '+') {
+				if (++i == to) return INVALID;
+			}
+			int e = 0;
+			int start = i;
+			for (; i < to; i++) {
+				int d = b[i] - '0';
+				if (d < 0 || d > 9) break;
+				if (e < 100_000) e = e * 10 + d;
+			}
+			if (i == start) return INVALID;
+			exp += expNeg ? -e : e;
+		}
+
+		if (i != to) return INVALID;
+
+		mantissa = w;
+		exponent = exp;
+		truncated = dropped;
+		return OK;
+	}
+
+	private static boolean matchSpecial(CharSequence s, int i, int to) {
+		return regionEquals(s, i, to, "NaN") || regionEquals(s, i, to, "Infinity");
+	}
+
+	private static boolean matchSpecial(byte[] b, int i, int to) {
+		return regionEquals(b, i, to, "NaN") || regionEquals(b, i, to, "Infinity");
+	}
+
+	private static boolean regionEquals(CharSequence s, int i, int to, String word) {
+		if (to - i != word.length()) return false;
+		for (int j = 0; j < word.length(); j++) if (s.charAt(i + j) != word.charAt(j)) return false;
+		return true;
+	}
+
+	private static boolean regionEquals(byte[] b, int i, int to, String word) {
+		if (to - i != word.length()) return false;
+		for (int j = 0; j < word.length(); j++) if (b[i + j] != word.charAt(j)) return false;
+		return true;
+	}
+
+	/** Sets the double value for a scanned NaN or Infinity and returns true if one was found. */
+	private boolean special(CharSequence s, int from, int to) {
+		char c = s.charAt(to - 1);
+		if (c == 'N') doubleValue = Double.NaN;
+		else if (c == 'y') doubleValue = negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		else return false;
+		return true;
+	}
+
+	private boolean special(byte[] b, int from, int to) {
+		byte c = b[to - 1];
+		if (c == 'N') doubleValue = Double.NaN;
+		else if (c == 'y') doubleValue = negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		else return false;
+		return true;
+	}
+
+	/**
+	 * Converts the scanned mantissa and exponent into a double. Returns NaN
+	 * in the rare case that more than 19 significant digits were given and
+	 * the dropped digits change the rounded result, in which case the caller
+	 * falls back to the JDK parser.
+	 */
+	private double toDouble() {
+		long w = mantissa;
+		int q = exponent;
+
+		if (w == 0) return negative ? -0.0 : 0.0;
+
+		// Clinger's fast path: both w and 10^q are exact doubles
+		if (!truncated && q >= -22 && q <= 22 && w >= 0 && w <= (1L << 53)) {
+			double d = (double) w;
+			d = (q < 0) ? d / EXACT_POW10[-q] : d * EXACT_POW10[q];
+			return negative ? -d : d;
+		}
+
+		long bits = eiselLemire(w, q);
+		if (truncated) {
+			// the true value lies between w and w + 1, both must round the same way
+			if (eiselLemire(w + 1, q) != bits) return Double.NaN;
+		}
+
+		if (negative) bits |= 0x8000000000000000L;
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Computes the IEEE bits of w * 10^q using the Eisel-Lemire algorithm as
+	 * described by Lemire in 'Number Parsing at a Gigabyte per Second'.
+	 */
+	private static long eiselLemire(long w, int q) {
+		if (q < SMALLEST_POWER) return 0L;
+		if (q > LARGEST_POWER) return 0x7FF0000000000000L;
+
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+
+		int index = q - SMALLEST_POWER;
+		long hi = Math.unsignedMultiplyHigh(w, POW5_HI[index]);
+		long lo = w * POW5_HI[index];
+
+		// only widen to the full 128-bit power when the low bits are ambiguous
+		if ((hi & 0x1FF) == 0x1FF) {
+			long secondHi = Math.unsignedMultiplyHigh(w, POW5_LO[index]);
+			lo += secondHi;
+			if (Long.compareUnsigned(secondHi, lo) > 0) hi++;
+		}
+
+		int upperBit = (int) (hi >>> 63);
+		long m = hi >>> (upperBit + 9);
+		int power2 = ((217706 * q) >> 16) + 63 + upperBit - lz + 1023;
+
+		if (power2 <= 0) {
+			// subnormal result
+			if (-power2 + 1 >= 64) return 0L;
+			m >>>= -power2 + 1;
+			m += (m & 1);
+			m >>>= 1;
+			power2 = (m < (1L << 52)) ? 0 : 1;
+			return m | ((long) power2 << 52);
+		}
+
+		// round to even when the value lies exactly halfway between two doubles
+		if (Long.compareUnsigned(lo, 1) <= 0 && q >= -4 && q <= 23 && (m & 3) == 1) {
+			if ((m << (upperBit + 9)) == hi) m &= ~1L;
+		}
+
+		m += (m & 1);
+		m >>>= 1;
+		if (m >= (2L << 52)) {
+			m = 1L << 52;
+			power2++;
+		}
+		m &= ~(1L << 52);
+
+		if (power2 >= 0x7FF) return 0x7FF0000000000000L;
+		return m | ((long) power2 << 52);
+	}
+
+}
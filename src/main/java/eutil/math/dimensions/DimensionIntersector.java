@@ -0,0 +1,444 @@
+package eutil.math.dimensions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A batch overlap engine for integer precision dimensions.
+ *
+ * <p>
+ * Rather than testing every dimension of one list against every dimension
+ * of another with nested 'partiallyContains' loops, this sorts the X
+ * bounds of every dimension into a single event sweep and keeps the
+ * dimensions currently crossing the sweep line in a Y interval tree. Each
+ * overlapping pair is then found in O((n + m) log n + k) where k is the
+ * number of reported pairs.
+ *
+ * <p>
+ * Overlap follows the same inclusive rules as
+ * {@link Dimension_i#partiallyContains(Dimension_i)}, meaning that
+ * dimensions which only share an edge are considered overlapping.
+ * Dimensions with a negative width or height are ignored.
+ *
+ * <p>
+ * Pairs are reported as indexes into the given inputs either through a
+ * {@link PairConsumer} or collected into a {@link PairBuffer}.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class DimensionIntersector {
+
+    /** The exclusive end of the X axis, one past Integer.MAX_VALUE so that it is included. */
+    private static final long AXIS_END = Integer.MAX_VALUE + 1L;
+
+    private DimensionIntersector() {}
+
+    //============
+    // Interfaces
+    //============
+
+    /**
+     * Receives the indexes of each pair of overlapping dimensions.
+     *
+     * <p>
+     * When used in a parallel intersection, the consumer will be called from
+     * multiple threads and must therefore be thread safe.
+     */
+    @FunctionalInterface
+    public static interface PairConsumer {
+        void accept(int a, int b);
+    }
+
+    //================
+    // Static Methods
+    //================
+
+    /**
+     * Reports every pair (a, b) where the dimension at index 'a' in 'listA'
+     * overlaps the dimension at index 'b' in 'listB'.
+     */
+    public static void intersect(List<? extends Dimension_i> listA, List<? extends Dimension_i> listB, PairConsumer out) {
+        intersect(listA.toArray(new Dimension_i[0]), listB.toArray(new Dimension_i[0]), out);
+    }
+
+    /**
+     * Reports every pair (a, b) where the dimension at index 'a' in 'dimsA'
+     * overlaps the dimension at index 'b' in 'dimsB'.
+     */
+    public static void intersect(Dimension_i[] dimsA, Dimension_i[] dimsB, PairConsumer out) {
+        var coords = pack(dimsA, dimsB);
+        int total = dimsA.length + dimsB.length;
+        var events = buildEvents(coords, total, Integer.MIN_VALUE, AXIS_END);
+        new Sweep(coords, dimsA.length, total, false).run(events, events.length, Integer.MIN_VALUE, AXIS_END, out);
+    }
+
+    /**
+     * Returns every overlapping pair between the two given arrays as a
+     * primitive pair buffer.
+     */
+    public static PairBuffer intersect(Dimension_i[] dimsA, Dimension_i[] dimsB) {
+        var buffer = new PairBuffer();
+        intersect(dimsA, dimsB, buffer::add);
+        return buffer;
+    }
+
+    /**
+     * Reports every pair (i, j), where i < j, of dimensions within the given
+     * array that overlap each other.
+     */
+    public static void intersectSelf(Dimension_i[] dims, PairConsumer out) {
+        var coords = pack(dims, new Dimension_i[0]);
+        var events = buildEvents(coords, dims.length, Integer.MIN_VALUE, AXIS_END);
+        new Sweep(coords, dims.length, dims.length, true).run(events, events.length, Integer.MIN_VALUE, AXIS_END, out);
+    }
+
+    /**
+     * Returns every overlapping pair (i, j), where i < j, within the given
+     * array as a primitive pair buffer.
+     */
+    public static PairBuffer intersectSelf(Dimension_i[] dims) {
+        var buffer = new PairBuffer();
+        intersectSelf(dims, buffer::add);
+        return buffer;
+    }
+
+    /**
+     * Performs the same intersection as
+     * {@link #intersect(Dimension_i[], Dimension_i[], PairConsumer)} but
+     * splits the X axis into the given number of strips which are swept in
+     * parallel.
+     *
+     * <p>
+     * Each pair is only reported by the strip containing the start of its X
+     * overlap, so no pair is reported twice. The given consumer must be
+     * thread safe.
+     *
+     * @param strips The number of X strips to sweep in parallel
+     */
+    public static void intersectParallel(Dimension_i[] dimsA, Dimension_i[] dimsB, int strips, PairConsumer out) {
+        int total = dimsA.length + dimsB.length;
+        if (strips <= 1 || total < strips * 2) {
+            intersect(dimsA, dimsB, out);
+            return;
+        }
+
+        var coords = pack(dimsA, dimsB);
+        var bounds = stripBounds(coords, total, strips);
+
+        IntStream.range(0, strips).parallel().forEach(s -> {
+            long lo = bounds[s], hi = bounds[s + 1];
+            var events = buildEvents(coords, total, lo, hi);
+            new Sweep(coords, dimsA.length, total, false).run(events, events.length, lo, hi, out);
+        });
+    }
+
+    /**
+     * Performs a parallel intersection using one strip per available
+     * processor and collects every pair into a single primitive buffer.
+     */
+    public static PairBuffer intersectParallel(Dimension_i[] dimsA, Dimension_i[] dimsB) {
+        int strips = Runtime.getRuntime().availableProcessors();
+        int total = dimsA.length + dimsB.length;
+
+        if (strips <= 1 || total < strips * 2) return intersect(dimsA, dimsB);
+
+        var results = new PairBuffer[strips];
+        var coords = pack(dimsA, dimsB);
+        var bounds = stripBounds(coords, total, strips);
+
+        IntStream.range(0, strips).parallel().forEach(s -> {
+            long lo = bounds[s], hi = bounds[s + 1];
+            var buffer = new PairBuffer();
+            var events = buildEvents(coords, total, lo, hi);
+            new Sweep(coords, dimsA.length, total, false).run(events, events.length, lo, hi, buffer::add);
+            results[s] = buffer;
+        });
+
+        var merged = new PairBuffer();
+        for (var r : results) merged.addAll(r);
+        return merged;
+    }
+
+    //==========================
+    // Internal Sweep Utilities
+    //==========================
+
+    /**
+     * Flattens both arrays into a single [startX, startY, endX, endY] int
+     * array where the dimensions of 'b' follow those of 'a'.
+     */
+    private static int[] pack(Dimension_i[] a, Dimension_i[] b) {
+        var coords = new int[(a.length + b.length) * 4];
+        int p = 0;
+        for (var d : a) { coords[p++] = d.startX; coords[p++] = d.startY; coords[p++] = d.endX; coords[p++] = d.endY; }
+        for (var d : b) { coords[p++] = d.startX; coords[p++] = d.startY; coords[p++] = d.endX; coords[p++] = d.endY; }
+        return coords;
+    }
+
+    /**
+     * Encodes a start or end event as a single sortable long. The X value is
+     * placed in the upper half so that events sort by X first, then with
+     * starts ahead of ends at the same X so that touching edges still
+     * overlap.
+     */
+    private static long event(int x, boolean end, int index) {
+        return ((long) x << 32) | (end ? 0x80000000L : 0L) | index;
+    }
+
+    /**
+     * Builds the sorted event list for every dimension that crosses the strip
+     * [lo, hi). Dimensions that start before the strip have their start event
+     * clamped to the strip's start.
+     */
+    private static long[] buildEvents(int[] coords, int total, long lo, long hi) {
+        var events = new long[total * 2];
+        int n = 0;
+
+        for (int i = 0; i < total; i++) {
+            int sx = coords[i * 4], ex = coords[i * 4 + 2];
+            if (ex < sx || coords[i * 4 + 3] < coords[i * 4 + 1]) continue;
+            if (sx >= hi || ex < lo) continue;
+            events[n++] = event((int) Math.max(sx, lo), false, i);
+            events[n++] = event(ex, true, i);
+        }
+
+        if (n != events.length) events = Arrays.copyOf(events, n);
+        Arrays.sort(events);
+        return events;
+    }
+
+    /**
+     * Splits the X axis into strips which each contain roughly the same
+     * number of dimension starts. The first strip begins at
+     * Integer.MIN_VALUE and the last ends just past Integer.MAX_VALUE, so
+     * that every int X falls inside exactly one strip.
+     */
+    private static long[] stripBounds(int[] coords, int total, int strips) {
+        var starts = new int[total];
+        for (int i = 0; i < total; i++) starts[i] = coords[i * 4];
+        Arrays.sort(starts);
+
+        var bounds = new long[strips + 1];
+        bounds[0] = Integer.MIN_VALUE;
+        bounds[strips] = AXIS_END;
+        for (int s = 1; s < strips; s++) {
+            bounds[s] = Math.max(bounds[s - 1], starts[(int) ((long) total * s / strips)]);
+        }
+        return bounds;
+    }
+
+    //=========================
+    // Internal Sweep Instance
+    //=========================
+
+    /**
+     * Performs one sweep over a sorted event list while keeping the active
+     * dimensions of each side inside of a treap keyed by startY and augmented
+     * with the largest endY of each subtree.
+     */
+    private static final class Sweep {
+
+        private final int[] coords;
+        private final int sizeA;
+        private final boolean self;
+
+        private final int[] left, right, prio, maxY;
+        private int rootA = -1, rootB = -1;
+        private int splitL, splitR;
+
+        private PairConsumer out;
+        private int current;
+        private long stripLo, stripHi;
+
+        Sweep(int[] coordsIn, int sizeAIn, int total, boolean selfIn) {
+            coords = coordsIn;
+            sizeA = sizeAIn;
+            self = selfIn;
+            left = new int[total];
+            right = new int[total];
+            prio = new int[total];
+            maxY = new int[total];
+
+            var rand = new SplittableRandom(total);
+            for (int i = 0; i < total; i++) prio[i] = rand.nextInt();
+        }
+
+        void run(long[] events, int count, long lo, long hi, PairConsumer outIn) {
+            out = outIn;
+            stripLo = lo;
+            stripHi = hi;
+
+            for (int e = 0; e < count; e++) {
+                long ev = events[e];
+                int index = (int) (ev & 0x7FFFFFFF);
+                boolean end = (ev & 0x80000000L) != 0;
+                boolean isA = self || index < sizeA;
+
+                if (end) {
+                    if (isA) rootA = remove(rootA, index);
+                    else rootB = remove(rootB, index);
+                }
+                else {
+                    current = index;
+                    int y0 = coords[index * 4 + 1], y1 = coords[index * 4 + 3];
+                    if (isA) {
+                        query(self ? rootA : rootB, y0, y1);
+                        rootA = insert(rootA, index);
+                    }
+                    else {
+                        query(rootA, y0, y1);
+                        rootB = insert(rootB, index);
+                    }
+                }
+            }
+        }
+
+        private long key(int node) {
+            return ((long) coords[node * 4 + 1] << 32) | node;
+        }
+
+        private void update(int node) {
+            int m = coords[node * 4 + 3];
+            if (left[node] != -1 && maxY[left[node]] > m) m = maxY[left[node]];
+            if (right[node] != -1 && maxY[right[node]] > m) m = maxY[right[node]];
+            maxY[node] = m;
+        }
+
+        private int insert(int root, int node) {
+            left[node] = right[node] = -1;
+            maxY[node] = coords[node * 4 + 3];
+            split(root, key(node));
+            int l = splitL, r = splitR;
+            return merge(merge(l, node), r);
+        }
+
+        private int remove(int root, int node) {
+            long k = key(node);
+            split(root, k);
+            int l = splitL;
+            split(splitR, k + 1);
+            return merge(l, splitR);
+        }
+
+        /** Splits the tree into keys less than 'k' and keys greater or equal to 'k'. */
+        private void split(int t, long k) {
+            if (t == -1) {
+                splitL = splitR = -1;
+                return;
+            }
+            if (key(t) < k) {
+                split(right[t], k);
+                right[t] = splitL;
+                update(t);
+                splitL = t;
+            }
+            else {
+                split(left[t], k);
+                left[t] = splitR;
+                update(t);
+                splitR = t;
+            }
+        }
+
+        private int merge(int a, int b) {
+            if (a == -1) return b;
+            if (b == -1) return a;
+            if (prio[a] > prio[b]) {
+                right[a] = merge(right[a], b);
+                update(a);
+                return a;
+            }
+            left[b] = merge(a, left[b]);
+            update(b);
+            return b;
+        }
+
+        /** Reports every node in the tree whose Y range overlaps [y0, y1]. */
+        private void query(int t, int y0, int y1) {
+            while (t != -1 && maxY[t] >= y0) {
+                query(left[t], y0, y1);
+                if (coords[t * 4 + 1] > y1) return;
+                if (coords[t * 4 + 3] >= y0) report(t);
+                t = right[t];
+            }
+        }
+
+        private void report(int other) {
+            // only the strip holding the start of the X overlap reports the pair
+            int overlapStart = Math.max(coords[other * 4], coords[current * 4]);
+            if (overlapStart < stripLo || overlapStart >= stripHi) return;
+
+            if (self) {
+                if (other < current) out.accept(other, current);
+                else out.accept(current, other);
+            }
+            else if (current < sizeA) out.accept(current, other - sizeA);
+            else out.accept(other, current - sizeA);
+        }
+
+    }
+
+    //=============
+    // Pair Buffer
+    //=============
+
+    /**
+     * A growable primitive buffer of int pairs used to collect intersection
+     * results without boxing.
+     */
+    public static final class PairBuffer {
+
+        private int[] data;
+        private int size;
+
+        public PairBuffer() { this(16); }
+        public PairBuffer(int initialPairs) { data = new int[Math.max(2, initialPairs * 2)]; }
+
+        public void add(int a, int b) {
+            if (size * 2 + 2 > data.length) data = Arrays.copyOf(data, data.length * 2);
+            data[size * 2] = a;
+            data[size * 2 + 1] = b;
+            size++;
+        }
+
+        public void addAll(PairBuffer other) {
+            if (other == null) return;
+            int needed = (size + other.size) * 2;
+            if (needed > data.length) data = Arrays.copyOf(data, Math.max(needed, data.length * 2));
+            System.arraycopy(other.data, 0, data, size * 2, other.size * 2);
+            size += other.size;
+        }
+
+        /** Returns the number of pairs held in this buffer. */
+        public int size() { return size; }
+        public boolean isEmpty() { return size == 0; }
+        public void clear() { size = 0; }
+
+        /** Returns the first index of the pair at the given position. */
+        public int getA(int pair) { return data[pair * 2]; }
+        /** Returns the second index of the pair at the given position. */
+        public int getB(int pair) { return data[pair * 2 + 1]; }
+
+        public void forEach(PairConsumer action) {
+            for (int i = 0; i < size; i++) action.accept(data[i * 2], data[i * 2 + 1]);
+        }
+
+        /** Returns a copy of the pairs as a flat [a0, b0, a1, b1, ...] array. */
+        public int[] toArray() { return Arrays.copyOf(data, size * 2); }
+
+        @Override
+        public String toString() {
+            var sb = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                sb.append("(").append(data[i * 2]).append(", ").append(data[i * 2 + 1]).append(")");
+                if (i < size - 1) sb.append(", ");
+            }
+            return sb.append("]").toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package eutil.math.linear;
+
+import java.util.Arrays;
+import java.util.List;
+
+import eutil.math.Matrix;
+
+/**
+ * A dense double matrix backed by a single row-major {@code double[]}.
+ *
+ * <p>
+ * Unlike {@link Matrix}, which stores every cell as a boxed
+ * {@code Number}, this keeps its values in one flat primitive array so it
+ * can be handed directly to numeric code. {@link #asRealMatrix()} exposes
+ * that same array to commons-math3 without copying.
+ *
+ * <blockquote><pre>
+ *     DenseMatrix m = DenseMatrix.of(2, 2, 1.0, 2.0, 3.0, 4.0);
+ *
+ *     			|1.0 2.0|
+ *     			|3.0 4.0|
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class DenseMatrix {
+
+	private final int numRows, numCols;
+	private final double[] data;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a new zero filled matrix of the given size. */
+	public DenseMatrix(int numRowsIn, int numColsIn) {
+		this(numRowsIn, numColsIn, new double[checkSize(numRowsIn, numColsIn)]);
+	}
+
+	/**
+	 * Wraps the given row-major array without copying it. Changes made to the
+	 * array are visible through this matrix and vice versa.
+	 */
+	public DenseMatrix(int numRowsIn, int numColsIn, double[] dataIn) {
+		int size = checkSize(numRowsIn, numColsIn);
+		if (dataIn.length < size) throw new IllegalArgumentException("Backing array is smaller than " + numRowsIn + "x" + numColsIn);
+		numRows = numRowsIn;
+		numCols = numColsIn;
+		data = dataIn;
+	}
+
+	public DenseMatrix(DenseMatrix m) {
+		this(m.numRows, m.numCols, Arrays.copyOf(m.data, m.numRows * m.numCols));
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder();
+		for (int r = 0; r < numRows; r++) {
+			sb.append("|");
+			for (int c = 0; c < numCols; c++) {
+				sb.append(data[r * numCols + c]);
+				if (c < numCols - 1) sb.append(" ");
+			}
+			sb.append("|");
+			if (r < numRows - 1) sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	public double get(int row, int col) { return data[index(row, col)]; }
+	public DenseMatrix set(int row, int col, double value) { data[index(row, col)] = value; return this; }
+
+	/**
+	 * Returns a commons-math3 view of this matrix which reads and writes this
+	 * matrix's backing array directly.
+	 */
+	public DenseRealMatrix asRealMatrix() { return new DenseRealMatrix(this); }
+
+	/** Returns y = A * x as a new array. */
+	public double[] multiply(double[] x) {
+		if (x.length != numCols) throw new IllegalArgumentException("Vector length " + x.length + " does not match " + numCols + " columns");
+		var y = new double[numRows];
+		for (int r = 0, off = 0; r < numRows; r++, off += numCols) {
+			double sum = 0.0;
+			for (int c = 0; c < numCols; c++) sum += data[off + c] * x[c];
+			y[r] = sum;
+		}
+		return y;
+	}
+
+	/** Returns C = A * B as a new matrix. */
+	public DenseMatrix multiply(DenseMatrix b) {
+		if (numCols != b.numRows) throw new IllegalArgumentException("Matrix dimensions do not line up for multiplication!");
+		var c = new DenseMatrix(numRows, b.numCols);
+		var cd = c.data;
+		int n = b.numCols;
+		// i-k-j ordering walks both B and C along their rows
+		for (int i = 0; i < numRows; i++) {
+			int cOff = i * n;
+			for (int k = 0; k < numCols; k++) {
+				double a = data[i * numCols + k];
+				if (a == 0.0) continue;
+				int bOff = k * n;
+				for (int j = 0; j < n; j++) cd[cOff + j] += a * b.data[bOff + j];
+			}
+		}
+		return c;
+	}
+
+	/** Returns the transpose of this matrix as a new matrix. */
+	public DenseMatrix transpose() {
+		var t = new DenseMatrix(numCols, numRows);
+		for (int r = 0; r < numRows; r++) {
+			for (int c = 0; c < numCols; c++) t.data[c * numRows + r] = data[r * numCols + c];
+		}
+		return t;
+	}
+
+	/**
+	 * Converts this matrix into a boxed {@link Matrix} of doubles. Each row is
+	 * filled in place rather than through per-cell lookups, which would search
+	 * the Matrix's row table every time.
+	 */
+	public Matrix toMatrix() {
+		var m = new Matrix(numRows, numCols);
+		int r = 0;
+		for (List<Number> row : m.getRows()) {
+			for (int c = 0; c < numCols; c++) row.set(c, data[r * numCols + c]);
+			r++;
+		}
+		return m;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int numRows() { return numRows; }
+	public int numCols() { return numCols; }
+
+	/** Returns the row-major backing array of this matrix. This is not a copy. */
+	public double[] getData() { return data; }
+
+	//----------------
+	// Static Methods
+	//----------------
+
+	/** Creates a new matrix from the given row-major values. */
+	public static DenseMatrix of(int numRows, int numCols, double... values) {
+		if (values.length != numRows * numCols) {
+			throw new IllegalArgumentException("Expected " + (numRows * numCols) + " values but got " + values.length);
+		}
+		return new DenseMatrix(numRows, numCols, values.clone());
+	}
+
+	/** Copies the given boxed matrix into a new dense matrix. Missing cells are read as 0. */
+	public static DenseMatrix of(Matrix m) {
+		int rows = m.numRows(), cols = m.numCols();
+		var d = new DenseMatrix(rows, cols);
+		if (rows == 0 || cols == 0) return d;
+		int r = 0;
+		// walks the row table once, as Matrix.getRow searches it on every call
+		for (List<Number> row : m.getRows()) {
+			if (r == rows) break;
+			if (row != null) {
+				for (int c = 0, n = Math.min(cols, row.size()); c < n; c++) {
+					Number v = row.get(c);
+					if (v != null) d.data[r * cols + c] = v.doubleValue();
+				}
+			}
+			r++;
+		}
+		return d;
+	}
+
+	/** Creates a new identity matrix of the given size. */
+	public static DenseMatrix identity(int size) {
+		var d = new DenseMatrix(size, size);
+		for (int i = 0; i < size; i++) d.data[i * size + i] = 1.0;
+		return d;
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private int index(int row, int col) {
+		if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+			throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside of " + numRows + "x" + numCols);
+		}
+		return row * numCols + col;
+	}
+
+	private static int checkSize(int rows, int cols) {
+		if (rows < 0 || cols < 0) throw new IllegalArgumentException("Negative matrix dimensions!");
+		long size = (long) rows * cols;
+		if (size > Integer.MAX_VALUE) throw new IllegalArgumentException(rows + "x" + cols + " is too large for a single array!");
+		return (int) size;
+	}
+
+}
@@ -0,0 +1,115 @@
+package eutil.math.linear;
+
+import org.apache.commons.math3.linear.AbstractRealMatrix;
+import org.apache.commons.math3.linear.RealMatrix;
+
+/**
+ * A commons-math3 {@link RealMatrix} view over the row-major array of a
+ * {@link DenseMatrix}.
+ *
+ * <p>
+ * No values are copied when creating this view. Every read and write goes
+ * straight to the backing {@code double[]}, so a DenseMatrix can be passed
+ * to any commons-math3 algorithm and the results of in place operations are
+ * visible from both sides.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class DenseRealMatrix extends AbstractRealMatrix {
+
+	private final DenseMatrix matrix;
+	private final double[] data;
+	private final int numRows, numCols;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	public DenseRealMatrix(DenseMatrix matrixIn) {
+		matrix = matrixIn;
+		data = matrixIn.getData();
+		numRows = matrixIn.numRows();
+		numCols = matrixIn.numCols();
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override public int getRowDimension() { return numRows; }
+	@Override public int getColumnDimension() { return numCols; }
+
+	@Override
+	public double getEntry(int row, int column) {
+		checkIndex(row, column);
+		return data[row * numCols + column];
+	}
+
+	@Override
+	public void setEntry(int row, int column, double value) {
+		checkIndex(row, column);
+		data[row * numCols + column] = value;
+	}
+
+	@Override
+	public void addToEntry(int row, int column, double increment) {
+		checkIndex(row, column);
+		data[row * numCols + column] += increment;
+	}
+
+	@Override
+	public void multiplyEntry(int row, int column, double factor) {
+		checkIndex(row, column);
+		data[row * numCols + column] *= factor;
+	}
+
+	@Override
+	public RealMatrix createMatrix(int rowDimension, int columnDimension) {
+		return new DenseRealMatrix(new DenseMatrix(rowDimension, columnDimension));
+	}
+
+	@Override
+	public RealMatrix copy() {
+		return new DenseRealMatrix(new DenseMatrix(matrix));
+	}
+
+	/** Copies the backing array out row by row rather than one entry at a time. */
+	@Override
+	public double[][] getData() {
+		var out = new double[numRows][];
+		for (int r = 0; r < numRows; r++) out[r] = getRow(r);
+		return out;
+	}
+
+	@Override
+	public double[] getRow(int row) {
+		checkIndex(row, 0);
+		var out = new double[numCols];
+		System.arraycopy(data, row * numCols, out, 0, numCols);
+		return out;
+	}
+
+	@Override
+	public double[] operate(double[] v) {
+		return matrix.multiply(v);
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the DenseMatrix this view reads from and writes to. */
+	public DenseMatrix getDenseMatrix() { return matrix; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private void checkIndex(int row, int column) {
+		if (row < 0 || row >= numRows || column < 0 || column >= numCols) {
+			throw new IndexOutOfBoundsException("(" + row + ", " + column + ") is outside of " + numRows + "x" + numCols);
+		}
+	}
+
+}
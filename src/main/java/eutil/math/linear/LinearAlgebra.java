@@ -0,0 +1,130 @@
+package eutil.math.linear;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.EigenDecomposition;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.QRDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.SingularValueDecomposition;
+
+import eutil.math.Matrix;
+
+/**
+ * A collection of linear algebra helpers which bridge {@link DenseMatrix}
+ * and {@link Matrix} to the decompositions provided by commons-math3.
+ *
+ * <p>
+ * DenseMatrix inputs are handed to commons-math3 through a
+ * {@link DenseRealMatrix} view so no boxed values are ever copied. Note
+ * that the decompositions themselves still take a single working copy of
+ * their input as they factor it in place. Boxed {@link Matrix} inputs are
+ * converted into a DenseMatrix once up front.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class LinearAlgebra {
+
+	private LinearAlgebra() {}
+
+	//-----------------
+	// Decompositions
+	//-----------------
+
+	public static LUDecomposition lu(DenseMatrix a) { return new LUDecomposition(a.asRealMatrix()); }
+	public static QRDecomposition qr(DenseMatrix a) { return new QRDecomposition(a.asRealMatrix()); }
+	public static SingularValueDecomposition svd(DenseMatrix a) { return new SingularValueDecomposition(a.asRealMatrix()); }
+	public static EigenDecomposition eigen(DenseMatrix a) { return new EigenDecomposition(a.asRealMatrix()); }
+
+	public static LUDecomposition lu(Matrix a) { return lu(DenseMatrix.of(a)); }
+	public static QRDecomposition qr(Matrix a) { return qr(DenseMatrix.of(a)); }
+	public static SingularValueDecomposition svd(Matrix a) { return svd(DenseMatrix.of(a)); }
+	public static EigenDecomposition eigen(Matrix a) { return eigen(DenseMatrix.of(a)); }
+
+	//---------
+	// Solvers
+	//---------
+
+	/**
+	 * Solves A * x = b for x using an LU decomposition.
+	 *
+	 * @throws org.apache.commons.math3.linear.SingularMatrixException If A is
+	 *         singular
+	 */
+	public static double[] solve(DenseMatrix a, double[] b) {
+		var x = lu(a).getSolver().solve(new ArrayRealVector(b, false));
+		return (x instanceof ArrayRealVector arv) ? arv.getDataRef() : x.toArray();
+	}
+
+	/**
+	 * Solves A * X = B for X using an LU decomposition, where each column of
+	 * B is a separate right hand side.
+	 */
+	public static DenseMatrix solve(DenseMatrix a, DenseMatrix b) {
+		return toDense(lu(a).getSolver().solve(b.asRealMatrix()));
+	}
+
+	/** Solves the least squares problem A * x = b using a QR decomposition. */
+	public static double[] solveLeastSquares(DenseMatrix a, double[] b) {
+		var x = qr(a).getSolver().solve(new ArrayRealVector(b, false));
+		return (x instanceof ArrayRealVector arv) ? arv.getDataRef() : x.toArray();
+	}
+
+	/** Returns the inverse of the given square matrix. */
+	public static DenseMatrix inverse(DenseMatrix a) {
+		return toDense(lu(a).getSolver().getInverse());
+	}
+
+	/** Returns the Moore-Penrose pseudo-inverse of the given matrix. */
+	public static DenseMatrix pseudoInverse(DenseMatrix a) {
+		return toDense(svd(a).getSolver().getInverse());
+	}
+
+	/** Returns the determinant of the given square matrix. */
+	public static double determinant(DenseMatrix a) {
+		return lu(a).getDeterminant();
+	}
+
+	public static double[] solve(Matrix a, double[] b) { return solve(DenseMatrix.of(a), b); }
+	public static Matrix solve(Matrix a, Matrix b) { return solve(DenseMatrix.of(a), DenseMatrix.of(b)).toMatrix(); }
+	public static Matrix inverse(Matrix a) { return inverse(DenseMatrix.of(a)).toMatrix(); }
+	public static double determinant(Matrix a) { return determinant(DenseMatrix.of(a)); }
+
+	//-------------
+	// Conversions
+	//-------------
+
+	/**
+	 * Converts any commons-math3 matrix into a DenseMatrix. Views created by
+	 * {@link DenseMatrix#asRealMatrix()} are unwrapped without copying, while
+	 * every other implementation is copied one row at a time.
+	 */
+	public static DenseMatrix toDense(RealMatrix m) {
+		if (m instanceof DenseRealMatrix drm) return drm.getDenseMatrix();
+
+		int rows = m.getRowDimension(), cols = m.getColumnDimension();
+		var d = new DenseMatrix(rows, cols);
+		var data = d.getData();
+
+		if (m instanceof Array2DRowRealMatrix arm) {
+			var ref = arm.getDataRef();
+			for (int r = 0; r < rows; r++) System.arraycopy(ref[r], 0, data, r * cols, cols);
+		}
+		else {
+			for (int r = 0; r < rows; r++) System.arraycopy(m.getRow(r), 0, data, r * cols, cols);
+		}
+
+		return d;
+	}
+
+	/** Returns a zero-copy commons-math3 view of the given DenseMatrix. */
+	public static RealMatrix toRealMatrix(DenseMatrix m) { return m.asRealMatrix(); }
+
+	/** Copies the given boxed matrix into a commons-math3 matrix backed by a DenseMatrix. */
+	public static RealMatrix toRealMatrix(Matrix m) { return DenseMatrix.of(m).asRealMatrix(); }
+
+	/** Copies the given commons-math3 matrix into a boxed {@link Matrix}. */
+	public static Matrix toMatrix(RealMatrix m) { return toDense(m).toMatrix(); }
+
+}
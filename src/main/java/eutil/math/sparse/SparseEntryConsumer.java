@@ -0,0 +1,15 @@
+package eutil.math.sparse;
+
+/**
+ * Receives the row, column, and value of each stored entry within a sparse
+ * matrix without boxing.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+@FunctionalInterface
+public interface SparseEntryConsumer {
+
+	void accept(int row, int col, double value);
+
+}
@@ -0,0 +1,242 @@
+package eutil.math.sparse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import eutil.math.Matrix;
+
+/**
+ * A sparse matrix stored in coordinate (COO) form as parallel arrays of
+ * (row, column, value) triplets.
+ *
+ * <p>
+ * COO is the easiest format to build incrementally as entries can be added
+ * in any order. Once built it should be converted into a
+ * {@link SparseMatrixCSR} for any real math. Duplicate entries are allowed
+ * and are summed together during that conversion.
+ *
+ * <blockquote><pre>
+ *     SparseMatrixCSR m = new SparseMatrixCOO(1000, 1000)
+ *                             .add(0, 5, 1.0)
+ *                             .add(7, 2, 3.5)
+ *                             .toCSR();
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class SparseMatrixCOO {
+
+	private final int numRows, numCols;
+	private int[] rows;
+	private int[] cols;
+	private double[] values;
+	private int size;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	public SparseMatrixCOO(int numRowsIn, int numColsIn) { this(numRowsIn, numColsIn, 16); }
+	public SparseMatrixCOO(int numRowsIn, int numColsIn, int initialCapacity) {
+		if (numRowsIn < 0 || numColsIn < 0) throw new IllegalArgumentException("Negative matrix dimensions!");
+		numRows = numRowsIn;
+		numCols = numColsIn;
+		int cap = Math.max(1, initialCapacity);
+		rows = new int[cap];
+		cols = new int[cap];
+		values = new double[cap];
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		return "SparseMatrixCOO[" + numRows + "x" + numCols + ", nnz=" + size + "]";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/**
+	 * Adds the given (row, col, value) triplet. Zero values are skipped.
+	 *
+	 * @throws IndexOutOfBoundsException If the row or column is outside of
+	 *         this matrix's dimensions
+	 */
+	public SparseMatrixCOO add(int row, int col, double value) {
+		if (row < 0 || row >= numRows || col < 0 || col >= numCols) {
+			throw new IndexOutOfBoundsException("(" + row + ", " + col + ") is outside of " + numRows + "x" + numCols);
+		}
+		if (value == 0.0) return this;
+		if (size == rows.length) grow(size + 1);
+		rows[size] = row;
+		cols[size] = col;
+		values[size] = value;
+		size++;
+		return this;
+	}
+
+	/** Adds every triplet held in the given parallel arrays. */
+	public SparseMatrixCOO addAll(int[] rowsIn, int[] colsIn, double[] valuesIn) {
+		if (rowsIn.length != colsIn.length || rowsIn.length != valuesIn.length) {
+			throw new IllegalArgumentException("Triplet arrays must be the same length!");
+		}
+		grow(size + rowsIn.length);
+		for (int i = 0; i < rowsIn.length; i++) add(rowsIn[i], colsIn[i], valuesIn[i]);
+		return this;
+	}
+
+	/** Removes every triplet from this matrix. */
+	public SparseMatrixCOO clear() {
+		size = 0;
+		return this;
+	}
+
+	/** Passes each stored triplet to the given consumer in insertion order. */
+	public void forEach(SparseEntryConsumer action) {
+		for (int i = 0; i < size; i++) action.accept(rows[i], cols[i], values[i]);
+	}
+
+	/**
+	 * Returns a transposed copy of this matrix. For COO this is simply a swap
+	 * of the row and column arrays.
+	 */
+	public SparseMatrixCOO transpose() {
+		var t = new SparseMatrixCOO(numCols, numRows, size);
+		System.arraycopy(cols, 0, t.rows, 0, size);
+		System.arraycopy(rows, 0, t.cols, 0, size);
+		System.arraycopy(values, 0, t.values, 0, size);
+		t.size = size;
+		return t;
+	}
+
+	/**
+	 * Converts this matrix into compressed sparse row form. Entries are
+	 * bucketed by row with a counting sort, sorted by column within each row,
+	 * and duplicate coordinates are summed.
+	 */
+	public SparseMatrixCSR toCSR() {
+		var rowPtr = new int[numRows + 1];
+		for (int i = 0; i < size; i++) rowPtr[rows[i] + 1]++;
+		for (int r = 0; r < numRows; r++) rowPtr[r + 1] += rowPtr[r];
+
+		var colIdx = new int[size];
+		var vals = new double[size];
+		var next = Arrays.copyOf(rowPtr, numRows);
+		for (int i = 0; i < size; i++) {
+			int p = next[rows[i]]++;
+			colIdx[p] = cols[i];
+			vals[p] = values[i];
+		}
+
+		// sort each row by column and merge duplicates, compacting as we go
+		int write = 0;
+		for (int r = 0; r < numRows; r++) {
+			int start = rowPtr[r], end = rowPtr[r + 1];
+			sortRow(colIdx, vals, start, end);
+			rowPtr[r] = write;
+			for (int p = start; p < end; p++) {
+				if (write > rowPtr[r] && colIdx[write - 1] == colIdx[p]) {
+					vals[write - 1] += vals[p];
+				}
+				else {
+					colIdx[write] = colIdx[p];
+					vals[write] = vals[p];
+					write++;
+				}
+			}
+		}
+		rowPtr[numRows] = write;
+
+		if (write != size) {
+			colIdx = Arrays.copyOf(colIdx, write);
+			vals = Arrays.copyOf(vals, write);
+		}
+
+		return new SparseMatrixCSR(numRows, numCols, rowPtr, colIdx, vals);
+	}
+
+	/** Converts this sparse matrix into a dense {@link Matrix}. */
+	public Matrix toMatrix() { return toCSR().toMatrix(); }
+
+	//---------
+	// Getters
+	//---------
+
+	public int numRows() { return numRows; }
+	public int numCols() { return numCols; }
+	/** Returns the number of stored triplets. */
+	public int nnz() { return size; }
+
+	public int getRow(int index) { return rows[index]; }
+	public int getCol(int index) { return cols[index]; }
+	public double getValue(int index) { return values[index]; }
+
+	//----------------
+	// Static Methods
+	//----------------
+
+	/** Collects every non-zero value of the given dense matrix. */
+	public static SparseMatrixCOO fromMatrix(Matrix m) {
+		var coo = new SparseMatrixCOO(m.numRows(), m.numCols());
+		for (int r = 0; r < m.numRows(); r++) {
+			List<Number> row = m.getRow(r);
+			for (int c = 0; c < row.size(); c++) {
+				Number n = row.get(c);
+				if (n != null) coo.add(r, c, n.doubleValue());
+			}
+		}
+		return coo;
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private void grow(int needed) {
+		if (needed <= rows.length) return;
+		int cap = Math.max(needed, rows.length + (rows.length >> 1));
+		rows = Arrays.copyOf(rows, cap);
+		cols = Arrays.copyOf(cols, cap);
+		values = Arrays.copyOf(values, cap);
+	}
+
+	/** Insertion sorts short rows and falls back to a paired quicksort for long ones. */
+	private static void sortRow(int[] cols, double[] vals, int from, int to) {
+		if (to - from < 32) {
+			for (int i = from + 1; i < to; i++) {
+				int c = cols[i];
+				double v = vals[i];
+				int j = i - 1;
+				while (j >= from && cols[j] > c) {
+					cols[j + 1] = cols[j];
+					vals[j + 1] = vals[j];
+					j--;
+				}
+				cols[j + 1] = c;
+				vals[j + 1] = v;
+			}
+			return;
+		}
+
+		int pivot = cols[(from + to) >>> 1];
+		int i = from, j = to - 1;
+		while (i <= j) {
+			while (cols[i] < pivot) i++;
+			while (cols[j] > pivot) j--;
+			if (i <= j) {
+				int tc = cols[i]; cols[i] = cols[j]; cols[j] = tc;
+				double tv = vals[i]; vals[i] = vals[j]; vals[j] = tv;
+				i++;
+				j--;
+			}
+		}
+		if (from < j) sortRow(cols, vals, from, j + 1);
+		if (i < to - 1) sortRow(cols, vals, i, to);
+	}
+
+}
@@ -0,0 +1,285 @@
+package eutil.math.sparse;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import eutil.math.Matrix;
+
+/**
+ * A sparse matrix stored in compressed sparse row (CSR) form.
+ *
+ * <p>
+ * Only the non-zero entries are stored, so memory use is O(nnz) rather than
+ * O(rows * cols), and every multiply visits each stored entry exactly once.
+ * The column indexes within each row are kept sorted.
+ *
+ * <p>
+ * The raw row pointer, column index, and value arrays are exposed through
+ * {@link #rowStart(int)}, {@link #rowEnd(int)}, {@link #colAt(int)}, and
+ * {@link #valueAt(int)} so rows can be walked without any allocation:
+ *
+ * <blockquote><pre>
+ *     for (int p = m.rowStart(r); p &lt; m.rowEnd(r); p++) {
+ *         int col = m.colAt(p);
+ *         double val = m.valueAt(p);
+ *     }
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class SparseMatrixCSR {
+
+	/** Matrices with fewer stored entries than this are always multiplied serially. */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private final int numRows, numCols;
+	private final int[] rowPtr;
+	private final int[] colIdx;
+	private final double[] values;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/**
+	 * Wraps the given CSR arrays directly without copying them. Column
+	 * indexes must be sorted within each row.
+	 *
+	 * @param rowPtrIn An array of numRows + 1 offsets into the column and
+	 *        value arrays
+	 */
+	public SparseMatrixCSR(int numRowsIn, int numColsIn, int[] rowPtrIn, int[] colIdxIn, double[] valuesIn) {
+		if (rowPtrIn.length != numRowsIn + 1) throw new IllegalArgumentException("Row pointer length must be numRows + 1!");
+		if (colIdxIn.length < rowPtrIn[numRowsIn] || valuesIn.length < rowPtrIn[numRowsIn]) {
+			throw new IllegalArgumentException("Column and value arrays are shorter than the row pointers describe!");
+		}
+		numRows = numRowsIn;
+		numCols = numColsIn;
+		rowPtr = rowPtrIn;
+		colIdx = colIdxIn;
+		values = valuesIn;
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		return "SparseMatrixCSR[" + numRows + "x" + numCols + ", nnz=" + nnz() + "]";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/**
+	 * Returns the value at the given position, or 0 if no entry is stored
+	 * there. Each lookup is a binary search within the row.
+	 */
+	public double get(int row, int col) {
+		int p = Arrays.binarySearch(colIdx, rowPtr[row], rowPtr[row + 1], col);
+		return (p >= 0) ? values[p] : 0.0;
+	}
+
+	/** Passes each stored entry within the given row to the consumer. */
+	public void forEachInRow(int row, SparseEntryConsumer action) {
+		for (int p = rowPtr[row], end = rowPtr[row + 1]; p < end; p++) {
+			action.accept(row, colIdx[p], values[p]);
+		}
+	}
+
+	/** Passes every stored entry to the consumer in row order. */
+	public void forEach(SparseEntryConsumer action) {
+		for (int r = 0; r < numRows; r++) forEachInRow(r, action);
+	}
+
+	/** Returns y = A * x as a new array. */
+	public double[] multiply(double[] x) {
+		var y = new double[numRows];
+		multiply(x, y);
+		return y;
+	}
+
+	/**
+	 * Computes y = A * x writing the result into the given array.
+	 *
+	 * @throws IllegalArgumentException If the vector lengths do not match
+	 *         this matrix's dimensions
+	 */
+	public double[] multiply(double[] x, double[] y) {
+		checkVector(x, y);
+		multiplyRows(x, y, 0, numRows);
+		return y;
+	}
+
+	/**
+	 * Computes y = A * x by splitting the rows into blocks of roughly equal
+	 * non-zero counts which are processed in parallel.
+	 */
+	public double[] multiplyParallel(double[] x, double[] y) {
+		checkVector(x, y);
+
+		int nnz = nnz();
+		if (nnz < PARALLEL_THRESHOLD || numRows < 2) {
+			multiplyRows(x, y, 0, numRows);
+			return y;
+		}
+
+		int blocks = Math.min(numRows, Runtime.getRuntime().availableProcessors() * 4);
+		var bounds = new int[blocks + 1];
+		bounds[blocks] = numRows;
+		for (int b = 1; b < blocks; b++) {
+			// find the first row whose entries begin past this block's share of nnz
+			long target = (long) nnz * b / blocks;
+			int r = Arrays.binarySearch(rowPtr, 0, numRows + 1, (int) target);
+			if (r < 0) r = -r - 1;
+			bounds[b] = Math.max(bounds[b - 1], Math.min(r, numRows));
+		}
+
+		IntStream.range(0, blocks).parallel().forEach(b -> multiplyRows(x, y, bounds[b], bounds[b + 1]));
+		return y;
+	}
+
+	/** Returns y = A * x using a parallel multiply. */
+	public double[] multiplyParallel(double[] x) {
+		var y = new double[numRows];
+		multiplyParallel(x, y);
+		return y;
+	}
+
+	/**
+	 * Computes C = A * B where B is a dense row-major matrix with 'bCols'
+	 * columns and numCols rows. C is written as a dense row-major matrix with
+	 * numRows rows and 'bCols' columns.
+	 */
+	public double[] multiplyDense(double[] b, int bCols, double[] c) {
+		if (b.length < numCols * bCols) throw new IllegalArgumentException("Dense matrix is smaller than " + numCols + "x" + bCols);
+		if (c.length < numRows * bCols) throw new IllegalArgumentException("Result matrix is smaller than " + numRows + "x" + bCols);
+
+		Arrays.fill(c, 0, numRows * bCols, 0.0);
+		for (int r = 0; r < numRows; r++) {
+			int cOff = r * bCols;
+			for (int p = rowPtr[r], end = rowPtr[r + 1]; p < end; p++) {
+				double v = values[p];
+				int bOff = colIdx[p] * bCols;
+				for (int k = 0; k < bCols; k++) c[cOff + k] += v * b[bOff + k];
+			}
+		}
+		return c;
+	}
+
+	/** Returns C = A * B as a new dense row-major array. */
+	public double[] multiplyDense(double[] b, int bCols) {
+		return multiplyDense(b, bCols, new double[numRows * bCols]);
+	}
+
+	/** Returns C = A * B where B is given as a dense {@link Matrix}. */
+	public Matrix multiply(Matrix b) {
+		if (b.numRows() != numCols) throw new IllegalArgumentException("Matrix dimensions do not line up for multiplication!");
+		int bCols = b.numCols();
+		var dense = new double[numCols * bCols];
+		for (int r = 0; r < numCols; r++) {
+			var row = b.getRow(r);
+			for (int c = 0; c < bCols; c++) dense[r * bCols + c] = row.get(c).doubleValue();
+		}
+		var result = multiplyDense(dense, bCols);
+		var m = new Matrix(numRows, bCols);
+		for (int r = 0; r < numRows; r++) {
+			for (int c = 0; c < bCols; c++) m.setVal(r, c, result[r * bCols + c]);
+		}
+		return m;
+	}
+
+	/** Returns the transpose of this matrix as a new CSR matrix. */
+	public SparseMatrixCSR transpose() {
+		int nnz = nnz();
+		var tPtr = new int[numCols + 1];
+		for (int p = 0; p < nnz; p++) tPtr[colIdx[p] + 1]++;
+		for (int c = 0; c < numCols; c++) tPtr[c + 1] += tPtr[c];
+
+		var tCols = new int[nnz];
+		var tVals = new double[nnz];
+		var next = Arrays.copyOf(tPtr, numCols);
+
+		// walking rows in order keeps each transposed row sorted by column
+		for (int r = 0; r < numRows; r++) {
+			for (int p = rowPtr[r], end = rowPtr[r + 1]; p < end; p++) {
+				int q = next[colIdx[p]]++;
+				tCols[q] = r;
+				tVals[q] = values[p];
+			}
+		}
+
+		return new SparseMatrixCSR(numCols, numRows, tPtr, tCols, tVals);
+	}
+
+	/** Converts this matrix back into triplet form. */
+	public SparseMatrixCOO toCOO() {
+		var coo = new SparseMatrixCOO(numRows, numCols, nnz());
+		forEach(coo::add);
+		return coo;
+	}
+
+	/** Converts this sparse matrix into a dense {@link Matrix}. */
+	public Matrix toMatrix() {
+		var m = new Matrix(numRows, numCols);
+		forEach(m::setVal);
+		return m;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int numRows() { return numRows; }
+	public int numCols() { return numCols; }
+	/** Returns the number of stored entries. */
+	public int nnz() { return rowPtr[numRows]; }
+	/** Returns the number of stored entries within the given row. */
+	public int rowNnz(int row) { return rowPtr[row + 1] - rowPtr[row]; }
+
+	/** Returns the first storage position of the given row. */
+	public int rowStart(int row) { return rowPtr[row]; }
+	/** Returns the storage position just past the end of the given row. */
+	public int rowEnd(int row) { return rowPtr[row + 1]; }
+	/** Returns the column of the entry at the given storage position. */
+	public int colAt(int pos) { return colIdx[pos]; }
+	/** Returns the value of the entry at the given storage position. */
+	public double valueAt(int pos) { return values[pos]; }
+
+	//----------------
+	// Static Methods
+	//----------------
+
+	/** Creates a builder which collects (row, col, value) triplets. */
+	public static SparseMatrixCOO builder(int numRows, int numCols) {
+		return new SparseMatrixCOO(numRows, numCols);
+	}
+
+	/** Collects every non-zero value of the given dense matrix. */
+	public static SparseMatrixCSR fromMatrix(Matrix m) {
+		return SparseMatrixCOO.fromMatrix(m).toCSR();
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private void multiplyRows(double[] x, double[] y, int fromRow, int toRow) {
+		for (int r = fromRow; r < toRow; r++) {
+			double sum = 0.0;
+			for (int p = rowPtr[r], end = rowPtr[r + 1]; p < end; p++) {
+				sum += values[p] * x[colIdx[p]];
+			}
+			y[r] = sum;
+		}
+	}
+
+	private void checkVector(double[] x, double[] y) {
+		if (x.length < numCols) throw new IllegalArgumentException("Input vector length " + x.length + " is less than " + numCols);
+		if (y.length < numRows) throw new IllegalArgumentException("Output vector length " + y.length + " is less than " + numRows);
+	}
+
+}
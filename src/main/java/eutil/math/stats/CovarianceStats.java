@@ -0,0 +1,129 @@
+package eutil.math.stats;
+
+/**
+ * A single pass accumulator over paired (x, y) values which tracks the
+ * covariance, correlation, and raw sum of products of the two series.
+ *
+ * <p>
+ * Like {@link StreamingStats}, pairs are folded in one at a time using a
+ * Welford style update and two accumulators can be combined with
+ * {@link #merge}. The individual x and y series are tracked by their own
+ * StreamingStats so their means and variances are available as well.
+ *
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class CovarianceStats {
+
+	private final StreamingStats xStats = new StreamingStats();
+	private final StreamingStats yStats = new StreamingStats();
+	private long count;
+	private double meanX, meanY;
+	private double cxy;
+	private double sumOfProducts;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	public CovarianceStats() {}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		return "CovarianceStats[count=" + count + ", covariance=" + getCovariance() + ", correlation=" + getCorrelation() + "]";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Folds the given pair of values into this accumulator. */
+	public CovarianceStats accept(double x, double y) {
+		count++;
+		double dx = x - meanX;
+		meanX += dx / count;
+		meanY += (y - meanY) / count;
+		cxy += dx * (y - meanY);
+		sumOfProducts += x * y;
+		xStats.accept(x);
+		yStats.accept(y);
+		return this;
+	}
+
+	/** Folds each index of the two given arrays in as a pair. */
+	public CovarianceStats accept(double[] xs, double[] ys) {
+		if (xs.length != ys.length) throw new IllegalArgumentException("Both series must be the same length!");
+		return accept(xs, ys, 0, xs.length);
+	}
+
+	/** Folds 'len' pairs of the two given arrays starting at 'off'. */
+	public CovarianceStats accept(double[] xs, double[] ys, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) accept(xs[i], ys[i]);
+		return this;
+	}
+
+	/** Merges the given accumulator's state into this one. */
+	public CovarianceStats merge(CovarianceStats other) {
+		if (other == null || other.count == 0) return this;
+		if (count == 0) {
+			count = other.count;
+			meanX = other.meanX;
+			meanY = other.meanY;
+			cxy = other.cxy;
+		}
+		else {
+			long total = count + other.count;
+			double dx = other.meanX - meanX;
+			double dy = other.meanY - meanY;
+			cxy += other.cxy + dx * dy * ((double) count * other.count / total);
+			meanX += dx * other.count / total;
+			meanY += dy * other.count / total;
+			count = total;
+		}
+		sumOfProducts += other.sumOfProducts;
+		xStats.merge(other.xStats);
+		yStats.merge(other.yStats);
+		return this;
+	}
+
+	/** Resets this accumulator to its empty state. */
+	public CovarianceStats reset() {
+		count = 0;
+		meanX = meanY = cxy = sumOfProducts = 0.0;
+		xStats.reset();
+		yStats.reset();
+		return this;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public long getCount() { return count; }
+	/** Returns the sum of x * y over every accepted pair. */
+	public double getSumOfProducts() { return sumOfProducts; }
+	/** Returns the population covariance, or NaN if empty. */
+	public double getCovariance() { return (count > 0) ? cxy / count : Double.NaN; }
+	/** Returns the sample (n - 1) covariance, or NaN with fewer than 2 pairs. */
+	public double getSampleCovariance() { return (count > 1) ? cxy / (count - 1) : Double.NaN; }
+
+	/** Returns the Pearson correlation coefficient of the two series. */
+	public double getCorrelation() {
+		double sx = xStats.getSumOfSquaredDeviations(), sy = yStats.getSumOfSquaredDeviations();
+		if (count < 2 || sx == 0.0 || sy == 0.0) return Double.NaN;
+		return cxy / Math.sqrt(sx * sy);
+	}
+
+	/** Returns the running statistics of the x series. */
+	public StreamingStats getXStats() { return xStats; }
+	/** Returns the running statistics of the y series. */
+	public StreamingStats getYStats() { return yStats; }
+
+}
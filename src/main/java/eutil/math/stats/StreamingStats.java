@@ -0,0 +1,184 @@
+package eutil.math.stats;
+
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collector;
+
+/**
+ * A single pass accumulator for count, sum, min, max, mean, and variance.
+ *
+ * <p>
+ * Values are folded in one at a time (or as {@code double[]} chunks) using
+ * Welford's algorithm, so the full dataset never needs to be held in
+ * memory and the variance stays numerically stable over unbounded
+ * streams. Two accumulators can be combined with {@link #merge}, which
+ * makes this usable as a parallel reducer:
+ *
+ * <blockquote><pre>
+ *     StreamingStats s = DoubleStream.of(data).parallel()
+ *                            .collect(StreamingStats::new, StreamingStats::accept, StreamingStats::merge);
+ * </pre></blockquote><p>
+ *
+ * This class is not thread safe. Use one instance per thread and merge
+ * them, or use {@link StripedStats} for shared concurrent updates.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class StreamingStats implements DoubleConsumer {
+
+	private long count;
+	private double mean;
+	private double m2;
+	private double sum;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	public StreamingStats() {}
+	public StreamingStats(StreamingStats other) { merge(other); }
+
+	//-----------
+	// Overrides
+	//-----------
+
+	/** Folds the given value into this accumulator. */
+	@Override
+	public void accept(double value) {
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		m2 += delta * (value - mean);
+		sum += value;
+		if (value < min) min = value;
+		if (value > max) max = value;
+	}
+
+	@Override
+	public String toString() {
+		return "StreamingStats[count=" + count + ", mean=" + getMean() + ", stdDev=" + getStdDev() +
+			   ", min=" + getMin() + ", max=" + getMax() + "]";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Folds every value of the given array into this accumulator. */
+	public StreamingStats accept(double[] values) { return accept(values, 0, values.length); }
+
+	/**
+	 * Folds 'len' values of the given array starting at 'off' into this
+	 * accumulator. The chunk is first summarized on its own and then merged
+	 * so that the per value work stays in tight local variables.
+	 */
+	public StreamingStats accept(double[] values, int off, int len) {
+		if (len <= 0) return this;
+
+		long n = 0;
+		double cMean = 0.0, cM2 = 0.0, cSum = 0.0;
+		double cMin = Double.POSITIVE_INFINITY, cMax = Double.NEGATIVE_INFINITY;
+
+		for (int i = off, end = off + len; i < end; i++) {
+			double v = values[i];
+			n++;
+			double delta = v - cMean;
+			cMean += delta / n;
+			cM2 += delta * (v - cMean);
+			cSum += v;
+			if (v < cMin) cMin = v;
+			if (v > cMax) cMax = v;
+		}
+
+		return combine(n, cMean, cM2, cSum, cMin, cMax);
+	}
+
+	/**
+	 * Merges the given accumulator's state into this one using Chan's
+	 * parallel variance formula. The other accumulator is not modified.
+	 */
+	public StreamingStats merge(StreamingStats other) {
+		if (other == null) return this;
+		return combine(other.count, other.mean, other.m2, other.sum, other.min, other.max);
+	}
+
+	/** Resets this accumulator to its empty state. */
+	public StreamingStats reset() {
+		count = 0;
+		mean = m2 = sum = 0.0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+		return this;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public long getCount() { return count; }
+	public double getSum() { return sum; }
+	/** Returns the mean of every accepted value, or NaN if empty. */
+	public double getMean() { return (count > 0) ? mean : Double.NaN; }
+	/** Returns the smallest accepted value, or NaN if empty. */
+	public double getMin() { return (count > 0) ? min : Double.NaN; }
+	/** Returns the largest accepted value, or NaN if empty. */
+	public double getMax() { return (count > 0) ? max : Double.NaN; }
+	/** Returns the population variance, or NaN if empty. */
+	public double getVariance() { return (count > 0) ? m2 / count : Double.NaN; }
+	/** Returns the sample (n - 1) variance, or NaN with fewer than 2 values. */
+	public double getSampleVariance() { return (count > 1) ? m2 / (count - 1) : Double.NaN; }
+	/** Returns the population standard deviation. */
+	public double getStdDev() { return Math.sqrt(getVariance()); }
+	/** Returns the sample standard deviation. */
+	public double getSampleStdDev() { return Math.sqrt(getSampleVariance()); }
+	/** Returns the sum of squared differences from the mean. */
+	public double getSumOfSquaredDeviations() { return m2; }
+
+	//----------------
+	// Static Methods
+	//----------------
+
+	/** Returns a new accumulator containing every value of the given array. */
+	public static StreamingStats of(double... values) {
+		return new StreamingStats().accept(values);
+	}
+
+	/** Returns a collector which reduces a stream of numbers into a StreamingStats. */
+	public static Collector<Number, StreamingStats, StreamingStats> collector() {
+		return Collector.of(StreamingStats::new,
+							(s, n) -> s.accept(n.doubleValue()),
+							StreamingStats::merge,
+							Collector.Characteristics.IDENTITY_FINISH,
+							Collector.Characteristics.UNORDERED);
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private StreamingStats combine(long n, double oMean, double oM2, double oSum, double oMin, double oMax) {
+		if (n == 0) return this;
+		if (count == 0) {
+			count = n;
+			mean = oMean;
+			m2 = oM2;
+			sum = oSum;
+			min = oMin;
+			max = oMax;
+			return this;
+		}
+
+		long total = count + n;
+		double delta = oMean - mean;
+		mean += delta * n / total;
+		m2 += oM2 + delta * delta * ((double) count * n / total);
+		count = total;
+		sum += oSum;
+		if (oMin < min) min = oMin;
+		if (oMax > max) max = oMax;
+		return this;
+	}
+
+}
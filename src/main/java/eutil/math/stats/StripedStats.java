@@ -0,0 +1,120 @@
+package eutil.math.stats;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * A thread safe running statistics accumulator that spreads updates over
+ * several independently locked {@link StreamingStats} cells.
+ *
+ * <p>
+ * Much like {@link java.util.concurrent.atomic.LongAdder}, each updating
+ * thread is mapped onto one of a fixed set of stripes so that concurrent
+ * writers rarely contend on the same lock. Reading the statistics merges
+ * every stripe into a single snapshot, which makes reads more expensive
+ * than writes. This suits telemetry where many threads record values and
+ * results are only read occasionally.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class StripedStats implements DoubleConsumer {
+
+	private final StreamingStats[] cells;
+	private final int mask;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a striped accumulator with one stripe per available processor. */
+	public StripedStats() { this(Runtime.getRuntime().availableProcessors()); }
+
+	/** Creates a striped accumulator with at least the given number of stripes. */
+	public StripedStats(int stripes) {
+		int size = (stripes <= 1) ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+		cells = new StreamingStats[size];
+		for (int i = 0; i < size; i++) cells[i] = new StreamingStats();
+		mask = size - 1;
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	/** Records the given value on the calling thread's stripe. */
+	@Override
+	public void accept(double value) {
+		var cell = cell();
+		synchronized (cell) {
+			cell.accept(value);
+		}
+	}
+
+	@Override
+	public String toString() { return snapshot().toString(); }
+
+	//---------
+	// Methods
+	//---------
+
+	/** Records 'len' values of the given array on the calling thread's stripe. */
+	public void accept(double[] values, int off, int len) {
+		var cell = cell();
+		synchronized (cell) {
+			cell.accept(values, off, len);
+		}
+	}
+
+	/** Records every value of the given array on the calling thread's stripe. */
+	public void accept(double[] values) { accept(values, 0, values.length); }
+
+	/**
+	 * Returns a new accumulator holding the merged state of every stripe.
+	 * Values recorded while the snapshot is being taken may or may not be
+	 * included.
+	 */
+	public StreamingStats snapshot() {
+		var result = new StreamingStats();
+		for (var cell : cells) {
+			synchronized (cell) {
+				result.merge(cell);
+			}
+		}
+		return result;
+	}
+
+	/** Returns a snapshot of every stripe and then resets each of them. */
+	public StreamingStats snapshotAndReset() {
+		var result = new StreamingStats();
+		for (var cell : cells) {
+			synchronized (cell) {
+				result.merge(cell);
+				cell.reset();
+			}
+		}
+		return result;
+	}
+
+	/** Resets every stripe. */
+	public void reset() {
+		for (var cell : cells) {
+			synchronized (cell) {
+				cell.reset();
+			}
+		}
+	}
+
+	public int getStripeCount() { return cells.length; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private StreamingStats cell() {
+		long id = Thread.currentThread().threadId();
+		// spread the thread id so consecutive ids land on different stripes
+		int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+		return cells[(h ^ (h >>> 16)) & mask];
+	}
+
+}
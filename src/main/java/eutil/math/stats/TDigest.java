@@ -0,0 +1,311 @@
+package eutil.math.stats;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * An approximate quantile sketch based on Ted Dunning's merging t-digest.
+ *
+ * <p>
+ * Incoming values are buffered and periodically merged into a small,
+ * sorted set of weighted centroids. Centroids near the tails are kept
+ * small while those near the median are allowed to grow, which keeps
+ * extreme quantiles (p99, p999) accurate while the memory used stays
+ * bounded by the compression factor rather than by the number of values.
+ * Digests can be merged with {@link #merge} so they work as parallel
+ * reducers.
+ *
+ * <blockquote><pre>
+ *     TDigest d = new TDigest(100);
+ *     for (double latency : stream) d.accept(latency);
+ *     double p99 = d.quantile(0.99);
+ * </pre></blockquote><p>
+ *
+ * This class is not thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class TDigest implements DoubleConsumer {
+
+	private final double compression;
+
+	private double[] means;
+	private double[] weights;
+	private int centroids;
+
+	private final double[] bufMeans;
+	private final double[] bufWeights;
+	private int buffered;
+
+	// scratch space used while merging so that compressing never allocates
+	private double[] tmpMeans;
+	private double[] tmpWeights;
+
+	private double totalWeight;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a new digest with a compression factor of 100. */
+	public TDigest() { this(100); }
+
+	/**
+	 * Creates a new digest with the given compression factor. Larger values
+	 * produce more accurate quantiles at the cost of more centroids.
+	 */
+	public TDigest(double compressionIn) {
+		if (compressionIn < 10) compressionIn = 10;
+		compression = compressionIn;
+		int maxCentroids = (int) Math.ceil(compression * Math.PI / 2) + 10;
+		means = new double[maxCentroids];
+		weights = new double[maxCentroids];
+		int bufSize = (int) (compression * 5);
+		bufMeans = new double[bufSize];
+		bufWeights = new double[bufSize];
+		tmpMeans = new double[maxCentroids + bufSize];
+		tmpWeights = new double[maxCentroids + bufSize];
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public void accept(double value) { add(value, 1.0); }
+
+	@Override
+	public String toString() {
+		return "TDigest[count=" + (long) getCount() + ", centroids=" + centroidCount() + ", median=" + quantile(0.5) + "]";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Adds the given value with the given weight. NaN values are ignored. */
+	public TDigest add(double value, double weight) {
+		if (Double.isNaN(value) || weight <= 0) return this;
+		if (buffered == bufMeans.length) compress();
+		bufMeans[buffered] = value;
+		bufWeights[buffered] = weight;
+		buffered++;
+		totalWeight += weight;
+		if (value < min) min = value;
+		if (value > max) max = value;
+		return this;
+	}
+
+	/** Adds every value of the given array. */
+	public TDigest accept(double[] values) { return accept(values, 0, values.length); }
+
+	/** Adds 'len' values of the given array starting at 'off'. */
+	public TDigest accept(double[] values, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) add(values[i], 1.0);
+		return this;
+	}
+
+	/**
+	 * Merges the given digest's centroids into this one. The other digest
+	 * is compressed as a side effect but otherwise left unchanged.
+	 */
+	public TDigest merge(TDigest other) {
+		if (other == null || other.totalWeight == 0) return this;
+		other.compress();
+		for (int i = 0; i < other.centroids; i++) add(other.means[i], other.weights[i]);
+		// centroid means lie inside the other digest's range, so its true extremes must be carried over
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		return this;
+	}
+
+	/**
+	 * Returns the estimated value at the given quantile, where 'q' is
+	 * between 0 and 1. Returns NaN if no values have been added.
+	 */
+	public double quantile(double q) {
+		if (q < 0 || q > 1) throw new IllegalArgumentException("Quantile must be between 0 and 1!");
+		compress();
+		if (centroids == 0) return Double.NaN;
+		if (centroids == 1) return means[0];
+
+		double index = q * totalWeight;
+		if (index <= weights[0] / 2) {
+			return interpolate(min, means[0], index / (weights[0] / 2));
+		}
+
+		double cumulative = weights[0] / 2;
+		for (int i = 0; i < centroids - 1; i++) {
+			double gap = (weights[i] + weights[i + 1]) / 2;
+			if (cumulative + gap >= index) {
+				return interpolate(means[i], means[i + 1], (index - cumulative) / gap);
+			}
+			cumulative += gap;
+		}
+
+		double lastHalf = weights[centroids - 1] / 2;
+		double t = (lastHalf == 0) ? 1.0 : (index - cumulative) / lastHalf;
+		return interpolate(means[centroids - 1], max, Math.min(1.0, t));
+	}
+
+	/** Returns the estimated fraction of values less than or equal to 'x'. */
+	public double cdf(double x) {
+		compress();
+		if (centroids == 0) return Double.NaN;
+		if (x < min) return 0.0;
+		if (x >= max) return 1.0;
+		if (centroids == 1) return (x - min) / (max - min);
+
+		if (x < means[0]) {
+			return (weights[0] / 2) * (x - min) / (means[0] - min) / totalWeight;
+		}
+
+		double cumulative = weights[0] / 2;
+		for (int i = 0; i < centroids - 1; i++) {
+			double gap = (weights[i] + weights[i + 1]) / 2;
+			if (x < means[i + 1]) {
+				double span = means[i + 1] - means[i];
+				double t = (span == 0) ? 1.0 : (x - means[i]) / span;
+				return (cumulative + gap * t) / totalWeight;
+			}
+			cumulative += gap;
+		}
+
+		double lastHalf = weights[centroids - 1] / 2;
+		double span = max - means[centroids - 1];
+		double t = (span == 0) ? 1.0 : (x - means[centroids - 1]) / span;
+		return (cumulative + lastHalf * t) / totalWeight;
+	}
+
+	/** Removes every value from this digest. */
+	public TDigest reset() {
+		centroids = buffered = 0;
+		totalWeight = 0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+		return this;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public double getCompression() { return compression; }
+	/** Returns the total weight of every added value. */
+	public double getCount() { return totalWeight; }
+	public double getMin() { return (totalWeight > 0) ? min : Double.NaN; }
+	public double getMax() { return (totalWeight > 0) ? max : Double.NaN; }
+	/** Returns the number of centroids after merging any buffered values. */
+	public int centroidCount() { compress(); return centroids; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/** Merges every buffered value into the centroid set. */
+	private void compress() {
+		if (buffered == 0) return;
+
+		int n = centroids + buffered;
+		System.arraycopy(means, 0, tmpMeans, 0, centroids);
+		System.arraycopy(weights, 0, tmpWeights, 0, centroids);
+		System.arraycopy(bufMeans, 0, tmpMeans, centroids, buffered);
+		System.arraycopy(bufWeights, 0, tmpWeights, centroids, buffered);
+		buffered = 0;
+		sort(tmpMeans, tmpWeights, 0, n - 1);
+
+		double total = 0;
+		for (int i = 0; i < n; i++) total += tmpWeights[i];
+
+		int out = 0;
+		double curMean = tmpMeans[0], curWeight = tmpWeights[0];
+		double weightSoFar = 0;
+		double qLimit = qOf(kOf(0) + 1) * total;
+
+		for (int i = 1; i < n; i++) {
+			double w = tmpWeights[i];
+			if (weightSoFar + curWeight + w <= qLimit) {
+				curWeight += w;
+				curMean += (tmpMeans[i] - curMean) * w / curWeight;
+			}
+			else {
+				out = emit(out, curMean, curWeight);
+				weightSoFar += curWeight;
+				qLimit = qOf(kOf(weightSoFar / total) + 1) * total;
+				curMean = tmpMeans[i];
+				curWeight = w;
+			}
+		}
+		centroids = emit(out, curMean, curWeight);
+	}
+
+	private int emit(int index, double mean, double weight) {
+		if (index == means.length) {
+			means = Arrays.copyOf(means, index * 2);
+			weights = Arrays.copyOf(weights, index * 2);
+			tmpMeans = Arrays.copyOf(tmpMeans, index * 2 + bufMeans.length);
+			tmpWeights = Arrays.copyOf(tmpWeights, index * 2 + bufMeans.length);
+		}
+		means[index] = mean;
+		weights[index] = weight;
+		return index + 1;
+	}
+
+	/** The k1 scale function which maps a quantile onto the centroid index space. */
+	private double kOf(double q) {
+		return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+	}
+
+	/** The inverse of {@link #kOf(double)}. */
+	private double qOf(double k) {
+		double angle = k * 2 * Math.PI / compression;
+		if (angle >= Math.PI / 2) return 1.0;
+		return (Math.sin(angle) + 1) / 2;
+	}
+
+	private static double interpolate(double a, double b, double t) {
+		return a + (b - a) * t;
+	}
+
+	/** Sorts the paired arrays by mean between the inclusive bounds. */
+	private static void sort(double[] m, double[] w, int lo, int hi) {
+		while (hi - lo > 16) {
+			double pivot = m[(lo + hi) >>> 1];
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (m[i] < pivot) i++;
+				while (m[j] > pivot) j--;
+				if (i <= j) {
+					double t = m[i]; m[i] = m[j]; m[j] = t;
+					t = w[i]; w[i] = w[j]; w[j] = t;
+					i++;
+					j--;
+				}
+			}
+			// recurse into the smaller half to bound the stack depth
+			if (j - lo < hi - i) {
+				sort(m, w, lo, j);
+				lo = i;
+			}
+			else {
+				sort(m, w, i, hi);
+				hi = j;
+			}
+		}
+		for (int i = lo + 1; i <= hi; i++) {
+			double mv = m[i], wv = w[i];
+			int j = i - 1;
+			while (j >= lo && m[j] > mv) {
+				m[j + 1] = m[j];
+				w[j + 1] = w[j];
+				j--;
+			}
+			m[j + 1] = mv;
+			w[j + 1] = wv;
+		}
+	}
+
+}
@@ -0,0 +1,232 @@
+package eutil.math.transforms;
+
+import java.util.stream.IntStream;
+
+import eutil.math.vectors.Vec3f;
+
+/**
+ * The {@code Mat3f} class is a fixed size 3x3 float matrix intended for
+ * rotations, scales, and normal transforms.
+ *
+ * <p>
+ * Values are stored as individual row-major fields where 'mRC' is the
+ * value at row 'R' and column 'C'. Every operation modifies this matrix in
+ * place (or writes into a given destination) and returns it so that
+ * transforms can be composed without allocating intermediate objects.
+ *
+ * <blockquote><pre>
+ *     |m00 m01 m02|
+ *     |m10 m11 m12|
+ *     |m20 m21 m22|
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Mat3f {
+
+	public float m00, m01, m02;
+	public float m10, m11, m12;
+	public float m20, m21, m22;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a new identity matrix. */
+	public Mat3f() { identity(); }
+	public Mat3f(Mat3f m) { set(m); }
+	public Mat3f(Mat4f m) { set(m); }
+
+	public Mat3f(float m00, float m01, float m02,
+				 float m10, float m11, float m12,
+				 float m20, float m21, float m22)
+	{
+		set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		return "|" + m00 + " " + m01 + " " + m02 + "|\n" +
+			   "|" + m10 + " " + m11 + " " + m12 + "|\n" +
+			   "|" + m20 + " " + m21 + " " + m22 + "|";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Sets this matrix to the identity matrix. */
+	public Mat3f identity() {
+		return set(1.0f, 0.0f, 0.0f,
+				   0.0f, 1.0f, 0.0f,
+				   0.0f, 0.0f, 1.0f);
+	}
+
+	/** Sets this matrix to a scale matrix. */
+	public Mat3f scaling(float sx, float sy, float sz) {
+		return set(sx, 0.0f, 0.0f,
+				   0.0f, sy, 0.0f,
+				   0.0f, 0.0f, sz);
+	}
+
+	/** Sets this matrix to the rotation described by the given quaternion. */
+	public Mat3f rotation(Quatf q) {
+		float xx = q.x * q.x, yy = q.y * q.y, zz = q.z * q.z;
+		float xy = q.x * q.y, xz = q.x * q.z, yz = q.y * q.z;
+		float wx = q.w * q.x, wy = q.w * q.y, wz = q.w * q.z;
+		return set(1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+				   2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+				   2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy));
+	}
+
+	/** Returns the determinant of this matrix. */
+	public float determinant() {
+		return m00 * (m11 * m22 - m12 * m21)
+			 - m01 * (m10 * m22 - m12 * m20)
+			 + m02 * (m10 * m21 - m11 * m20);
+	}
+
+	/** Transposes this matrix in place. */
+	public Mat3f transpose() {
+		return set(m00, m10, m20,
+				   m01, m11, m21,
+				   m02, m12, m22);
+	}
+
+	/** Inverts this matrix in place. */
+	public Mat3f invert() { return invert(this); }
+
+	/**
+	 * Writes the inverse of this matrix into the given destination.
+	 *
+	 * @throws ArithmeticException If this matrix is singular
+	 */
+	public Mat3f invert(Mat3f dest) {
+		float c00 = m11 * m22 - m12 * m21;
+		float c01 = m12 * m20 - m10 * m22;
+		float c02 = m10 * m21 - m11 * m20;
+		float det = m00 * c00 + m01 * c01 + m02 * c02;
+		if (det == 0.0f) throw new ArithmeticException("Matrix is not invertible!");
+		float id = 1.0f / det;
+		return dest.set(c00 * id, (m02 * m21 - m01 * m22) * id, (m01 * m12 - m02 * m11) * id,
+						c01 * id, (m00 * m22 - m02 * m20) * id, (m02 * m10 - m00 * m12) * id,
+						c02 * id, (m01 * m20 - m00 * m21) * id, (m00 * m11 - m01 * m10) * id);
+	}
+
+	/** Multiplies this matrix by the given one (this = this * right). */
+	public Mat3f mul(Mat3f right) { return mul(right, this); }
+
+	/** Writes (this * right) into the given destination and returns it. */
+	public Mat3f mul(Mat3f r, Mat3f dest) {
+		return dest.set(m00 * r.m00 + m01 * r.m10 + m02 * r.m20,
+						m00 * r.m01 + m01 * r.m11 + m02 * r.m21,
+						m00 * r.m02 + m01 * r.m12 + m02 * r.m22,
+						m10 * r.m00 + m11 * r.m10 + m12 * r.m20,
+						m10 * r.m01 + m11 * r.m11 + m12 * r.m21,
+						m10 * r.m02 + m11 * r.m12 + m12 * r.m22,
+						m20 * r.m00 + m21 * r.m10 + m22 * r.m20,
+						m20 * r.m01 + m21 * r.m11 + m22 * r.m21,
+						m20 * r.m02 + m21 * r.m12 + m22 * r.m22);
+	}
+
+	/** Multiplies the given matrix by this one (this = left * this). */
+	public Mat3f premul(Mat3f left) { return left.mul(this, this); }
+
+	/**
+	 * Sets this matrix to the normal matrix of the given transform, being the
+	 * inverse transpose of its upper 3x3 portion.
+	 */
+	public Mat3f normal(Mat4f m) { return set(m).invert().transpose(); }
+
+	//------------
+	// Transforms
+	//------------
+
+	/** Transforms the given vector in place and returns it. */
+	public Vec3f transform(Vec3f v) { return transform(v, v); }
+
+	/** Writes the given vector transformed by this matrix into 'dest'. */
+	public Vec3f transform(Vec3f v, Vec3f dest) {
+		float x = v.x, y = v.y, z = v.z;
+		dest.x = m00 * x + m01 * y + m02 * z;
+		dest.y = m10 * x + m11 * y + m12 * z;
+		dest.z = m20 * x + m21 * y + m22 * z;
+		return dest;
+	}
+
+	/** Transforms each of the given vectors in place. */
+	public void transformAll(Vec3f[] vecs) {
+		for (var v : vecs) transform(v, v);
+	}
+
+	/**
+	 * Transforms 'count' packed xyz triples within the given array in place.
+	 */
+	public void transformAll(float[] xyz, int count) { transformAll(xyz, 0, xyz, 0, count); }
+
+	/**
+	 * Transforms 'count' packed xyz triples from 'src' starting at 'srcOff'
+	 * and writes them into 'dst' starting at 'dstOff'. The source and
+	 * destination may be the same array.
+	 */
+	public void transformAll(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+		final float a00 = m00, a01 = m01, a02 = m02;
+		final float a10 = m10, a11 = m11, a12 = m12;
+		final float a20 = m20, a21 = m21, a22 = m22;
+		final int end = srcOff + count * 3;
+
+		for (int s = srcOff, d = dstOff; s < end; s += 3, d += 3) {
+			float x = src[s], y = src[s + 1], z = src[s + 2];
+			dst[d]     = a00 * x + a01 * y + a02 * z;
+			dst[d + 1] = a10 * x + a11 * y + a12 * z;
+			dst[d + 2] = a20 * x + a21 * y + a22 * z;
+		}
+	}
+
+	/**
+	 * Transforms 'count' packed xyz triples in place by splitting the array
+	 * into blocks which are processed in parallel.
+	 */
+	public void transformAllParallel(float[] xyz, int count) {
+		final int block = Mat4f.PARALLEL_BLOCK;
+		if (count <= block) {
+			transformAll(xyz, count);
+			return;
+		}
+		int blocks = (count + block - 1) / block;
+		IntStream.range(0, blocks).parallel().forEach(b -> {
+			int start = b * block;
+			int n = Math.min(block, count - start);
+			transformAll(xyz, start * 3, xyz, start * 3, n);
+		});
+	}
+
+	//---------
+	// Setters
+	//---------
+
+	public Mat3f set(Mat3f m) {
+		return set(m.m00, m.m01, m.m02, m.m10, m.m11, m.m12, m.m20, m.m21, m.m22);
+	}
+
+	/** Sets this matrix to the upper 3x3 portion of the given matrix. */
+	public Mat3f set(Mat4f m) {
+		return set(m.m00, m.m01, m.m02, m.m10, m.m11, m.m12, m.m20, m.m21, m.m22);
+	}
+
+	public Mat3f set(float m00, float m01, float m02,
+					 float m10, float m11, float m12,
+					 float m20, float m21, float m22)
+	{
+		this.m00 = m00; this.m01 = m01; this.m02 = m02;
+		this.m10 = m10; this.m11 = m11; this.m12 = m12;
+		this.m20 = m20; this.m21 = m21; this.m22 = m22;
+		return this;
+	}
+
+}
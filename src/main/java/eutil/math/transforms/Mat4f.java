@@ -0,0 +1,494 @@
+package eutil.math.transforms;
+
+import java.nio.FloatBuffer;
+import java.util.stream.IntStream;
+
+import eutil.math.vectors.Vec3f;
+import eutil.math.vectors.Vec4f;
+
+/**
+ * The {@code Mat4f} class is a fixed size 4x4 float matrix intended for
+ * affine and projective transforms.
+ *
+ * <p>
+ * Values are stored as individual row-major fields where 'mRC' is the
+ * value at row 'R' and column 'C'. Points are treated as column vectors,
+ * so the translation of an affine transform lives in m03, m13, and m23.
+ * Every operation modifies this matrix in place (or writes into a given
+ * destination) and returns it so that transforms can be composed without
+ * allocating intermediate objects.
+ *
+ * <p>
+ * The bulk 'transformAll' methods operate directly on packed float arrays
+ * and buffers and hoist every matrix value into a local before looping so
+ * that large point sets can be transformed without any allocation.
+ *
+ * <blockquote><pre>
+ *     Mat4f m = new Mat4f().translation(1, 2, 3).rotate(q).scale(2, 2, 2);
+ *     m.transformAll(points, pointCount);
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Mat4f {
+
+	/** The number of points each parallel task transforms. */
+	static final int PARALLEL_BLOCK = 1 << 14;
+
+	public float m00, m01, m02, m03;
+	public float m10, m11, m12, m13;
+	public float m20, m21, m22, m23;
+	public float m30, m31, m32, m33;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a new identity matrix. */
+	public Mat4f() { identity(); }
+	public Mat4f(Mat4f m) { set(m); }
+
+	public Mat4f(float m00, float m01, float m02, float m03,
+				 float m10, float m11, float m12, float m13,
+				 float m20, float m21, float m22, float m23,
+				 float m30, float m31, float m32, float m33)
+	{
+		set(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public String toString() {
+		return "|" + m00 + " " + m01 + " " + m02 + " " + m03 + "|\n" +
+			   "|" + m10 + " " + m11 + " " + m12 + " " + m13 + "|\n" +
+			   "|" + m20 + " " + m21 + " " + m22 + " " + m23 + "|\n" +
+			   "|" + m30 + " " + m31 + " " + m32 + " " + m33 + "|";
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Sets this matrix to the identity matrix. */
+	public Mat4f identity() {
+		return set(1.0f, 0.0f, 0.0f, 0.0f,
+				   0.0f, 1.0f, 0.0f, 0.0f,
+				   0.0f, 0.0f, 1.0f, 0.0f,
+				   0.0f, 0.0f, 0.0f, 1.0f);
+	}
+
+	/** Sets this matrix to a translation matrix. */
+	public Mat4f translation(float tx, float ty, float tz) {
+		identity();
+		m03 = tx;
+		m13 = ty;
+		m23 = tz;
+		return this;
+	}
+
+	/** Sets this matrix to a scale matrix. */
+	public Mat4f scaling(float sx, float sy, float sz) {
+		identity();
+		m00 = sx;
+		m11 = sy;
+		m22 = sz;
+		return this;
+	}
+
+	/** Sets this matrix to the rotation described by the given quaternion. */
+	public Mat4f rotation(Quatf q) {
+		float xx = q.x * q.x, yy = q.y * q.y, zz = q.z * q.z;
+		float xy = q.x * q.y, xz = q.x * q.z, yz = q.y * q.z;
+		float wx = q.w * q.x, wy = q.w * q.y, wz = q.w * q.z;
+		return set(1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy), 0.0f,
+				   2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx), 0.0f,
+				   2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy), 0.0f,
+				   0.0f, 0.0f, 0.0f, 1.0f);
+	}
+
+	/**
+	 * Sets this matrix to a combined translation, rotation, and scale
+	 * (T * R * S) without building each matrix separately.
+	 */
+	public Mat4f translationRotateScale(float tx, float ty, float tz, Quatf q, float sx, float sy, float sz) {
+		rotation(q);
+		m00 *= sx; m10 *= sx; m20 *= sx;
+		m01 *= sy; m11 *= sy; m21 *= sy;
+		m02 *= sz; m12 *= sz; m22 *= sz;
+		m03 = tx;
+		m13 = ty;
+		m23 = tz;
+		return this;
+	}
+
+	/** Applies a translation after this transform's existing columns (this = this * T). */
+	public Mat4f translate(float tx, float ty, float tz) {
+		m03 += m00 * tx + m01 * ty + m02 * tz;
+		m13 += m10 * tx + m11 * ty + m12 * tz;
+		m23 += m20 * tx + m21 * ty + m22 * tz;
+		m33 += m30 * tx + m31 * ty + m32 * tz;
+		return this;
+	}
+
+	/** Post multiplies this matrix by a scale matrix (this = this * S). */
+	public Mat4f scale(float sx, float sy, float sz) {
+		m00 *= sx; m10 *= sx; m20 *= sx; m30 *= sx;
+		m01 *= sy; m11 *= sy; m21 *= sy; m31 *= sy;
+		m02 *= sz; m12 *= sz; m22 *= sz; m32 *= sz;
+		return this;
+	}
+
+	/** Post multiplies this matrix by the given rotation (this = this * R). */
+	public Mat4f rotate(Quatf q) {
+		float xx = q.x * q.x, yy = q.y * q.y, zz = q.z * q.z;
+		float xy = q.x * q.y, xz = q.x * q.z, yz = q.y * q.z;
+		float wx = q.w * q.x, wy = q.w * q.y, wz = q.w * q.z;
+		float r00 = 1.0f - 2.0f * (yy + zz), r01 = 2.0f * (xy - wz), r02 = 2.0f * (xz + wy);
+		float r10 = 2.0f * (xy + wz), r11 = 1.0f - 2.0f * (xx + zz), r12 = 2.0f * (yz - wx);
+		float r20 = 2.0f * (xz - wy), r21 = 2.0f * (yz + wx), r22 = 1.0f - 2.0f * (xx + yy);
+		return set(m00 * r00 + m01 * r10 + m02 * r20, m00 * r01 + m01 * r11 + m02 * r21, m00 * r02 + m01 * r12 + m02 * r22, m03,
+				   m10 * r00 + m11 * r10 + m12 * r20, m10 * r01 + m11 * r11 + m12 * r21, m10 * r02 + m11 * r12 + m12 * r22, m13,
+				   m20 * r00 + m21 * r10 + m22 * r20, m20 * r01 + m21 * r11 + m22 * r21, m20 * r02 + m21 * r12 + m22 * r22, m23,
+				   m30 * r00 + m31 * r10 + m32 * r20, m30 * r01 + m31 * r11 + m32 * r21, m30 * r02 + m31 * r12 + m32 * r22, m33);
+	}
+
+	/** Returns true if the bottom row of this matrix is (0, 0, 0, 1). */
+	public boolean isAffine() {
+		return m30 == 0.0f && m31 == 0.0f && m32 == 0.0f && m33 == 1.0f;
+	}
+
+	/** Returns the determinant of this matrix. */
+	public float determinant() {
+		float s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+		float s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+		float c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+		float c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/** Transposes this matrix in place. */
+	public Mat4f transpose() {
+		return set(m00, m10, m20, m30,
+				   m01, m11, m21, m31,
+				   m02, m12, m22, m32,
+				   m03, m13, m23, m33);
+	}
+
+	/** Inverts this matrix in place. */
+	public Mat4f invert() { return invert(this); }
+
+	/**
+	 * Writes the inverse of this matrix into the given destination. Affine
+	 * matrices take a cheaper path which only inverts the upper 3x3 portion.
+	 *
+	 * @throws ArithmeticException If this matrix is singular
+	 */
+	public Mat4f invert(Mat4f dest) {
+		if (isAffine()) return invertAffine(dest);
+
+		float s0 = m00 * m11 - m10 * m01, s1 = m00 * m12 - m10 * m02, s2 = m00 * m13 - m10 * m03;
+		float s3 = m01 * m12 - m11 * m02, s4 = m01 * m13 - m11 * m03, s5 = m02 * m13 - m12 * m03;
+		float c5 = m22 * m33 - m32 * m23, c4 = m21 * m33 - m31 * m23, c3 = m21 * m32 - m31 * m22;
+		float c2 = m20 * m33 - m30 * m23, c1 = m20 * m32 - m30 * m22, c0 = m20 * m31 - m30 * m21;
+
+		float det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+		if (det == 0.0f) throw new ArithmeticException("Matrix is not invertible!");
+		float id = 1.0f / det;
+
+		return dest.set(( m11 * c5 - m12 * c4 + m13 * c3) * id,
+						(-m01 * c5 + m02 * c4 - m03 * c3) * id,
+						( m31 * s5 - m32 * s4 + m33 * s3) * id,
+						(-m21 * s5 + m22 * s4 - m23 * s3) * id,
+						(-m10 * c5 + m12 * c2 - m13 * c1) * id,
+						( m00 * c5 - m02 * c2 + m03 * c1) * id,
+						(-m30 * s5 + m32 * s2 - m33 * s1) * id,
+						( m20 * s5 - m22 * s2 + m23 * s1) * id,
+						( m10 * c4 - m11 * c2 + m13 * c0) * id,
+						(-m00 * c4 + m01 * c2 - m03 * c0) * id,
+						( m30 * s4 - m31 * s2 + m33 * s0) * id,
+						(-m20 * s4 + m21 * s2 - m23 * s0) * id,
+						(-m10 * c3 + m11 * c1 - m12 * c0) * id,
+						( m00 * c3 - m01 * c1 + m02 * c0) * id,
+						(-m30 * s3 + m31 * s1 - m32 * s0) * id,
+						( m20 * s3 - m21 * s1 + m22 * s0) * id);
+	}
+
+	/**
+	 * Writes the inverse of this matrix into the given destination assuming
+	 * that this matrix is affine.
+	 *
+	 * @throws ArithmeticException If this matrix is singular
+	 */
+	public Mat4f invertAffine(Mat4f dest) {
+		float c00 = m11 * m22 - m12 * m21;
+		float c01 = m12 * m20 - m10 * m22;
+		float c02 = m10 * m21 - m11 * m20;
+		float det = m00 * c00 + m01 * c01 + m02 * c02;
+		if (det == 0.0f) throw new ArithmeticException("Matrix is not invertible!");
+		float id = 1.0f / det;
+
+		float i00 = c00 * id, i01 = (m02 * m21 - m01 * m22) * id, i02 = (m01 * m12 - m02 * m11) * id;
+		float i10 = c01 * id, i11 = (m00 * m22 - m02 * m20) * id, i12 = (m02 * m10 - m00 * m12) * id;
+		float i20 = c02 * id, i21 = (m01 * m20 - m00 * m21) * id, i22 = (m00 * m11 - m01 * m10) * id;
+		float tx = m03, ty = m13, tz = m23;
+
+		return dest.set(i00, i01, i02, -(i00 * tx + i01 * ty + i02 * tz),
+						i10, i11, i12, -(i10 * tx + i11 * ty + i12 * tz),
+						i20, i21, i22, -(i20 * tx + i21 * ty + i22 * tz),
+						0.0f, 0.0f, 0.0f, 1.0f);
+	}
+
+	/** Multiplies this matrix by the given one (this = this * right). */
+	public Mat4f mul(Mat4f right) { return mul(right, this); }
+
+	/** Writes (this * right) into the given destination and returns it. */
+	public Mat4f mul(Mat4f r, Mat4f dest) {
+		return dest.set(m00 * r.m00 + m01 * r.m10 + m02 * r.m20 + m03 * r.m30,
+						m00 * r.m01 + m01 * r.m11 + m02 * r.m21 + m03 * r.m31,
+						m00 * r.m02 + m01 * r.m12 + m02 * r.m22 + m03 * r.m32,
+						m00 * r.m03 + m01 * r.m13 + m02 * r.m23 + m03 * r.m33,
+						m10 * r.m00 + m11 * r.m10 + m12 * r.m20 + m13 * r.m30,
+						m10 * r.m01 + m11 * r.m11 + m12 * r.m21 + m13 * r.m31,
+						m10 * r.m02 + m11 * r.m12 + m12 * r.m22 + m13 * r.m32,
+						m10 * r.m03 + m11 * r.m13 + m12 * r.m23 + m13 * r.m33,
+						m20 * r.m00 + m21 * r.m10 + m22 * r.m20 + m23 * r.m30,
+						m20 * r.m01 + m21 * r.m11 + m22 * r.m21 + m23 * r.m31,
+						m20 * r.m02 + m21 * r.m12 + m22 * r.m22 + m23 * r.m32,
+						m20 * r.m03 + m21 * r.m13 + m22 * r.m23 + m23 * r.m33,
+						m30 * r.m00 + m31 * r.m10 + m32 * r.m20 + m33 * r.m30,
+						m30 * r.m01 + m31 * r.m11 + m32 * r.m21 + m33 * r.m31,
+						m30 * r.m02 + m31 * r.m12 + m32 * r.m22 + m33 * r.m32,
+						m30 * r.m03 + m31 * r.m13 + m32 * r.m23 + m33 * r.m33);
+	}
+
+	/** Multiplies the given matrix by this one (this = left * this). */
+	public Mat4f premul(Mat4f left) { return left.mul(this, this); }
+
+	//------------
+	// Transforms
+	//------------
+
+	/** Transforms the given point (w = 1) in place and returns it. */
+	public Vec3f transformPoint(Vec3f v) { return transformPoint(v, v); }
+
+	/**
+	 * Writes the given point (w = 1) transformed by this matrix into 'dest'.
+	 * Non-affine matrices divide the result by the produced w value.
+	 */
+	public Vec3f transformPoint(Vec3f v, Vec3f dest) {
+		float x = v.x, y = v.y, z = v.z;
+		float rx = m00 * x + m01 * y + m02 * z + m03;
+		float ry = m10 * x + m11 * y + m12 * z + m13;
+		float rz = m20 * x + m21 * y + m22 * z + m23;
+		if (!isAffine()) {
+			float iw = 1.0f / (m30 * x + m31 * y + m32 * z + m33);
+			rx *= iw; ry *= iw; rz *= iw;
+		}
+		dest.x = rx;
+		dest.y = ry;
+		dest.z = rz;
+		return dest;
+	}
+
+	/** Transforms the given direction (w = 0) in place and returns it. */
+	public Vec3f transformDirection(Vec3f v) { return transformDirection(v, v); }
+
+	/** Writes the given direction (w = 0) transformed by this matrix into 'dest'. */
+	public Vec3f transformDirection(Vec3f v, Vec3f dest) {
+		float x = v.x, y = v.y, z = v.z;
+		dest.x = m00 * x + m01 * y + m02 * z;
+		dest.y = m10 * x + m11 * y + m12 * z;
+		dest.z = m20 * x + m21 * y + m22 * z;
+		return dest;
+	}
+
+	/** Transforms the given 4 component vector in place and returns it. */
+	public Vec4f transform(Vec4f v) { return transform(v, v); }
+
+	/** Writes the given 4 component vector transformed by this matrix into 'dest'. */
+	public Vec4f transform(Vec4f v, Vec4f dest) {
+		float x = v.x, y = v.y, z = v.z, w = v.w;
+		dest.x = m00 * x + m01 * y + m02 * z + m03 * w;
+		dest.y = m10 * x + m11 * y + m12 * z + m13 * w;
+		dest.z = m20 * x + m21 * y + m22 * z + m23 * w;
+		dest.w = m30 * x + m31 * y + m32 * z + m33 * w;
+		return dest;
+	}
+
+	/** Transforms each of the given points in place. */
+	public void transformAll(Vec3f[] points) {
+		for (var v : points) transformPoint(v, v);
+	}
+
+	/** Transforms each of the given 4 component vectors in place. */
+	public void transformAll(Vec4f[] vecs) {
+		for (var v : vecs) transform(v, v);
+	}
+
+	/**
+	 * Transforms 'count' packed xyz points within the given array in place.
+	 */
+	public void transformAll(float[] xyz, int count) { transformAll(xyz, 0, xyz, 0, count); }
+
+	/**
+	 * Transforms 'count' packed xyz points from 'src' starting at 'srcOff'
+	 * and writes them into 'dst' starting at 'dstOff'. The source and
+	 * destination may be the same array. Non-affine matrices divide each
+	 * point by its produced w value.
+	 */
+	public void transformAll(float[] src, int srcOff, float[] dst, int dstOff, int count) {
+		final float a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+		final float a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+		final float a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+		final int end = srcOff + count * 3;
+
+		if (isAffine()) {
+			for (int s = srcOff, d = dstOff; s < end; s += 3, d += 3) {
+				float x = src[s], y = src[s + 1], z = src[s + 2];
+				dst[d]     = a00 * x + a01 * y + a02 * z + a03;
+				dst[d + 1] = a10 * x + a11 * y + a12 * z + a13;
+				dst[d + 2] = a20 * x + a21 * y + a22 * z + a23;
+			}
+			return;
+		}
+
+		final float a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+		for (int s = srcOff, d = dstOff; s < end; s += 3, d += 3) {
+			float x = src[s], y = src[s + 1], z = src[s + 2];
+			float iw = 1.0f / (a30 * x + a31 * y + a32 * z + a33);
+			dst[d]     = (a00 * x + a01 * y + a02 * z + a03) * iw;
+			dst[d + 1] = (a10 * x + a11 * y + a12 * z + a13) * iw;
+			dst[d + 2] = (a20 * x + a21 * y + a22 * z + a23) * iw;
+		}
+	}
+
+	/**
+	 * Transforms 'count' packed xyzw vectors within the given array in place.
+	 */
+	public void transformAll4(float[] xyzw, int count) {
+		final float a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+		final float a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+		final float a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+		final float a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+		final int end = count * 4;
+
+		for (int i = 0; i < end; i += 4) {
+			float x = xyzw[i], y = xyzw[i + 1], z = xyzw[i + 2], w = xyzw[i + 3];
+			xyzw[i]     = a00 * x + a01 * y + a02 * z + a03 * w;
+			xyzw[i + 1] = a10 * x + a11 * y + a12 * z + a13 * w;
+			xyzw[i + 2] = a20 * x + a21 * y + a22 * z + a23 * w;
+			xyzw[i + 3] = a30 * x + a31 * y + a32 * z + a33 * w;
+		}
+	}
+
+	/**
+	 * Transforms 'count' packed xyz directions (w = 0) within the given array
+	 * in place.
+	 */
+	public void transformAllDirections(float[] xyz, int count) {
+		final float a00 = m00, a01 = m01, a02 = m02;
+		final float a10 = m10, a11 = m11, a12 = m12;
+		final float a20 = m20, a21 = m21, a22 = m22;
+		final int end = count * 3;
+
+		for (int i = 0; i < end; i += 3) {
+			float x = xyz[i], y = xyz[i + 1], z = xyz[i + 2];
+			xyz[i]     = a00 * x + a01 * y + a02 * z;
+			xyz[i + 1] = a10 * x + a11 * y + a12 * z;
+			xyz[i + 2] = a20 * x + a21 * y + a22 * z;
+		}
+	}
+
+	/**
+	 * Transforms 'count' packed xyz points held in the given buffer starting
+	 * at its current position. The buffer's position is not modified.
+	 */
+	public void transformAll(FloatBuffer xyz, int count) {
+		if (xyz.hasArray()) {
+			int off = xyz.arrayOffset() + xyz.position();
+			transformAll(xyz.array(), off, xyz.array(), off, count);
+			return;
+		}
+
+		final float a00 = m00, a01 = m01, a02 = m02, a03 = m03;
+		final float a10 = m10, a11 = m11, a12 = m12, a13 = m13;
+		final float a20 = m20, a21 = m21, a22 = m22, a23 = m23;
+		final float a30 = m30, a31 = m31, a32 = m32, a33 = m33;
+		final boolean affine = isAffine();
+		final int start = xyz.position(), end = start + count * 3;
+
+		for (int i = start; i < end; i += 3) {
+			float x = xyz.get(i), y = xyz.get(i + 1), z = xyz.get(i + 2);
+			float iw = affine ? 1.0f : 1.0f / (a30 * x + a31 * y + a32 * z + a33);
+			xyz.put(i,     (a00 * x + a01 * y + a02 * z + a03) * iw);
+			xyz.put(i + 1, (a10 * x + a11 * y + a12 * z + a13) * iw);
+			xyz.put(i + 2, (a20 * x + a21 * y + a22 * z + a23) * iw);
+		}
+	}
+
+	/**
+	 * Transforms 'count' packed xyz points in place by splitting the array
+	 * into blocks which are processed in parallel.
+	 */
+	public void transformAllParallel(float[] xyz, int count) {
+		final int block = PARALLEL_BLOCK;
+		if (count <= block) {
+			transformAll(xyz, count);
+			return;
+		}
+		int blocks = (count + block - 1) / block;
+		IntStream.range(0, blocks).parallel().forEach(b -> {
+			int start = b * block;
+			int n = Math.min(block, count - start);
+			transformAll(xyz, start * 3, xyz, start * 3, n);
+		});
+	}
+
+	//---------
+	// Setters
+	//---------
+
+	public Mat4f set(Mat4f m) {
+		return set(m.m00, m.m01, m.m02, m.m03,
+				   m.m10, m.m11, m.m12, m.m13,
+				   m.m20, m.m21, m.m22, m.m23,
+				   m.m30, m.m31, m.m32, m.m33);
+	}
+
+	/** Sets the upper 3x3 portion of this matrix and resets the rest to identity. */
+	public Mat4f set(Mat3f m) {
+		return set(m.m00, m.m01, m.m02, 0.0f,
+				   m.m10, m.m11, m.m12, 0.0f,
+				   m.m20, m.m21, m.m22, 0.0f,
+				   0.0f, 0.0f, 0.0f, 1.0f);
+	}
+
+	public Mat4f set(float m00, float m01, float m02, float m03,
+					 float m10, float m11, float m12, float m13,
+					 float m20, float m21, float m22, float m23,
+					 float m30, float m31, float m32, float m33)
+	{
+		this.m00 = m00; this.m01 = m01; this.m02 = m02; this.m03 = m03;
+		this.m10 = m10; this.m11 = m11; this.m12 = m12; this.m13 = m13;
+		this.m20 = m20; this.m21 = m21; this.m22 = m22; this.m23 = m23;
+		this.m30 = m30; this.m31 = m31; this.m32 = m32; this.m33 = m33;
+		return this;
+	}
+
+	/**
+	 * Writes this matrix into the given array in column-major order, as
+	 * expected by most graphics APIs.
+	 */
+	public float[] getColumnMajor(float[] dest, int off) {
+		dest[off]      = m00; dest[off + 1]  = m10; dest[off + 2]  = m20; dest[off + 3]  = m30;
+		dest[off + 4]  = m01; dest[off + 5]  = m11; dest[off + 6]  = m21; dest[off + 7]  = m31;
+		dest[off + 8]  = m02; dest[off + 9]  = m12; dest[off + 10] = m22; dest[off + 11] = m32;
+		dest[off + 12] = m03; dest[off + 13] = m13; dest[off + 14] = m23; dest[off + 15] = m33;
+		return dest;
+	}
+
+}
@@ -0,0 +1,172 @@
+package eutil.math.transforms;
+
+import eutil.math.vectors.Vec3f;
+
+/**
+ * The {@code Quatf} class is a rotation quaternion containing four
+ * {@code float} values: x, y, z, and w.
+ *
+ * <p>
+ * Every operation modifies this quaternion in place (or writes into a
+ * given destination) and returns it so that rotations can be composed
+ * without allocating intermediate objects.
+ *
+ * <blockquote><pre>
+ *     Quatf q = new Quatf().rotationAxis(angle, 0, 1, 0);
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Quatf {
+
+	public float x = 0.0f, y = 0.0f, z = 0.0f, w = 1.0f;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates a new identity quaternion. */
+	public Quatf() {}
+	public Quatf(Quatf q) { set(q); }
+	public Quatf(float xIn, float yIn, float zIn, float wIn) { set(xIn, yIn, zIn, wIn); }
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override public String toString() { return "<" + x + ", " + y + ", " + z + ", " + w + ">"; }
+
+	//---------
+	// Methods
+	//---------
+
+	/** Sets this quaternion to the identity rotation. */
+	public Quatf identity() { return set(0.0f, 0.0f, 0.0f, 1.0f); }
+
+	/**
+	 * Sets this quaternion to a rotation of 'angle' radians around the given
+	 * axis. The axis does not need to be normalized.
+	 */
+	public Quatf rotationAxis(float angle, float axisX, float axisY, float axisZ) {
+		float len = (float) Math.sqrt(axisX * axisX + axisY * axisY + axisZ * axisZ);
+		if (len == 0.0f) return identity();
+		float half = angle * 0.5f;
+		float s = (float) Math.sin(half) / len;
+		return set(axisX * s, axisY * s, axisZ * s, (float) Math.cos(half));
+	}
+
+	public Quatf rotationAxis(float angle, Vec3f axis) { return rotationAxis(angle, axis.x, axis.y, axis.z); }
+	public Quatf rotationX(float angle) { return rotationAxis(angle, 1.0f, 0.0f, 0.0f); }
+	public Quatf rotationY(float angle) { return rotationAxis(angle, 0.0f, 1.0f, 0.0f); }
+	public Quatf rotationZ(float angle) { return rotationAxis(angle, 0.0f, 0.0f, 1.0f); }
+
+	/** Returns the squared length of this quaternion. */
+	public float lengthSquared() { return x * x + y * y + z * z + w * w; }
+
+	/** Returns the length of this quaternion. */
+	public float length() { return (float) Math.sqrt(lengthSquared()); }
+
+	/** Returns the dot product of this quaternion and the given one. */
+	public float dot(Quatf q) { return x * q.x + y * q.y + z * q.z + w * q.w; }
+
+	/** Normalizes this quaternion to unit length. */
+	public Quatf normalize() {
+		float len = length();
+		if (len == 0.0f) return identity();
+		float inv = 1.0f / len;
+		return set(x * inv, y * inv, z * inv, w * inv);
+	}
+
+	/** Negates the vector part of this quaternion. */
+	public Quatf conjugate() { return set(-x, -y, -z, w); }
+
+	/** Inverts this quaternion. For unit quaternions this is the same as the conjugate. */
+	public Quatf invert() {
+		float lenSq = lengthSquared();
+		if (lenSq == 0.0f) return identity();
+		float inv = 1.0f / lenSq;
+		return set(-x * inv, -y * inv, -z * inv, w * inv);
+	}
+
+	/**
+	 * Multiplies this quaternion by the given one (this = this * q). The
+	 * resulting rotation applies 'q' first, then this.
+	 */
+	public Quatf mul(Quatf q) { return mul(q, this); }
+
+	/** Writes (this * q) into the given destination and returns it. */
+	public Quatf mul(Quatf q, Quatf dest) {
+		float nx = w * q.x + x * q.w + y * q.z - z * q.y;
+		float ny = w * q.y - x * q.z + y * q.w + z * q.x;
+		float nz = w * q.z + x * q.y - y * q.x + z * q.w;
+		float nw = w * q.w - x * q.x - y * q.y - z * q.z;
+		return dest.set(nx, ny, nz, nw);
+	}
+
+	/** Multiplies the given quaternion by this one (this = q * this). */
+	public Quatf premul(Quatf q) { return q.mul(this, this); }
+
+	/**
+	 * Spherically interpolates between this quaternion and the target by the
+	 * given amount, storing the result in this quaternion.
+	 */
+	public Quatf slerp(Quatf target, float alpha) {
+		float cos = dot(target);
+		float tx = target.x, ty = target.y, tz = target.z, tw = target.w;
+
+		// take the shortest path around the sphere
+		if (cos < 0.0f) {
+			cos = -cos;
+			tx = -tx; ty = -ty; tz = -tz; tw = -tw;
+		}
+
+		float s0, s1;
+		if (cos > 0.9995f) {
+			// nearly parallel, fall back to linear interpolation
+			s0 = 1.0f - alpha;
+			s1 = alpha;
+		}
+		else {
+			float angle = (float) Math.acos(cos);
+			float invSin = 1.0f / (float) Math.sin(angle);
+			s0 = (float) Math.sin((1.0f - alpha) * angle) * invSin;
+			s1 = (float) Math.sin(alpha * angle) * invSin;
+		}
+
+		set(s0 * x + s1 * tx, s0 * y + s1 * ty, s0 * z + s1 * tz, s0 * w + s1 * tw);
+		return normalize();
+	}
+
+	/** Rotates the given vector by this quaternion in place and returns it. */
+	public Vec3f transform(Vec3f v) { return transform(v, v); }
+
+	/** Writes the given vector rotated by this quaternion into 'dest'. */
+	public Vec3f transform(Vec3f v, Vec3f dest) {
+		// v' = v + 2w(q x v) + 2(q x (q x v))
+		float tx = 2.0f * (y * v.z - z * v.y);
+		float ty = 2.0f * (z * v.x - x * v.z);
+		float tz = 2.0f * (x * v.y - y * v.x);
+		float rx = v.x + w * tx + (y * tz - z * ty);
+		float ry = v.y + w * ty + (z * tx - x * tz);
+		float rz = v.z + w * tz + (x * ty - y * tx);
+		dest.x = rx;
+		dest.y = ry;
+		dest.z = rz;
+		return dest;
+	}
+
+	/** Returns this rotation as a new 3x3 matrix. */
+	public Mat3f toMat3f() { return new Mat3f().rotation(this); }
+
+	/** Returns this rotation as a new 4x4 matrix. */
+	public Mat4f toMat4f() { return new Mat4f().rotation(this); }
+
+	//---------
+	// Setters
+	//---------
+
+	public Quatf set(Quatf q) { return set(q.x, q.y, q.z, q.w); }
+	public Quatf set(float xIn, float yIn, float zIn, float wIn) { x = xIn; y = yIn; z = zIn; w = wIn; return this; }
+
+}
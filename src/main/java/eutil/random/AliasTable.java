@@ -0,0 +1,133 @@
+package eutil.random;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A precomputed table for drawing weighted random indices in constant time
+ * using Walker's alias method (as refined by Vose).
+ *
+ * <p>
+ * Building the table from 'n' weights takes O(n) time, after which every
+ * draw costs one random index, one random double, and at most two array
+ * reads regardless of how skewed the weights are. Tables are immutable and
+ * can be shared between threads, each supplying its own generator.
+ *
+ * <blockquote><pre>
+ *     var table = new AliasTable(0.5, 0.3, 0.2);
+ *     int index = table.next();
+ * </pre></blockquote><p>
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class AliasTable {
+
+	/** The probability of keeping each column's own index rather than its alias. */
+	private final double[] prob;
+	private final int[] alias;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/**
+	 * Builds a table from the given non-negative weights. Weights do not
+	 * need to sum to 1 but at least one of them must be positive.
+	 */
+	public AliasTable(double... weights) {
+		int n = weights.length;
+		if (n == 0) throw new IllegalArgumentException("At least one weight is required!");
+
+		double total = 0;
+		for (double w : weights) {
+			if (!(w >= 0) || Double.isInfinite(w)) throw new IllegalArgumentException("Weights must be finite and non-negative: " + w);
+			total += w;
+		}
+		if (total <= 0) throw new IllegalArgumentException("At least one weight must be positive!");
+
+		prob = new double[n];
+		alias = new int[n];
+
+		// scaled weights above 1 donate probability to those below 1, both tracked as index stacks
+		var scaled = new double[n];
+		var small = new int[n];
+		var large = new int[n];
+		int ns = 0, nl = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = weights[i] * n / total;
+			if (scaled[i] < 1.0) small[ns++] = i;
+			else large[nl++] = i;
+		}
+
+		while (ns > 0 && nl > 0) {
+			int s = small[--ns];
+			int l = large[--nl];
+			prob[s] = scaled[s];
+			alias[s] = l;
+			scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+			if (scaled[l] < 1.0) small[ns++] = l;
+			else large[nl++] = l;
+		}
+
+		// anything left over is only off from 1 by rounding error
+		while (nl > 0) {
+			int l = large[--nl];
+			prob[l] = 1.0;
+			alias[l] = l;
+		}
+		while (ns > 0) {
+			int s = small[--ns];
+			prob[s] = 1.0;
+			alias[s] = s;
+		}
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Draws a weighted random index using the current thread's generator. */
+	public int next() { return next(ThreadLocalRandom.current()); }
+
+	/** Draws a weighted random index using the given generator. */
+	public int next(RandomGenerator rng) {
+		int column = rng.nextInt(prob.length);
+		return (rng.nextDouble() < prob[column]) ? column : alias[column];
+	}
+
+	/** Fills the given array with weighted random indices. */
+	public void fill(RandomGenerator rng, int[] dst) { fill(rng, dst, 0, dst.length); }
+
+	/** Fills 'len' values of the given array starting at 'off' with weighted random indices. */
+	public void fill(RandomGenerator rng, int[] dst, int off, int len) {
+		final double[] p = prob;
+		final int[] a = alias;
+		final int n = p.length;
+		for (int i = off, end = off + len; i < end; i++) {
+			int column = rng.nextInt(n);
+			dst[i] = (rng.nextDouble() < p[column]) ? column : a[column];
+		}
+	}
+
+	/**
+	 * Returns the element of the given list at a weighted random index. The
+	 * list must be the same size as the weights this table was built from.
+	 */
+	public <E> E pick(List<E> items, RandomGenerator rng) {
+		if (items.size() != prob.length) throw new IllegalArgumentException("Expected " + prob.length + " items but got " + items.size());
+		return items.get(next(rng));
+	}
+
+	/** Returns a weighted random element of the given list using the current thread's generator. */
+	public <E> E pick(List<E> items) { return pick(items, ThreadLocalRandom.current()); }
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the number of weights this table was built from. */
+	public int size() { return prob.length; }
+
+}
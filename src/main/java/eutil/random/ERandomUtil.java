@@ -1,7 +1,5 @@
 package eutil.random;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.concurrent.ThreadLocalRandom;
 
 import eutil.math.ENumUtil;
@@ -27,7 +25,7 @@ public final class ERandomUtil {
 	
 	/** Returns the number from a roll within a specified inclusive range boundaries. (ints) */
 	public static int getRoll(int min, int max) {
-		return ThreadLocalRandom.current().nextInt(min, ENumUtil.clamp(max + 1, max, Integer.MAX_VALUE));
+		return RandomSource.nextInt(ThreadLocalRandom.current(), min, max);
 	}
 	
 	/** Returns the number from a roll within a specified inclusive range boundaries. (longs) */
@@ -57,9 +55,7 @@ public final class ERandomUtil {
 	 */
 	public static int[] getNRolls(int nTimes, int min, int max) {
 		int[] arr = new int[nTimes];
-		for (int i = 0; i < nTimes; i++) {
-			arr[i] = getRoll(min, max);
-		}
+		RandomSource.fill(ThreadLocalRandom.current(), arr, 0, nTimes, min, max);
 		return arr;
 	}
 	
@@ -75,9 +71,7 @@ public final class ERandomUtil {
 	 */
 	public static long[] getNRolls(int nTimes, long min, long max) {
 		long[] arr = new long[nTimes];
-		for (int i = 0; i < nTimes; i++) {
-			arr[i] = getRoll(min, max);
-		}
+		RandomSource.fill(ThreadLocalRandom.current(), arr, 0, nTimes, min, max);
 		return arr;
 	}
 	
@@ -93,9 +87,7 @@ public final class ERandomUtil {
 	 */
 	public static double[] getNRolls(int nTimes, double min, double max) {
 		double[] arr = new double[nTimes];
-		for (int i = 0; i < nTimes; i++) {
-			arr[i] = getRoll(min, max);
-		}
+		RandomSource.fill(ThreadLocalRandom.current(), arr, 0, nTimes, min, max);
 		return arr;
 	}
 	
@@ -107,10 +99,7 @@ public final class ERandomUtil {
 	
 	/** Returns a random element from the given iterable object. */
 	public static <E> E getRandVal(Iterable<E> in) {
-		Iterator<E> it = in.iterator();
-		ArrayList<E> a = new ArrayList<>();
-		while (it.hasNext()) a.add(it.next());
-		return a.get(getRoll(0, ENumUtil.clamp(a.size() - 1, 0, a.size() - 1)));
+		return Sampling.pickOne(in);
 	}
 	
 	/** Returns a random boolean value. */
@@ -127,37 +116,7 @@ public final class ERandomUtil {
 	public static char randomChar() { return randomChar(RandStringTypes.ANY); }
 	/** Returns a random char from a specified set of RandStringTypes. */
 	public static char randomChar(RandStringTypes typeIn) {
-		switch (typeIn) {
-		case LETTERS_ALL: return (char) ((roll(1, 0, 1)) ? getRoll(65, 90) : getRoll(97, 122)); //A-Z | a-z
-		case LETTERS_UPPER: return (char) getRoll(65, 90); //A-Z
-		case LETTERS_LOWER: return (char) getRoll(97, 122); //a-z
-		case NUMBERS: return (char) getRoll(48, 57); //0-9
-		case LETALL_NUM:
-			switch (getRoll(0, 2)) {
-			case 0: return (char) getRoll(48, 57); //numbers
-			case 1: return (char) getRoll(65, 90); //A-Z
-			case 2: return (char) getRoll(97, 122); //a-z
-			}
-		case LETUP_NUM:
-			switch (getRoll(0, 1)) {
-			case 0: return (char) getRoll(48, 57); //numbers
-			case 1: return (char) getRoll(65, 90); //A-Z
-			}
-		case LETLOW_NUM:
-			switch (getRoll(0, 1)) {
-			case 0: return (char) getRoll(48, 57); //numbers
-			case 1: return (char) getRoll(97, 122); //a-z
-			}
-		case SYMBOLS:
-			switch (getRoll(0, 3)) {
-			case 0: return (char) getRoll(33, 47); //!-/
-			case 1: return (char) getRoll(58, 64); //:-@
-			case 2: return (char) getRoll(91, 96); //[-`
-			case 3: return (char) getRoll(123, 126); //{-~
-			}
-		case ANY:
-		default: return (char) getRoll(32, 126);
-		}
+		return RandomStrings.of(typeIn).nextChar(ThreadLocalRandom.current());
 	}
 	
 	/** Returns a String that is comprised of randomized, type-able ascii characters. */
@@ -166,11 +125,10 @@ public final class ERandomUtil {
 	public static String randomString(RandStringTypes typeIn) { return randomString(getRoll(5, 30), typeIn); }
 	/** Returns a String of a specified length that is comprised of randomized, type-able ascii characters. */
 	public static String randomString(int length) { return randomString(length, RandStringTypes.ANY); }
-	/** Returns a String of a specified length that is comprised of randomized, type-able ascii characters from a specified set. */
+	/** Returns a String of a specified length that is comprised of randomized, type-able ascii characters from a specified set.
+	 *  A length of 0 or less gives an empty String. */
 	public static String randomString(int length, RandStringTypes typeIn) {
-		String str = "";
-		for (int i = 0; i < length; i++) str += randomChar(typeIn);
-		return str;
+		return RandomStrings.of(typeIn).next(Math.max(0, length));
 	}
 	
 	/** Returns a String that holds a randomized human-esque name. @see RandomNames */
@@ -0,0 +1,289 @@
+package eutil.random;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import eutil.random.ERandomUtil.RandStringTypes;
+
+/**
+ * A random string generator over a fixed alphabet which writes straight
+ * into reusable buffers.
+ *
+ * <p>
+ * Each character is taken from the next few bits of a 64-bit random draw
+ * rather than from its own bounded roll, so one draw yields up to 10
+ * characters of a 62 character alphabet. Bit groups that fall outside the
+ * alphabet are discarded which keeps every character equally likely.
+ *
+ * <blockquote><pre>
+ *     char[] key = new char[22];
+ *     RandomStrings.BASE62.fill(rng, key, 0, key.length);
+ *
+ *     RandomStrings.BASE32_CROCKFORD.generate(1_000_000, 12, rng, id -&gt; writer.append(id));
+ * </pre></blockquote><p>
+ *
+ * Generators are immutable and thread safe, each caller supplying its own
+ * {@link RandomGenerator}. Also provided are UUID formatted strings and
+ * readable "word-word-NNN" codes built from {@link RandomWords}.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class RandomStrings {
+
+	public static final RandomStrings NUMERIC = new RandomStrings("0123456789");
+	public static final RandomStrings HEX = new RandomStrings("0123456789abcdef");
+	public static final RandomStrings BASE62 = new RandomStrings("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+	/** Douglas Crockford's base 32 alphabet which leaves out I, L, O, and U. */
+	public static final RandomStrings BASE32_CROCKFORD = new RandomStrings("0123456789ABCDEFGHJKMNPQRSTVWXYZ");
+
+	private static final RandomStrings[] BY_TYPE = new RandomStrings[RandStringTypes.values().length];
+
+	private final char[] alphabet;
+	/** The alphabet as bytes, or null if it is not entirely ASCII. */
+	private final byte[] asciiAlphabet;
+	private final int bits;
+	private final int mask;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private RandomStrings(String alphabetIn) {
+		if (alphabetIn.isEmpty()) throw new IllegalArgumentException("An alphabet needs at least one character!");
+		alphabet = alphabetIn.toCharArray();
+		bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(alphabet.length - 1));
+		mask = (1 << bits) - 1;
+
+		byte[] ascii = new byte[alphabet.length];
+		for (int i = 0; i < alphabet.length; i++) {
+			if (alphabet[i] > 127) {
+				ascii = null;
+				break;
+			}
+			ascii[i] = (byte) alphabet[i];
+		}
+		asciiAlphabet = ascii;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Returns a generator over the given characters, which may be repeated to weight them. */
+	public static RandomStrings of(String alphabet) { return new RandomStrings(alphabet); }
+
+	/** Returns the shared generator for the given character set. */
+	public static RandomStrings of(RandStringTypes type) {
+		var gen = BY_TYPE[type.ordinal()];
+		if (gen == null) BY_TYPE[type.ordinal()] = gen = new RandomStrings(alphabetOf(type));
+		return gen;
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns a random character of this alphabet. */
+	public char nextChar(RandomGenerator rng) {
+		int v;
+		while ((v = rng.nextInt() & mask) >= alphabet.length);
+		return alphabet[v];
+	}
+
+	/** Returns a new random string of the given length using the current thread's generator. */
+	public String next(int length) { return next(length, ThreadLocalRandom.current()); }
+
+	public String next(int length, RandomGenerator rng) {
+		var buf = new char[length];
+		fill(rng, buf, 0, length);
+		return new String(buf);
+	}
+
+	/** Fills 'len' chars of 'dst' starting at 'off' with random characters. */
+	public void fill(RandomGenerator rng, char[] dst, int off, int len) {
+		final char[] a = alphabet;
+		final int n = a.length, b = bits, m = mask;
+		long r = 0;
+		int avail = 0;
+		for (int i = off, end = off + len; i < end; ) {
+			if (avail < b) {
+				r = rng.nextLong();
+				avail = 64;
+			}
+			int v = (int) r & m;
+			r >>>= b;
+			avail -= b;
+			if (v < n) dst[i++] = a[v];
+		}
+	}
+
+	/**
+	 * Fills 'len' bytes of 'dst' starting at 'off' with random ASCII
+	 * characters.
+	 *
+	 * @throws IllegalStateException if this alphabet is not entirely ASCII
+	 */
+	public void fill(RandomGenerator rng, byte[] dst, int off, int len) {
+		final byte[] a = asciiAlphabet;
+		if (a == null) throw new IllegalStateException("Only ASCII alphabets can be written as bytes!");
+		final int n = a.length, b = bits, m = mask;
+		long r = 0;
+		int avail = 0;
+		for (int i = off, end = off + len; i < end; ) {
+			if (avail < b) {
+				r = rng.nextLong();
+				avail = 64;
+			}
+			int v = (int) r & m;
+			r >>>= b;
+			avail -= b;
+			if (v < n) dst[i++] = a[v];
+		}
+	}
+
+	/** Appends 'len' random characters to the given output. */
+	public void appendTo(Appendable out, int len, RandomGenerator rng) {
+		var buf = new char[Math.min(len, 256)];
+		var seq = CharBuffer.wrap(buf);
+		try {
+			for (int done = 0; done < len; ) {
+				int n = Math.min(buf.length, len - done);
+				fill(rng, buf, 0, n);
+				out.append(seq, 0, n);
+				done += n;
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Generates 'count' random strings of the given length, passing each one
+	 * to the given consumer. A single buffer is reused for every string so
+	 * the sequence given to the consumer is only valid until it returns,
+	 * call toString() on it to keep it.
+	 */
+	public void generate(int count, int len, Consumer<CharSequence> sink) {
+		generate(count, len, ThreadLocalRandom.current(), sink);
+	}
+
+	public void generate(int count, int len, RandomGenerator rng, Consumer<CharSequence> sink) {
+		var buf = new char[len];
+		var seq = CharBuffer.wrap(buf);
+		for (int i = 0; i < count; i++) {
+			fill(rng, buf, 0, len);
+			sink.accept(seq.clear());
+		}
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the number of characters in this alphabet. */
+	public int size() { return alphabet.length; }
+	public String getAlphabet() { return new String(alphabet); }
+
+	//----------------
+	// Static Formats
+	//----------------
+
+	/** Returns a random version 4 UUID formatted string using the current thread's generator. */
+	public static String uuid() { return uuid(ThreadLocalRandom.current()); }
+
+	public static String uuid(RandomGenerator rng) {
+		var buf = new char[36];
+		uuid(rng, buf, 0);
+		return new String(buf);
+	}
+
+	/**
+	 * Writes a random version 4 UUID formatted as 36 characters, such as
+	 * "3f2b8c1e-9d4a-4e7b-a0c5-6e1f2d3c4b5a", into 'dst' at 'off'.
+	 */
+	public static void uuid(RandomGenerator rng, char[] dst, int off) {
+		final char[] hex = HEX.alphabet;
+		// version 4 in the 13th digit and variant 10xx in the 17th, as UUID.randomUUID() does
+		long hi = (rng.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+		long lo = (rng.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+		int p = off;
+		for (int i = 0; i < 16; i++) {
+			if (i == 8 || i == 12) dst[p++] = '-';
+			dst[p++] = hex[(int) (hi >>> (60 - 4 * i)) & 0xf];
+		}
+		for (int i = 0; i < 16; i++) {
+			if (i == 0 || i == 4) dst[p++] = '-';
+			dst[p++] = hex[(int) (lo >>> (60 - 4 * i)) & 0xf];
+		}
+	}
+
+	/** Returns a readable code such as "apple-bridge-042" using the current thread's generator. */
+	public static String wordCode() { return wordCode(ThreadLocalRandom.current()); }
+
+	public static String wordCode(RandomGenerator rng) {
+		var sb = new StringBuilder(24);
+		wordCode(sb, rng);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends two random lower case words from {@link RandomWords} and a
+	 * three digit number, all separated by dashes. Spaces within words are
+	 * also written as dashes.
+	 */
+	public static void wordCode(Appendable out, RandomGenerator rng) {
+		var words = RandomWords.list();
+		try {
+			appendWord(out, words.get(rng.nextInt(words.size())));
+			out.append('-');
+			appendWord(out, words.get(rng.nextInt(words.size())));
+			out.append('-');
+			int n = rng.nextInt(1000);
+			out.append((char) ('0' + n / 100)).append((char) ('0' + n / 10 % 10)).append((char) ('0' + n % 10));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static void appendWord(Appendable out, String word) throws IOException {
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			out.append((c == ' ') ? '-' : Character.toLowerCase(c));
+		}
+	}
+
+	private static String alphabetOf(RandStringTypes type) {
+		final String upper = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+		final String lower = "abcdefghijklmnopqrstuvwxyz";
+		final String digits = "0123456789";
+		return switch (type) {
+		case LETTERS_ALL -> upper + lower;
+		case LETTERS_UPPER -> upper;
+		case LETTERS_LOWER -> lower;
+		case NUMBERS -> digits;
+		case LETALL_NUM -> digits + upper + lower;
+		case LETUP_NUM -> digits + upper;
+		case LETLOW_NUM -> digits + lower;
+		case SYMBOLS -> range('!', '/') + range(':', '@') + range('[', '`') + range('{', '~');
+		case ANY -> range(' ', '~');
+		};
+	}
+
+	private static String range(char from, char to) {
+		var sb = new StringBuilder(to - from + 1);
+		for (char c = from; c <= to; c++) sb.append(c);
+		return sb.toString();
+	}
+
+}
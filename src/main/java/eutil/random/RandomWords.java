@@ -1,9 +1,10 @@
 package eutil.random;
 
-import eutil.datatypes.EArrayList;
-
 /**
  * A collection of unique randomly generated words.
+ * <p>
+ * The words are packed into a {@link WordList} read from the 'words.txt'
+ * resource the first time one is requested.
  * 
  * @author Hunter Bragg
  * @since 1.0.0
@@ -17,251 +18,15 @@ public final class RandomWords {
 	
 	//----------------------------
 	
-	private static EArrayList<String> words = new EArrayList<>();
+	public static String get() { return list().random(); }
 	
-	public static String get() { return words.get(ERandomUtil.getRoll(0, words.size() - 1)); }
+	/** Returns the packed list of words, loading it on first use. */
+	public static WordList list() { return Holder.WORDS; }
 	
 	//----------------------------
 	
-	static {
-		words.add("Adult");
-		words.add("Aeroplane");
-		words.add("Air");
-		words.add("Aircraft Carrier");
-		words.add("Airforce");
-		words.add("Airport");
-		words.add("Album");
-		words.add("Alphabet");
-		words.add("Apple");
-		words.add("Arm");
-		words.add("Army");
-		words.add("Baby");
-		words.add("Backpack");
-		words.add("Balloon");
-		words.add("Banana");
-		words.add("Bank");
-		words.add("Barbecue");
-		words.add("Bathroom");
-		words.add("Bathtub");
-		words.add("Bed");
-		words.add("Bee");
-		words.add("Bible");
-		words.add("Bird");
-		words.add("Bomb");
-		words.add("Book");
-		words.add("Boss");
-		words.add("Bottle");
-		words.add("Bowl");
-		words.add("Box");
-		words.add("Boy");
-		words.add("Brain");
-		words.add("Bridge");
-		words.add("Butterfly");
-		words.add("Button");
-		words.add("Cappuccino");
-		words.add("Car");
-		words.add("Car-race");
-		words.add("Carpet");
-		words.add("Carror");
-		words.add("Cave");
-		words.add("Chair");
-		words.add("Chess Board");
-		words.add("Chief");
-		words.add("Child");
-		words.add("Chisel");
-		words.add("Chocolates");
-		words.add("Church");
-		words.add("Circle");
-		words.add("Circus");
-		words.add("Clock");
-		words.add("Clown");
-		words.add("Coffee");
-		words.add("Coffee-shop");
-		words.add("Comet");
-		words.add("Compact Disc");
-		words.add("Compass");
-		words.add("Computer");
-		words.add("Crystal");
-		words.add("Cup");
-		words.add("Cycle");
-		words.add("Data");
-		words.add("Base");
-		words.add("Desk");
-		words.add("Diamond");
-		words.add("Dress");
-		words.add("Drill");
-		words.add("Drink");
-		words.add("Drum");
-		words.add("Dung");
-		words.add("Ears");
-		words.add("Earth");
-		words.add("Egg");
-		words.add("Electricity");
-		words.add("Elephant");
-		words.add("Eraser");
-		words.add("Explosive");
-		words.add("Eyes");
-		words.add("Family");
-		words.add("Fan");
-		words.add("Feather");
-		words.add("Festival");
-		words.add("Film");
-		words.add("Finger");
-		words.add("Fire");
-		words.add("Floodlight");
-		words.add("Flower");
-		words.add("Foot");
-		words.add("Fork");
-		words.add("Freeway");
-		words.add("Fruit");
-		words.add("Fungus");
-		words.add("Game");
-		words.add("Garden");
-		words.add("Gas");
-		words.add("Gate");
-		words.add("Gemstone");
-		words.add("Girl");
-		words.add("Gloves");
-		words.add("God");
-		words.add("Grapes");
-		words.add("Guitar");
-		words.add("Hammer");
-		words.add("Hat");
-		words.add("Hieroglyph");
-		words.add("Highway");
-		words.add("Horoscope");
-		words.add("Horse");
-		words.add("Hose");
-		words.add("Ice");
-		words.add("Ice-cream");
-		words.add("Insect");
-		words.add("Jet");
-		words.add("fighter");
-		words.add("Junk");
-		words.add("Kaleidoscope");
-		words.add("Kitchen");
-		words.add("Knife");
-		words.add("Leather");
-		words.add("jacket");
-		words.add("Leg");
-		words.add("Library");
-		words.add("Liquid");
-		words.add("Magnet");
-		words.add("Man");
-		words.add("Map");
-		words.add("Maze");
-		words.add("Meat");
-		words.add("Meteor");
-		words.add("Microscope");
-		words.add("Milk");
-		words.add("Milkshake");
-		words.add("Mist");
-		words.add("Money");
-		words.add("$$$$");
-		words.add("Monster");
-		words.add("Mosquito");
-		words.add("Mouth");
-		words.add("Nail");
-		words.add("Navy");
-		words.add("Necklace");
-		words.add("Needle");
-		words.add("Onion");
-		words.add("PaintBrush");
-		words.add("Pants");
-		words.add("Parachute");
-		words.add("Passport");
-		words.add("Pebble");
-		words.add("Pendulum");
-		words.add("Pepper");
-		words.add("Perfume");
-		words.add("Pillow");
-		words.add("Plane");
-		words.add("Planet");
-		words.add("Pocket");
-		words.add("Post-office");
-		words.add("Potato");
-		words.add("Printer");
-		words.add("Prison");
-		words.add("Pyramid");
-		words.add("Radar");
-		words.add("Rainbow");
-		words.add("Record");
-		words.add("Restaurant");
-		words.add("Rifle");
-		words.add("Ring");
-		words.add("Robot");
-		words.add("Rock");
-		words.add("Rocket");
-		words.add("Roof");
-		words.add("Room");
-		words.add("Rope");
-		words.add("Saddle");
-		words.add("Salt");
-		words.add("Sandpaper");
-		words.add("Sandwich");
-		words.add("Satellite");
-		words.add("School");
-		words.add("Sex");
-		words.add("Ship");
-		words.add("Shoes");
-		words.add("Shop");
-		words.add("Shower");
-		words.add("Signature");
-		words.add("Skeleton");
-		words.add("Slave");
-		words.add("Snail");
-		words.add("Software");
-		words.add("Solid");
-		words.add("Space");
-		words.add("Shuttle");
-		words.add("Spectrum");
-		words.add("Sphere");
-		words.add("Spice");
-		words.add("Spiral");
-		words.add("Spoon");
-		words.add("Sports-car");
-		words.add("Spot");
-		words.add("Light");
-		words.add("Square");
-		words.add("Staircase");
-		words.add("Star");
-		words.add("Stomach");
-		words.add("Sun");
-		words.add("Sunglasses");
-		words.add("Surveyor");
-		words.add("Swimming");
-		words.add("Pool");
-		words.add("Sword");
-		words.add("Table");
-		words.add("Tapestry");
-		words.add("Teeth");
-		words.add("Telescope");
-		words.add("Television");
-		words.add("Tennis");
-		words.add("racquet");
-		words.add("Thermometer");
-		words.add("Tiger");
-		words.add("Toilet");
-		words.add("Tongue");
-		words.add("Torch");
-		words.add("Torpedo");
-		words.add("Train");
-		words.add("Treadmill");
-		words.add("Triangle");
-		words.add("Tunnel");
-		words.add("Typewriter");
-		words.add("Umbrella");
-		words.add("Vacuum");
-		words.add("Vampire");
-		words.add("Videotape");
-		words.add("Vulture");
-		words.add("Water");
-		words.add("Weapon");
-		words.add("Web");
-		words.add("Wheelchair");
-		words.add("Window");
-		words.add("Woman");
-		words.add("Worm");
-		words.add("X-ray");
+	private static final class Holder {
+		static final WordList WORDS = WordList.fromResource(RandomWords.class, "words.txt");
 	}
+	
 }
@@ -0,0 +1,321 @@
+package eutil.random;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.EList;
+
+/**
+ * A static library of random sampling algorithms.
+ *
+ * <ul>
+ * <li>Reservoir sampling (Li's Algorithm L) draws 'k' uniformly random
+ * items from an {@link Iterable}, {@link Stream}, or primitive stream of
+ * unknown length in a single pass. Only the 'k' chosen items are ever
+ * held in memory, and the number of random values consumed grows with
+ * O(k log(n / k)) rather than with the length of the input.
+ * <li>Without replacement sampling (Floyd's algorithm) picks 'k' distinct
+ * indices out of 'n' using O(k) time and memory, then maps them onto a
+ * list or primitive array.
+ * <li>Weighted sampling is provided by {@link AliasTable}.
+ * </ul>
+ *
+ * Every method has an overload taking a {@link RandomGenerator} so that
+ * seeded {@link RandomSource} generators can be used for reproducible
+ * results; the remaining overloads use {@link ThreadLocalRandom}. Sampled
+ * items are returned in random order.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class Sampling {
+
+	private Sampling() {}
+
+	//--------------------
+	// Reservoir Sampling
+	//--------------------
+
+	/**
+	 * Returns one uniformly random element of the given iterable, or null if
+	 * it is empty. Random access lists are indexed directly, anything else
+	 * is read once without being copied.
+	 */
+	public static <E> E pickOne(Iterable<E> in) { return pickOne(in, ThreadLocalRandom.current()); }
+
+	public static <E> E pickOne(Iterable<E> in, RandomGenerator rng) {
+		if (in instanceof List<E> list && in instanceof RandomAccess) {
+			return (list.isEmpty()) ? null : list.get(rng.nextInt(list.size()));
+		}
+		var picked = reservoir(in.iterator(), 1, rng);
+		return (picked.isEmpty()) ? null : picked.get(0);
+	}
+
+	/** Returns up to 'k' uniformly random elements of the given iterable. */
+	public static <E> EList<E> reservoir(Iterable<E> in, int k) { return reservoir(in.iterator(), k, ThreadLocalRandom.current()); }
+	public static <E> EList<E> reservoir(Iterable<E> in, int k, RandomGenerator rng) { return reservoir(in.iterator(), k, rng); }
+
+	/**
+	 * Returns up to 'k' uniformly random elements of the given stream. The
+	 * stream is consumed sequentially through its iterator and is never
+	 * buffered.
+	 */
+	public static <E> EList<E> reservoir(Stream<E> in, int k) { return reservoir(in.iterator(), k, ThreadLocalRandom.current()); }
+	public static <E> EList<E> reservoir(Stream<E> in, int k, RandomGenerator rng) { return reservoir(in.iterator(), k, rng); }
+
+	/** Returns up to 'k' uniformly random elements from the remainder of the given iterator. */
+	public static <E> EList<E> reservoir(Iterator<E> it, int k, RandomGenerator rng) {
+		checkK(k);
+		var out = new EArrayList<E>(k);
+		while (out.size() < k && it.hasNext()) out.add(it.next());
+		if (out.size() < k || k == 0) {
+			shuffle(out, rng);
+			return out;
+		}
+
+		double w = Math.exp(Math.log(uniform(rng)) / k);
+		scan:
+		while (true) {
+			long skip = skip(rng, w);
+			for (long s = 0; s < skip; s++) {
+				if (!it.hasNext()) break scan;
+				it.next();
+			}
+			if (!it.hasNext()) break;
+			out.set(rng.nextInt(k), it.next());
+			w *= Math.exp(Math.log(uniform(rng)) / k);
+		}
+
+		// replacements land in random slots but untouched slots keep their input order
+		shuffle(out, rng);
+		return out;
+	}
+
+	/** Returns up to 'k' uniformly random values of the given stream without buffering it. */
+	public static int[] reservoir(IntStream in, int k) { return reservoir(in, k, ThreadLocalRandom.current()); }
+
+	public static int[] reservoir(IntStream in, int k, RandomGenerator rng) {
+		checkK(k);
+		PrimitiveIterator.OfInt it = in.iterator();
+		var out = new int[k];
+		int n = 0;
+		while (n < k && it.hasNext()) out[n++] = it.nextInt();
+		if (n < k || k == 0) {
+			out = Arrays.copyOf(out, n);
+			shuffle(out, rng);
+			return out;
+		}
+
+		double w = Math.exp(Math.log(uniform(rng)) / k);
+		scan:
+		while (true) {
+			long skip = skip(rng, w);
+			for (long s = 0; s < skip; s++) {
+				if (!it.hasNext()) break scan;
+				it.nextInt();
+			}
+			if (!it.hasNext()) break;
+			out[rng.nextInt(k)] = it.nextInt();
+			w *= Math.exp(Math.log(uniform(rng)) / k);
+		}
+
+		// replacements land in random slots but untouched slots keep their input order
+		shuffle(out, rng);
+		return out;
+	}
+
+	/** Returns up to 'k' uniformly random values of the given stream without buffering it. */
+	public static double[] reservoir(DoubleStream in, int k) { return reservoir(in, k, ThreadLocalRandom.current()); }
+
+	public static double[] reservoir(DoubleStream in, int k, RandomGenerator rng) {
+		checkK(k);
+		PrimitiveIterator.OfDouble it = in.iterator();
+		var out = new double[k];
+		int n = 0;
+		while (n < k && it.hasNext()) out[n++] = it.nextDouble();
+		if (n < k || k == 0) {
+			out = Arrays.copyOf(out, n);
+			shuffle(out, rng);
+			return out;
+		}
+
+		double w = Math.exp(Math.log(uniform(rng)) / k);
+		scan:
+		while (true) {
+			long skip = skip(rng, w);
+			for (long s = 0; s < skip; s++) {
+				if (!it.hasNext()) break scan;
+				it.nextDouble();
+			}
+			if (!it.hasNext()) break;
+			out[rng.nextInt(k)] = it.nextDouble();
+			w *= Math.exp(Math.log(uniform(rng)) / k);
+		}
+
+		// replacements land in random slots but untouched slots keep their input order
+		shuffle(out, rng);
+		return out;
+	}
+
+	//------------------------------
+	// Sampling Without Replacement
+	//------------------------------
+
+	/**
+	 * Returns 'k' distinct indices between 0 (inclusive) and 'n' (exclusive)
+	 * in random order using Floyd's algorithm.
+	 */
+	public static int[] sampleIndices(int n, int k) { return sampleIndices(n, k, ThreadLocalRandom.current()); }
+
+	public static int[] sampleIndices(int n, int k, RandomGenerator rng) {
+		checkK(k);
+		if (k > n) throw new IllegalArgumentException("Cannot sample " + k + " distinct values from " + n + "!");
+
+		var out = new int[k];
+		var seen = new IntSet(k);
+		int count = 0;
+		for (int j = n - k; j < n; j++) {
+			int t = rng.nextInt(j + 1);
+			int pick = seen.add(t) ? t : j;
+			if (pick == j) seen.add(j);
+			out[count++] = pick;
+		}
+
+		// Floyd's selection order is biased towards larger values last, so shuffle it
+		shuffle(out, rng);
+		return out;
+	}
+
+	/** Returns 'k' distinct random elements of the given list. */
+	public static <E> EList<E> sample(List<E> in, int k) { return sample(in, k, ThreadLocalRandom.current()); }
+
+	public static <E> EList<E> sample(List<E> in, int k, RandomGenerator rng) {
+		if (!(in instanceof RandomAccess)) return reservoir(in, k, rng);
+		var indices = sampleIndices(in.size(), Math.min(k, in.size()), rng);
+		var out = new EArrayList<E>(indices.length);
+		for (int i : indices) out.add(in.get(i));
+		return out;
+	}
+
+	/** Returns 'k' values from distinct random positions of the given array. */
+	public static int[] sample(int[] in, int k) { return sample(in, k, ThreadLocalRandom.current()); }
+
+	public static int[] sample(int[] in, int k, RandomGenerator rng) {
+		var indices = sampleIndices(in.length, Math.min(k, in.length), rng);
+		for (int i = 0; i < indices.length; i++) indices[i] = in[indices[i]];
+		return indices;
+	}
+
+	/** Returns 'k' values from distinct random positions of the given array. */
+	public static long[] sample(long[] in, int k) { return sample(in, k, ThreadLocalRandom.current()); }
+
+	public static long[] sample(long[] in, int k, RandomGenerator rng) {
+		var indices = sampleIndices(in.length, Math.min(k, in.length), rng);
+		var out = new long[indices.length];
+		for (int i = 0; i < indices.length; i++) out[i] = in[indices[i]];
+		return out;
+	}
+
+	/** Returns 'k' values from distinct random positions of the given array. */
+	public static double[] sample(double[] in, int k) { return sample(in, k, ThreadLocalRandom.current()); }
+
+	public static double[] sample(double[] in, int k, RandomGenerator rng) {
+		var indices = sampleIndices(in.length, Math.min(k, in.length), rng);
+		var out = new double[indices.length];
+		for (int i = 0; i < indices.length; i++) out[i] = in[indices[i]];
+		return out;
+	}
+
+	/**
+	 * Returns 'k' weighted random elements of the given collection, drawn
+	 * with replacement from a freshly built {@link AliasTable}. Build the
+	 * table once with {@code new AliasTable(weights)} when sampling
+	 * repeatedly from the same weights.
+	 */
+	public static <E> EList<E> weighted(Collection<E> items, double[] weights, int k, RandomGenerator rng) {
+		var list = (items instanceof List<E> l && items instanceof RandomAccess) ? l : new EArrayList<>(items);
+		var table = new AliasTable(weights);
+		var out = new EArrayList<E>(k);
+		for (int i = 0; i < k; i++) out.add(table.pick(list, rng));
+		return out;
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static void checkK(int k) {
+		if (k < 0) throw new IllegalArgumentException("Sample size cannot be negative: " + k);
+	}
+
+	/** Returns a uniform double in (0, 1] so that its logarithm is always finite. */
+	private static double uniform(RandomGenerator rng) {
+		return 1.0 - rng.nextDouble();
+	}
+
+	/** Returns the number of items Algorithm L skips before the next replacement. */
+	private static long skip(RandomGenerator rng, double w) {
+		double s = Math.floor(Math.log(uniform(rng)) / Math.log1p(-w));
+		return (s >= Long.MAX_VALUE) ? Long.MAX_VALUE : (long) s;
+	}
+
+	private static <E> void shuffle(List<E> list, RandomGenerator rng) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			int j = rng.nextInt(i + 1);
+			E t = list.get(i);
+			list.set(i, list.get(j));
+			list.set(j, t);
+		}
+	}
+
+	private static void shuffle(int[] arr, RandomGenerator rng) {
+		for (int i = arr.length - 1; i > 0; i--) {
+			int j = rng.nextInt(i + 1);
+			int t = arr[i]; arr[i] = arr[j]; arr[j] = t;
+		}
+	}
+
+	private static void shuffle(double[] arr, RandomGenerator rng) {
+		for (int i = arr.length - 1; i > 0; i--) {
+			int j = rng.nextInt(i + 1);
+			double t = arr[i]; arr[i] = arr[j]; arr[j] = t;
+		}
+	}
+
+	/** A minimal open addressing set of non-negative ints used by Floyd's algorithm. */
+	private static final class IntSet {
+		private final int[] slots;
+		private final int mask;
+		private final int shift;
+
+		IntSet(int expected) {
+			int cap = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+			slots = new int[cap];
+			Arrays.fill(slots, -1);
+			mask = cap - 1;
+			shift = 32 - Integer.numberOfTrailingZeros(cap);
+		}
+
+		/** Adds the value and returns true if it was not already present. */
+		boolean add(int v) {
+			int i = (v * 0x9E3779B9) >>> shift;
+			while (slots[i] != -1) {
+				if (slots[i] == v) return false;
+				i = (i + 1) & mask;
+			}
+			slots[i] = v;
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+package eutil.random;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * An immutable list of strings packed into a single UTF-8 byte array.
+ *
+ * <p>
+ * Entries are stored back to back with one int marking where each one
+ * ends, so a list costs little more than its UTF-8 text no matter how many
+ * entries it holds. Strings are only created when an entry is read:
+ * {@link #get(int)} and {@link #random()} decode the one entry they
+ * return and nothing else.
+ *
+ * <p>
+ * Lists are read from newline separated UTF-8 text where blank lines are
+ * skipped. Named lists can be registered with {@link #register} and looked
+ * up with {@link #named(String)}. The built in {@code "words"} and
+ * {@code "names"} lists back {@link RandomWords} and {@link RandomNames}
+ * and are not loaded until they are first used.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class WordList {
+
+	private static final ConcurrentHashMap<String, Supplier<WordList>> REGISTRY = new ConcurrentHashMap<>();
+
+	static {
+		REGISTRY.put("words", RandomWords::list);
+		REGISTRY.put("names", RandomNames::list);
+	}
+
+	/** Every entry's UTF-8 bytes without separators. */
+	private final byte[] data;
+	/** ends[i] is the offset just past entry 'i'. */
+	private final int[] ends;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private WordList(byte[] dataIn, int[] endsIn) {
+		data = dataIn;
+		ends = endsIn;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Packs the given newline separated UTF-8 text. */
+	public static WordList of(byte[] utf8Lines) {
+		var data = new byte[utf8Lines.length];
+		var ends = new int[16];
+		int len = 0, count = 0;
+		int start = 0;
+
+		for (int i = 0; i <= utf8Lines.length; i++) {
+			if (i < utf8Lines.length && utf8Lines[i] != '\n') continue;
+			int end = i;
+			if (end > start && utf8Lines[end - 1] == '\r') end--;
+			if (end > start) {
+				System.arraycopy(utf8Lines, start, data, len, end - start);
+				len += end - start;
+				if (count == ends.length) ends = Arrays.copyOf(ends, count * 2);
+				ends[count++] = len;
+			}
+			start = i + 1;
+		}
+
+		return new WordList(Arrays.copyOf(data, len), Arrays.copyOf(ends, count));
+	}
+
+	/** Packs the given strings. */
+	public static WordList of(String... entries) {
+		return of(String.join("\n", entries).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** Reads and packs the given newline separated UTF-8 file. */
+	public static WordList fromFile(Path file) throws IOException {
+		return of(Files.readAllBytes(file));
+	}
+
+	/**
+	 * Reads and packs a newline separated UTF-8 resource relative to the
+	 * given class.
+	 *
+	 * @throws UncheckedIOException if the resource is missing or cannot be read
+	 */
+	public static WordList fromResource(Class<?> owner, String name) {
+		try (InputStream in = owner.getResourceAsStream(name)) {
+			if (in == null) throw new IOException("Missing resource '" + name + "' for " + owner.getName());
+			return of(in.readAllBytes());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//----------
+	// Registry
+	//----------
+
+	/** Registers a list under the given name, replacing any list already using it. */
+	public static void register(String name, WordList list) {
+		REGISTRY.put(name, () -> list);
+	}
+
+	/**
+	 * Registers the given file under the given name. The file is not read
+	 * until the list is first requested.
+	 */
+	public static void register(String name, Path file) {
+		REGISTRY.put(name, new Lazy(() -> {
+			try {
+				return fromFile(file);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}));
+	}
+
+	/** Returns the list registered under the given name, or null if there is none. */
+	public static WordList named(String name) {
+		var supplier = REGISTRY.get(name);
+		return (supplier != null) ? supplier.get() : null;
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Decodes the entry at the given index. */
+	public String get(int index) {
+		int start = (index == 0) ? 0 : ends[index - 1];
+		return new String(data, start, ends[index] - start, StandardCharsets.UTF_8);
+	}
+
+	/** Returns a random entry using the current thread's generator. */
+	public String random() { return random(ThreadLocalRandom.current()); }
+
+	/** Returns a random entry, or null if this list is empty. */
+	public String random(RandomGenerator rng) {
+		return (ends.length == 0) ? null : get(rng.nextInt(ends.length));
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int size() { return ends.length; }
+	public boolean isEmpty() { return ends.length == 0; }
+	/** Returns the number of bytes of text this list holds. */
+	public int byteSize() { return data.length; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/** Loads a list on first use and keeps it for every later call. */
+	private static final class Lazy implements Supplier<WordList> {
+		private final Supplier<WordList> loader;
+		private volatile WordList list;
+
+		Lazy(Supplier<WordList> loaderIn) { loader = loaderIn; }
+
+		@Override
+		public WordList get() {
+			var l = list;
+			if (l == null) {
+				synchronized (this) {
+					l = list;
+					if (l == null) list = l = loader.get();
+				}
+			}
+			return l;
+		}
+	}
+
+}
@@ -0,0 +1,312 @@
+package eutil.strings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * A '{n}' style format string which is parsed once and can then be
+ * rendered any number of times.
+ *
+ * <p>
+ * Formats follow the same rules as {@link eutil.debug.DebugToolKit#format}:
+ * '{0}' inserts the first argument, '{1}' the second, and so on, while
+ * anything else in braces, such as '{}' or '{name}', is kept as written.
+ * Compiling splits the format into its literal text and argument indices
+ * so that rendering only appends, and {@link #of(String)} keeps compiled
+ * formats in a small cache keyed on the identity of the format string,
+ * which makes formatting with a constant string as cheap as a lookup.
+ *
+ * <blockquote><pre>
+ *     private static final CompiledFormat ROW = CompiledFormat.of("{0}: x={1} y={2}");
+ *     ...
+ *     var args = ROW.args();
+ *     for (var p : points) {
+ *         args.add(p.name).add(p.x).add(p.y).appendTo(sb).append('\n');
+ *     }
+ * </pre></blockquote><p>
+ *
+ * Varargs rendering boxes primitives as any varargs call does. An
+ * {@link Args} instance instead holds ints, longs, and doubles unboxed and
+ * is reused for every render, so the loop above allocates nothing but
+ * what the destination grows by. Compiled formats are immutable and thread
+ * safe, while Args are not.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class CompiledFormat {
+
+	/** Formats are cached in a fixed table, a collision simply replacing the older entry. */
+	private static final CompiledFormat[] CACHE = new CompiledFormat[256];
+
+	private final String source;
+	/** The text before each argument, with one more entry for the text after the last. */
+	private final String[] literals;
+	private final int[] indices;
+	/** One more than the highest argument index used. */
+	private final int argCount;
+	private final int literalLength;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private CompiledFormat(String sourceIn, String[] literalsIn, int[] indicesIn) {
+		source = sourceIn;
+		literals = literalsIn;
+		indices = indicesIn;
+		int max = -1, len = 0;
+		for (int i : indices) max = Math.max(max, i);
+		for (var s : literals) len += s.length();
+		argCount = max + 1;
+		literalLength = len;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/**
+	 * Returns the compiled form of the given format, reusing the last one
+	 * made for this exact String instance if it is still cached.
+	 */
+	public static CompiledFormat of(String format) {
+		int slot = System.identityHashCode(format) & (CACHE.length - 1);
+		var cached = CACHE[slot];
+		if (cached != null && cached.source == format) return cached;
+		var compiled = compile(format);
+		CACHE[slot] = compiled;
+		return compiled;
+	}
+
+	/** Compiles the given format without touching the cache. */
+	public static CompiledFormat compile(String format) {
+		var lits = new ArrayList<String>();
+		var indices = new int[4];
+		int count = 0;
+		var lit = new StringBuilder();
+		StringBuilder num = null;
+		boolean inNum = false;
+		final int len = format.length();
+
+		for (int i = 0; i < len; i++) {
+			char c = format.charAt(i);
+
+			if (inNum) {
+				if (Character.isDigit(c)) {
+					num.append(c);
+					continue;
+				}
+				if (c == '}') {
+					lits.add(lit.toString());
+					lit.setLength(0);
+					if (count == indices.length) indices = Arrays.copyOf(indices, count * 2);
+					indices[count++] = Integer.parseInt(num.toString());
+					inNum = false;
+					continue;
+				}
+				// anything else cancels the argument and is kept as text
+				lit.append('{').append(num);
+				inNum = false;
+				if (c != '{') {
+					lit.append(c);
+					continue;
+				}
+			}
+			else if (c != '{') {
+				lit.append(c);
+				continue;
+			}
+
+			// a '{' at the very end or directly closed is plain text
+			if (i == len - 1) {
+				lit.append(c);
+				break;
+			}
+			if (format.charAt(i + 1) == '}') {
+				lit.append("{}");
+				i++;
+				continue;
+			}
+			num = new StringBuilder();
+			inNum = true;
+		}
+		if (inNum) lit.append('{').append(num);
+		lits.add(lit.toString());
+
+		return new CompiledFormat(format, lits.toArray(new String[0]), Arrays.copyOf(indices, count));
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/**
+	 * Renders this format with the given arguments.
+	 *
+	 * @throws IndexOutOfBoundsException if the format refers to an argument
+	 *                                   that was not given
+	 */
+	public String format(Object... args) {
+		var sb = new StringBuilder(literalLength + 16 * indices.length);
+		render(sb, args);
+		return sb.toString();
+	}
+
+	/** Renders this format with the given arguments onto the end of the given output. */
+	public <A extends Appendable> A appendTo(A out, Object... args) {
+		if (out instanceof StringBuilder sb) {
+			render(sb, args);
+			return out;
+		}
+		var sb = new StringBuilder(literalLength + 16 * indices.length);
+		render(sb, args);
+		return append(out, sb);
+	}
+
+	/** Returns a reusable holder for this format's arguments. */
+	public Args args() { return new Args(this); }
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the format string this was compiled from. */
+	public String getSource() { return source; }
+	/** Returns the number of arguments this format needs, being one more than its highest '{n}'. */
+	public int getArgCount() { return argCount; }
+
+	@Override
+	public String toString() {
+		return source;
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private void render(StringBuilder sb, Object[] args) {
+		sb.append(literals[0]);
+		for (int i = 0; i < indices.length; i++) {
+			int index = indices[i];
+			if (index >= args.length) throw badIndex(index, args.length);
+			sb.append(args[index]);
+			sb.append(literals[i + 1]);
+		}
+	}
+
+	private static IndexOutOfBoundsException badIndex(int index, int given) {
+		return new IndexOutOfBoundsException("Bad arg index! {" + index + "} is out of range: [0," + (given - 1) + "]");
+	}
+
+	private static <A extends Appendable> A append(A out, CharSequence text) {
+		try {
+			out.append(text);
+			return out;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//------
+	// Args
+	//------
+
+	/**
+	 * A reusable set of arguments for one compiled format. Arguments are
+	 * added in order, rendered, and then cleared so the same instance can
+	 * be filled again. Primitive arguments are kept unboxed and written with
+	 * StringBuilder's own primitive appends.
+	 */
+	public static final class Args {
+		private static final byte OBJECT = 0, LONG = 1, DOUBLE = 2, BOOLEAN = 3, CHAR = 4;
+
+		private final CompiledFormat format;
+		private final byte[] kinds;
+		private final long[] bits;
+		private final Object[] objects;
+		private int count;
+		private StringBuilder scratch;
+
+		private Args(CompiledFormat formatIn) {
+			format = formatIn;
+			int n = Math.max(1, formatIn.argCount);
+			kinds = new byte[n];
+			bits = new long[n];
+			objects = new Object[n];
+		}
+
+		public Args add(int v) { return put(LONG, v, null); }
+		public Args add(long v) { return put(LONG, v, null); }
+		public Args add(double v) { return put(DOUBLE, Double.doubleToRawLongBits(v), null); }
+		public Args add(boolean v) { return put(BOOLEAN, v ? 1 : 0, null); }
+		public Args add(char v) { return put(CHAR, v, null); }
+		public Args add(Object v) { return put(OBJECT, 0, v); }
+
+		/** Renders the arguments added so far onto the given output and clears them. */
+		public <A extends Appendable> A appendTo(A out) {
+			if (out instanceof StringBuilder sb) {
+				render(sb);
+				return out;
+			}
+			if (scratch == null) scratch = new StringBuilder(format.literalLength + 16 * format.indices.length);
+			scratch.setLength(0);
+			render(scratch);
+			return append(out, scratch);
+		}
+
+		/** Renders the arguments added so far into a new String and clears them. */
+		public String format() {
+			var sb = new StringBuilder(format.literalLength + 16 * format.indices.length);
+			render(sb);
+			return sb.toString();
+		}
+
+		/** Drops every argument added so far. */
+		public Args clear() {
+			Arrays.fill(objects, 0, Math.min(count, objects.length), null);
+			count = 0;
+			return this;
+		}
+
+		private Args put(byte kind, long value, Object obj) {
+			if (count == kinds.length) {
+				// more arguments than the format uses are accepted like varargs, only the used ones are kept
+				count++;
+				return this;
+			}
+			kinds[count] = kind;
+			bits[count] = value;
+			objects[count] = obj;
+			count++;
+			return this;
+		}
+
+		private void render(StringBuilder sb) {
+			try {
+				final String[] literals = format.literals;
+				final int[] indices = format.indices;
+				sb.append(literals[0]);
+				for (int i = 0; i < indices.length; i++) {
+					int index = indices[i];
+					if (index >= count) throw badIndex(index, count);
+					switch (kinds[index]) {
+					case LONG -> sb.append(bits[index]);
+					case DOUBLE -> sb.append(Double.longBitsToDouble(bits[index]));
+					case BOOLEAN -> sb.append(bits[index] != 0);
+					case CHAR -> sb.append((char) bits[index]);
+					default -> sb.append(objects[index]);
+					}
+					sb.append(literals[i + 1]);
+				}
+			}
+			finally {
+				clear();
+			}
+		}
+	}
+
+}
@@ -1,11 +1,19 @@
 package eutil.strings;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
 import java.util.stream.IntStream;
 
 import eutil.datatypes.util.EList;
 import eutil.math.ENumUtil;
 
-public class EStringBuilder implements Appendable, CharSequence {
+public class EStringBuilder implements Appendable, CharSequence, Flushable {
 	
     public static final String DEFAULT_TAB_STRING = "    ";
     
@@ -17,6 +25,10 @@ public class EStringBuilder implements Appendable, CharSequence {
 	private String tabString = DEFAULT_TAB_STRING;
 	private String lineStart = "";
 	private int tabCount = 0;
+	/** True while this builder is sitting in a thread's pool. */
+	private boolean pooled = false;
+	/** Non-null while this builder is spilling its completed lines to a writer. */
+	private Spill spill;
 	
 	//--------------
 	// Constructors
@@ -60,6 +72,231 @@ public class EStringBuilder implements Appendable, CharSequence {
 		return of(arguments).toString();
 	}
 	
+	//---------
+	// Pooling
+	//---------
+	
+	/** The most builders each thread keeps for reuse. */
+	public static final int MAX_POOLED_PER_THREAD = 8;
+	/** Builders whose buffers have grown beyond this many chars are dropped instead of pooled. */
+	public static final int MAX_POOLED_CAPACITY = 1 << 16;
+	
+	private static final ThreadLocal<ArrayDeque<EStringBuilder>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+	
+	/**
+	 * Returns an empty builder from the calling thread's pool, or a new one
+	 * if the pool is empty. Hand it back with {@link #release} once its
+	 * contents have been used.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static EStringBuilder acquire() {
+		var esb = POOL.get().pollFirst();
+		if (esb == null) return new EStringBuilder();
+		esb.pooled = false;
+		return esb;
+	}
+	
+	/**
+	 * Returns the given builder to the calling thread's pool after clearing
+	 * its contents and tab settings. Builders that have grown past
+	 * {@link #MAX_POOLED_CAPACITY}, and any released once the pool is full,
+	 * are left for the garbage collector instead. The builder must not be
+	 * used again after being released.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static void release(EStringBuilder esb) {
+		if (esb == null || esb.pooled || esb.spill != null || esb.sb.capacity() > MAX_POOLED_CAPACITY) return;
+		var pool = POOL.get();
+		if (pool.size() >= MAX_POOLED_PER_THREAD) return;
+		esb.sb.setLength(0);
+		esb.tabString = DEFAULT_TAB_STRING;
+		esb.lineStart = "";
+		esb.tabCount = 0;
+		esb.pooled = true;
+		pool.addFirst(esb);
+	}
+	
+	/**
+	 * Returns this builder's contents and releases it back to the calling
+	 * thread's pool.
+	 * 
+	 * @since 2.7.1
+	 */
+	public String toStringAndRelease() {
+		String r = sb.toString();
+		release(this);
+		return r;
+	}
+	
+	//------------
+	// Spill Mode
+	//------------
+	
+	/** The default number of buffered chars at which a spilling builder writes out its completed lines. */
+	public static final int DEFAULT_SPILL_THRESHOLD = 1 << 16;
+	
+	/**
+	 * Creates a builder which writes its completed lines to the given writer
+	 * whenever more than {@link #DEFAULT_SPILL_THRESHOLD} chars are buffered.
+	 * 
+	 * @see #spillTo(Writer, int, int)
+	 * @since 2.7.1
+	 */
+	public static EStringBuilder spillingTo(Writer out) {
+		return new EStringBuilder().spillTo(out, DEFAULT_SPILL_THRESHOLD, 0);
+	}
+	
+	/**
+	 * Creates a builder which writes its completed lines to the given file
+	 * channel, encoded with the given charset, whenever more than
+	 * {@link #DEFAULT_SPILL_THRESHOLD} chars are buffered. Closing the
+	 * builder closes the channel.
+	 * 
+	 * @since 2.7.1
+	 */
+	public static EStringBuilder spillingTo(FileChannel out, Charset charset) {
+		return new EStringBuilder().spillTo(Channels.newWriter(out, charset), DEFAULT_SPILL_THRESHOLD, 0);
+	}
+	
+	/**
+	 * Puts this builder into spill mode. Whenever at least 'threshold' chars
+	 * are buffered, everything up to and including the last buffered line
+	 * break is written to 'out' and removed from memory. A single line
+	 * longer than twice the threshold is written out whole so that memory
+	 * use stays bounded regardless of the output's shape.
+	 * <p>
+	 * Tabs and line starts keep working as normal since they only ever add
+	 * to the end of the buffer. Methods that read or edit the contents,
+	 * including 'toString', only see the chars that have not been written
+	 * out yet. If 'tailSize' is positive, the last 'tailSize' chars of
+	 * everything written so far are kept for {@link #getTail()}.
+	 * <p>
+	 * Call {@link #flush()} or {@link #close()} to write out what remains.
+	 * 
+	 * @since 2.7.1
+	 */
+	public EStringBuilder spillTo(Writer out, int threshold, int tailSize) {
+		if (threshold <= 0) throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+		spill = new Spill(out, threshold, Math.max(0, tailSize));
+		return spilled();
+	}
+	
+	/** Returns true if this builder is writing its output to a writer. */
+	public boolean isSpilling() { return spill != null; }
+	
+	/** Returns the number of chars that have been written out of this builder so far. */
+	public long getSpilledLength() { return (spill != null) ? spill.written : 0; }
+	
+	/**
+	 * Returns the last chars of this builder's entire output, combining what
+	 * was kept of the written out text with what is still buffered, limited
+	 * to the tail size given to {@link #spillTo}. Returns the full buffered
+	 * contents when not spilling.
+	 * 
+	 * @since 2.7.1
+	 */
+	public String getTail() {
+		if (spill == null) return sb.toString();
+		var all = new StringBuilder(spill.tail.length() + sb.length()).append(spill.tail).append(sb);
+		int keep = spill.tailSize;
+		if (keep == 0) return sb.toString();
+		return (all.length() > keep) ? all.substring(all.length() - keep) : all.toString();
+	}
+	
+	/** Writes out everything buffered and flushes the writer being spilled to. */
+	@Override
+	public void flush() {
+		if (spill == null) return;
+		spill.write(sb, sb.length());
+		spill.flush();
+	}
+	
+	/** Flushes and closes the writer being spilled to, leaving this builder in normal mode. */
+	public void close() {
+		if (spill == null) return;
+		flush();
+		try {
+			spill.out.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			spill = null;
+		}
+	}
+	
+	private EStringBuilder spilled() {
+		if (spill != null && sb.length() >= spill.limit) spill.spill(sb);
+		return this;
+	}
+	
+	/** The writer a spilling builder writes its completed lines to. */
+	private static final class Spill {
+		final Writer out;
+		final int threshold;
+		final int tailSize;
+		final StringBuilder tail = new StringBuilder();
+		final char[] buf;
+		/** The buffered length at which the next spill is attempted. */
+		int limit;
+		long written;
+		
+		Spill(Writer outIn, int thresholdIn, int tailSizeIn) {
+			out = outIn;
+			threshold = thresholdIn;
+			tailSize = tailSizeIn;
+			limit = thresholdIn;
+			buf = new char[Math.min(thresholdIn, 8192)];
+		}
+		
+		void spill(StringBuilder sb) {
+			int cut = sb.lastIndexOf("\n") + 1;
+			// an unfinished last line is held back unless it alone is too long
+			if (sb.length() - cut >= 2L * threshold) cut = sb.length();
+			if (cut > 0) {
+				write(sb, cut);
+				limit = threshold;
+			}
+			else {
+				// no line break yet, wait a while before scanning the same chars again
+				limit = (int) Math.min(2L * threshold, sb.length() + (threshold >> 2) + 1L);
+			}
+		}
+		
+		/** Writes the first 'len' chars of 'sb' and shifts the rest to the front. */
+		void write(StringBuilder sb, int len) {
+			try {
+				for (int off = 0; off < len; ) {
+					int n = Math.min(buf.length, len - off);
+					sb.getChars(off, off + n, buf, 0);
+					out.write(buf, 0, n);
+					off += n;
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			if (tailSize > 0) {
+				tail.append(sb, Math.max(0, len - tailSize), len);
+				if (tail.length() > tailSize) tail.delete(0, tail.length() - tailSize);
+			}
+			written += len;
+			sb.delete(0, len);
+		}
+		
+		void flush() {
+			try {
+				out.flush();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
 	//-----------
 	// Overrides
 	//-----------
@@ -74,19 +311,19 @@ public class EStringBuilder implements Appendable, CharSequence {
 	//-----------------
 	
 	public EStringBuilder append(Object obj) { return append(String.valueOf(obj)); }
-	public EStringBuilder append(String str) { sb.append(str); return this; }
-	public EStringBuilder append(StringBuffer sb) { sb.append(sb); return this; }
-	public EStringBuilder append(CharSequence s) { sb.append(s); return this; }
-	public EStringBuilder append(CharSequence s, int start, int end) { sb.append(s, start, end); return this; }
-	public EStringBuilder append(char[] str) { sb.append(str); return this; }
-	public EStringBuilder append(char[] str, int offset, int len) { sb.append(str, offset, len); return this; }
-	public EStringBuilder append(boolean b) { sb.append(b); return this; }
-	public EStringBuilder append(char c) { sb.append(c); return this; }
-	public EStringBuilder append(int i) { sb.append(i); return this; }
-	public EStringBuilder append(long lng) { sb.append(lng); return this; }
-	public EStringBuilder append(float f) { sb.append(f); return this; }
-	public EStringBuilder append(double d) { sb.append(d); return this; }
-	public EStringBuilder appendCodePoint(int codePoint) { sb.appendCodePoint(codePoint); return this; }
+	public EStringBuilder append(String str) { sb.append(str); return spilled(); }
+	public EStringBuilder append(StringBuffer buf) { sb.append(buf); return spilled(); }
+	public EStringBuilder append(CharSequence s) { sb.append(s); return spilled(); }
+	public EStringBuilder append(CharSequence s, int start, int end) { sb.append(s, start, end); return spilled(); }
+	public EStringBuilder append(char[] str) { sb.append(str); return spilled(); }
+	public EStringBuilder append(char[] str, int offset, int len) { sb.append(str, offset, len); return spilled(); }
+	public EStringBuilder append(boolean b) { sb.append(b); return spilled(); }
+	public EStringBuilder append(char c) { sb.append(c); return spilled(); }
+	public EStringBuilder append(int i) { sb.append(i); return spilled(); }
+	public EStringBuilder append(long lng) { sb.append(lng); return spilled(); }
+	public EStringBuilder append(float f) { sb.append(f); return spilled(); }
+	public EStringBuilder append(double d) { sb.append(d); return spilled(); }
+	public EStringBuilder appendCodePoint(int codePoint) { sb.appendCodePoint(codePoint); return spilled(); }
 	public EStringBuilder delete(int start, int end) { sb.delete(start, end); return this; }
 	public EStringBuilder deleteCharAt(int index) { sb.deleteCharAt(index); return this; }
 	public EStringBuilder replace(int start, int end, String str) { sb.replace(start, end, str); return this; }
@@ -129,6 +366,10 @@ public class EStringBuilder implements Appendable, CharSequence {
 	
 	public String[] splitA(String regex) { return sb.toString().split(regex); }
 	public EList<String> split(String regex) { return EList.of(splitA(regex)); }
+	/** Returns a tokenizer over this builder's contents which splits on the given char without copying them. */
+	public Tokenizer tokenize(char delimiter) { return Tokenizer.of(sb, delimiter); }
+	/** Returns a tokenizer over this builder's contents which splits on the given literal string without copying them. */
+	public Tokenizer tokenize(String delimiter) { return Tokenizer.of(sb, delimiter); }
 	
 	public byte[] getBytes() { return sb.toString().getBytes(); }
 	
@@ -159,27 +400,43 @@ public class EStringBuilder implements Appendable, CharSequence {
 	public int l() { return sb.length(); }
 	
 	/** Shorthand 'append' method. */
-	public EStringBuilder a(Object o) { sb.append(o); return this; }
+	public EStringBuilder a(Object o) { sb.append(o); return spilled(); }
 	/** Shorthand batch 'append' method. */
-	public EStringBuilder a(Object... a) { for (var o : a) sb.append(o); return this; }
+	public EStringBuilder a(Object... a) { for (var o : a) sb.append(o); return spilled(); }
 	
 	/** Shorthand 'clear' method. */
 	public String c() { return clear(); }
-	public String clear() { String r = sb.toString(); sb = new StringBuilder(); return r; }
-	public String clear(char c) { String r = sb.toString(); sb = new StringBuilder(String.valueOf(c)); return r; }
-	public String clear(String in) { String r = sb.toString(); sb = new StringBuilder(in); return r; }
-	public String clear(CharSequence in) { String r = sb.toString(); sb = new StringBuilder(in); return r; }
+	public String clear() { String r = sb.toString(); sb.setLength(0); return r; }
+	public String clear(char c) { String r = sb.toString(); sb.setLength(0); sb.append(c); return r; }
+	public String clear(String in) { String r = sb.toString(); sb.setLength(0); sb.append(in); return r; }
+	public String clear(CharSequence in) { String r = sb.toString(); sb.setLength(0); sb.append(in); return r; }
+	/** Empties this builder while keeping its buffer, without producing a String of the old contents. */
+	public EStringBuilder reset() { sb.setLength(0); return this; }
 	
-	public boolean contains(CharSequence in) { return sb.toString().contains(in); }
+	public boolean contains(CharSequence in) { return sb.indexOf(in.toString()) >= 0; }
 	
-	public EStringBuilder trimRT() { sb = new StringBuilder(sb.toString().trim()); return this; }
+	/** Removes leading and trailing characters at or below ' ', the same as String.trim, by shifting in place. */
+	public EStringBuilder trimRT() {
+		int end = sb.length();
+		while (end > 0 && sb.charAt(end - 1) <= ' ') end--;
+		int start = 0;
+		while (start < end && sb.charAt(start) <= ' ') start++;
+		sb.setLength(end);
+		if (start > 0) sb.delete(0, start);
+		return this;
+	}
 	public String trim() { return trimRT().toString(); }
-	public String trimClear() { String r = trim(); clear(); return r; }
-	public boolean isBlank() { return toString().trim().isEmpty(); }
+	public String trimClear() { String r = trim(); sb.setLength(0); return r; }
+	public boolean isBlank() {
+		for (int i = 0, len = sb.length(); i < len; i++) {
+			if (sb.charAt(i) > ' ') return false;
+		}
+		return true;
+	}
 	
-	public String tempAdd(char c) { return tempAdd(String.valueOf(c)); }
-	public String tempAdd(CharSequence cs) { return new StringBuilder(toString()).append(cs).toString(); }
-	public String tempAdd(String s) { return new StringBuilder(toString()).append(s).toString(); }
+	public String tempAdd(char c) { return new StringBuilder(sb.length() + 1).append(sb).append(c).toString(); }
+	public String tempAdd(CharSequence cs) { return new StringBuilder(sb.length() + cs.length()).append(sb).append(cs).toString(); }
+	public String tempAdd(String s) { return new StringBuilder(sb.length() + s.length()).append(sb).append(s).toString(); }
 	
 	public void setLineStart(String value) { lineStart = (value != null) ? value : ""; }
 	public void setTabString(String tabStringIn) { tabString = (tabStringIn != null) ? tabStringIn : ""; }
@@ -194,8 +451,15 @@ public class EStringBuilder implements Appendable, CharSequence {
 	public EStringBuilder print(Object... values) { append(lineStart); for (var v : values) append(v); return this; }
 	public EStringBuilder println(Object... values) { print(values); append("\n"); return this; }
 	
-	public EStringBuilder setSubstringRT(int start) { sb = new StringBuilder(sb.substring(start)); return this; }
-	public EStringBuilder setSubstringRT(int start, int end) { sb = new StringBuilder(sb.substring(start, end)); return this; }
+	public EStringBuilder setSubstringRT(int start) { return setSubstringRT(start, sb.length()); }
+	public EStringBuilder setSubstringRT(int start, int end) {
+		if (start < 0 || start > end || end > sb.length()) {
+			throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + sb.length());
+		}
+		sb.setLength(end);
+		sb.delete(0, start);
+		return this;
+	}
 	public String setSubstring(int start) { return setSubstringRT(start).toString(); }
 	public String setSubstring(int start, int end) { return setSubstringRT(start, end).toString(); }
 	
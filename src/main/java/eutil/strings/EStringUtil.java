@@ -71,50 +71,31 @@ public final class EStringUtil {
 	public static String toString(Enumeration<?> e) { return toString(e, ", "); }
 	public static String toString(Map<?, ?> e) { return toString(e, ", "); }
 	
-	public static String toString(boolean[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r(); }
-	public static String toString(byte[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(char[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(int[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(short[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(long[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(float[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(double[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static <E> String toString(E[] e, String separator) { var s=sbs(separator);for(int i=0;i<e.length;i++)s.a(e[i],separator);return s.r();}
-	public static String toString(List<?> e, String separator) { var s=sbs(separator);for(int i=0;i<e.size();i++)s.a(e.get(i),separator);return s.r();}
-	public static String toString(Iterator<?> e, String separator) { var s=sbs(separator);while(e.hasNext())s.a(e.next(),separator);return s.r(); }
-	public static String toString(Enumeration<?> e, String separator) { var s=sbs(separator);while(e.hasMoreElements())s.a(e.nextElement(),separator);return s.r(); }
-	public static String toString(Map<?, ?> e, String separator) {
-		var s = sbs(separator);
-		var it = e.entrySet().iterator();
-		while (it.hasNext()) {
-			var o = it.next();
-			//handle self-contains condition
-			if (o == e) s.a("Itself!", separator);
-			else s.a(toString(o), separator);
-		}
-		return s.r();
-	}
+	public static String toString(boolean[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(byte[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(char[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(int[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(short[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(long[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(float[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(double[] e, String separator) { return Joiner.join(e, separator); }
+	public static <E> String toString(E[] e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(List<?> e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(Iterator<?> e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(Enumeration<?> e, String separator) { return Joiner.join(e, separator); }
+	public static String toString(Map<?, ?> e, String separator) { return Joiner.join(e, separator); }
 	
 	public static <E, T> String toString(E[] e, Function<? super E, ? extends T> mapper) {
 		return toString(e, mapper, " ");
 	}
 	
 	public static <E, T> String toString(E[] e, Function<? super E, ? extends T> mapper, String separator) {
-		var out = sbs(separator);
-		for (int i = 0; i < e.length; i++) {
-			out.a(mapper.apply(e[i]), separator);
-		}
-		return (out.toString().isEmpty()) ? out.toString() : out.sub(0, out.l() - separator.length());
+		return Joiner.join(e, mapper, separator);
 	}
 	
-	public static <E, T> String toString(Collection<E> e, Function<? super E, ? extends T> mapper) { return toString(EUtil.mapList(e, mapper), " "); }
+	public static <E, T> String toString(Collection<E> e, Function<? super E, ? extends T> mapper) { return toString(e, mapper, " "); }
 	public static <E, T> String toString(Collection<E> e, Function<? super E, ? extends T> mapper, String separator) {
-		var s = sb();
-		for (var val : e) {
-			s.a(mapper.apply(val));
-			s.a(separator);
-		}
-		return (s.toString().isEmpty()) ? s.toString() : s.sub(0, s.l() - separator.length());
+		return Joiner.join(e, mapper, separator);
 	}
 	
     /**
@@ -605,6 +586,7 @@ public final class EStringUtil {
      */
     public static boolean containsAny(String in, Collection<?> toCheck) {
         if (in == null) return false;
+        if (worthCompiling(in, toCheck)) return compileMatcher(toCheck, false).containsAny(in);
         for (var s : toCheck)
             if (s == null) continue;
             else if (in.contains(String.valueOf(s))) return true;
@@ -663,12 +645,156 @@ public final class EStringUtil {
      */
     public static <E> E containsAnyR(String in, Collection<E> toCheck) {
         if (in == null) return null;
+        if (worthCompiling(in, toCheck)) {
+            int index = compileMatcher(toCheck, false).firstPattern(in);
+            return (index < 0) ? null : elementAt(toCheck, index);
+        }
         for (var s : toCheck)
             if (s == null) continue;
             else if (in.contains(String.valueOf(s))) return s;
         return null;
     }
     
+    //===================
+    // Compiled Matchers
+    //===================
+    
+    /**
+     * Compiles the given patterns into a reusable {@link StringMatcher} which
+     * checks text against all of them in a single pass. Prefer this over the
+     * 'Any' methods above when the same patterns are checked repeatedly.
+     * 
+     * @param patterns The patterns to search for
+     * 
+     * @return A compiled, case sensitive matcher
+     * 
+     * @since 2.7.1
+     */
+    public static StringMatcher compileMatcher(Collection<String> patterns) {
+        return StringMatcher.of(patterns, false);
+    }
+    
+    /**
+     * Compiles the 'toString' values of the given patterns into a reusable
+     * {@link StringMatcher} which checks text against all of them in a single
+     * pass.
+     * 
+     * @param patterns   The patterns to search for
+     * @param ignoreCase Whether case differences are ignored
+     * 
+     * @return A compiled matcher
+     * 
+     * @since 2.7.1
+     */
+    public static StringMatcher compileMatcher(Collection<?> patterns, boolean ignoreCase) {
+        return StringMatcher.of(patterns, ignoreCase);
+    }
+    
+    /**
+     * Only once the candidates and input are both large does building a
+     * throwaway automaton cost less than checking each candidate in turn.
+     */
+    private static boolean worthCompiling(String in, Collection<?> toCheck) {
+        return toCheck.size() >= 64 && (long) toCheck.size() * in.length() >= (1 << 16);
+    }
+    
+    private static <E> E elementAt(Collection<E> c, int index) {
+        if (c instanceof List<E> list) return list.get(index);
+        var it = c.iterator();
+        for (int i = 0; i < index; i++) it.next();
+        return it.next();
+    }
+    
+    //===========
+    // Interning
+    //===========
+    
+    /**
+     * Returns a String equal to the given sequence from a bounded cache
+     * shared across the application, so that values which repeat often are
+     * kept as a single instance. Unlike {@link String#intern()}, the cache
+     * never grows past its capacity and a lookup that hits allocates
+     * nothing.
+     * 
+     * @param s The characters to intern
+     * 
+     * @return The shared String equal to 's', or null if 's' is null
+     * 
+     * @see StringInterner
+     * @since 2.7.1
+     */
+    public static String intern(CharSequence s) {
+        return StringInterner.shared().intern(s);
+    }
+    
+    /**
+     * Returns a shared String equal to chars [from, to) of the given
+     * sequence without first copying them out.
+     * 
+     * @since 2.7.1
+     */
+    public static String intern(CharSequence s, int from, int to) {
+        return StringInterner.shared().intern(s, from, to);
+    }
+    
+    /**
+     * Returns a shared String equal to 'len' chars of the given array
+     * starting at 'off' without first copying them out.
+     * 
+     * @since 2.7.1
+     */
+    public static String intern(char[] chars, int off, int len) {
+        return StringInterner.shared().intern(chars, off, len);
+    }
+    
+    //===============
+    // Edit Distance
+    //===============
+    
+    /**
+     * Returns the number of single character insertions, deletions, and
+     * substitutions needed to turn one string into the other.
+     * 
+     * @see EditDistance
+     * @since 2.7.1
+     */
+    public static int levenshtein(CharSequence a, CharSequence b) {
+        return EditDistance.levenshtein(a, b);
+    }
+    
+    /**
+     * Returns the Levenshtein distance between the given strings if it is at
+     * most 'max', otherwise returns 'max' + 1 without finishing the
+     * comparison.
+     * 
+     * @since 2.7.1
+     */
+    public static int levenshtein(CharSequence a, CharSequence b, int max) {
+        return EditDistance.levenshtein(a, b, max);
+    }
+    
+    /**
+     * Returns the Levenshtein distance between the given strings where
+     * swapping two adjacent characters also counts as a single edit.
+     * 
+     * @see EditDistance#damerau
+     * @since 2.7.1
+     */
+    public static int damerau(CharSequence a, CharSequence b) {
+        return EditDistance.damerau(a, b);
+    }
+    
+    /**
+     * Builds an index over the given entries which finds those within a
+     * number of edits of a query without comparing against each one.
+     * 
+     * @see FuzzyIndex
+     * @since 2.7.1
+     */
+    public static FuzzyIndex fuzzyIndex(Collection<String> entries) {
+        return FuzzyIndex.of(entries);
+    }
+    
     //======================
     // Starts and Ends With
     //======================
@@ -1,7 +1,34 @@
 package eutil.strings;
 
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
 public class EToStringBuilder extends EStringBuilder {
     
+    /** How many levels of nested objects {@link #reflect(Object)} expands below the given one. */
+    public static final int DEFAULT_MAX_DEPTH = 3;
+    /** How many elements of each array, collection, or map {@link #reflect(Object)} prints. */
+    public static final int DEFAULT_MAX_ELEMENTS = 32;
+    
+    /** Each class's field getters, found once and kept for as long as the class is loaded. */
+    private static final ClassValue<Accessor[]> PLANS = new ClassValue<>() {
+        @Override
+        protected Accessor[] computeValue(Class<?> type) {
+            return planFor(type);
+        }
+    };
+    
+    private boolean closed = false;
+    
     public EToStringBuilder(Object theObject) {
         super();
         
@@ -10,6 +37,19 @@ public class EToStringBuilder extends EStringBuilder {
         incrementTabCount();
     }
     
+    /**
+     * Creates a builder whose completed lines are written to the given
+     * writer as it grows rather than held in memory. Call {@link #close()}
+     * to write the closing brace and flush the writer.
+     * 
+     * @see EStringBuilder#spillTo(Writer, int, int)
+     * @since 2.7.1
+     */
+    public EToStringBuilder(Object theObject, Writer out) {
+        this(theObject);
+        spillTo(out, DEFAULT_SPILL_THRESHOLD, 0);
+    }
+    
     public EToStringBuilder a(String name, boolean v) { println(name, ": ", v); return this; }
     public EToStringBuilder a(String name, char v) { println(name, ": ", v); return this; }
     public EToStringBuilder a(String name, byte v) { println(name, ": ", v); return this; }
@@ -30,11 +70,266 @@ public class EToStringBuilder extends EStringBuilder {
     public EToStringBuilder a(String name, double[] v) { println(name, ": ", EStringUtil.toString(v)); return this; }
     public EToStringBuilder a(String name, Object[] v) { println(name, ": ", EStringUtil.toString(v)); return this; }
     
+    /**
+     * Appends every instance field of the given object, including those it
+     * inherits, as if each had been passed to 'a' by hand.
+     * 
+     * @see #reflect(Object)
+     * @since 2.7.1
+     */
+    public EToStringBuilder aFields(Object o) {
+        if (o == null) return this;
+        var r = new Reflector(this, DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS);
+        r.path.put(o, Boolean.TRUE);
+        r.fields(o, 0);
+        return this;
+    }
+    
+    //-------------------
+    // Reflective Output
+    //-------------------
+    
+    /**
+     * Renders every instance field of the given object in the same layout
+     * as a hand written EToStringBuilder, expanding the objects it refers
+     * to up to {@link #DEFAULT_MAX_DEPTH} levels deep.
+     * 
+     * <p>
+     * The fields of each class are looked up once and turned into method
+     * handle getters which are cached for the life of the class, so only
+     * the first object of a class pays for reflection. Objects already
+     * being printed further up are shown as a "(cycle)" reference instead of
+     * being expanded again. Values from the JDK, such as strings, numbers,
+     * and dates, are printed with their own 'toString', while arrays,
+     * collections, and maps print at most {@link #DEFAULT_MAX_ELEMENTS}
+     * elements.
+     * 
+     * @param o The object to print
+     * @return A multi-line description of the object
+     * 
+     * @since 2.7.1
+     */
+    public static String reflect(Object o) {
+        return reflect(o, DEFAULT_MAX_DEPTH, DEFAULT_MAX_ELEMENTS);
+    }
+    
+    /**
+     * Renders the given object as {@link #reflect(Object)} does with the
+     * given limits.
+     * 
+     * @param maxDepth    The number of levels of nested objects to expand
+     * @param maxElements The number of elements to print of each array,
+     *                    collection, or map
+     *                    
+     * @since 2.7.1
+     */
+    public static String reflect(Object o, int maxDepth, int maxElements) {
+        var out = new EStringBuilder();
+        new Reflector(out, Math.max(0, maxDepth), Math.max(0, maxElements)).value("", o, 0);
+        return out.toString();
+    }
+    
     @Override
     public String toString() {
+        closeBrace();
+        return super.toString();
+    }
+    
+    @Override
+    public void close() {
+        closeBrace();
+        super.close();
+    }
+    
+    /** Writes the closing brace, only ever once. */
+    private void closeBrace() {
+        if (closed) return;
+        closed = true;
         decrementTabCount();
         println("}");
-        return super.toString();
+    }
+    
+    //------------------
+    // Internal Methods
+    //------------------
+    
+    /** A field and a getter for it taking the owning object and returning the value boxed. */
+    private record Accessor(String name, MethodHandle getter) {}
+    
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    /** Collects the instance fields of the given class, those of its super classes first. */
+    private static Accessor[] planFor(Class<?> type) {
+        var classes = new ArrayList<Class<?>>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) classes.add(0, c);
+        
+        var plan = new ArrayList<Accessor>();
+        for (var c : classes) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+            }
+            catch (IllegalAccessException | RuntimeException e) {
+                // a class in a module that is not open to this one
+                lookup = null;
+            }
+            for (Field f : c.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic()) continue;
+                MethodHandle getter = null;
+                if (lookup != null) {
+                    try {
+                        getter = lookup.unreflectGetter(f).asType(GETTER_TYPE);
+                    }
+                    catch (IllegalAccessException e) {}
+                }
+                plan.add(new Accessor(f.getName(), getter));
+            }
+        }
+        return plan.toArray(new Accessor[0]);
+    }
+    
+    /** Writes one object graph into a builder, tracking the objects currently being expanded. */
+    private static final class Reflector {
+        final EStringBuilder out;
+        final int maxDepth;
+        final int maxElements;
+        final IdentityHashMap<Object, Boolean> path = new IdentityHashMap<>();
+        
+        Reflector(EStringBuilder outIn, int maxDepthIn, int maxElementsIn) {
+            out = outIn;
+            maxDepth = maxDepthIn;
+            maxElements = maxElementsIn;
+        }
+        
+        void fields(Object o, int depth) {
+            for (var a : PLANS.get(o.getClass())) {
+                if (a.getter() == null) {
+                    out.println(a.name(), ": <inaccessible>");
+                    continue;
+                }
+                Object v;
+                try {
+                    v = (Object) a.getter().invokeExact(o);
+                }
+                catch (Throwable t) {
+                    out.println(a.name(), ": <", t.getClass().getSimpleName(), ">");
+                    continue;
+                }
+                value(a.name() + ": ", v, depth + 1);
+            }
+        }
+        
+        void value(String prefix, Object v, int depth) {
+            if (isLeaf(v)) {
+                out.println(prefix, v);
+                return;
+            }
+            if (path.containsKey(v)) {
+                out.println(prefix, ref(v), " (cycle)");
+                return;
+            }
+            
+            var type = v.getClass();
+            if (type.isArray()) elements(prefix, Indexed.of(v, maxElements), depth);
+            else if (v instanceof Collection<?> c) elements(prefix, Indexed.of(c, maxElements), depth);
+            else if (v instanceof Map<?, ?> m) entries(prefix, m, depth);
+            else if (isJdk(type)) out.println(prefix, v);
+            else if (depth > maxDepth) out.println(prefix, ref(v), " {...}");
+            else {
+                out.println(prefix, ref(v), " {");
+                out.incrementTabCount();
+                path.put(v, Boolean.TRUE);
+                fields(v, depth);
+                path.remove(v);
+                out.decrementTabCount();
+                out.println("}");
+            }
+        }
+        
+        /** Prints short runs of plain values on one line and anything else one element per line. */
+        void elements(String prefix, Indexed a, int depth) {
+            int shown = Math.min(a.length, maxElements);
+            boolean inline = a.primitive;
+            if (!inline) {
+                inline = true;
+                for (int i = 0; i < shown && inline; i++) inline = isLeaf(a.get.apply(i));
+            }
+            
+            if (inline) {
+                out.print(prefix, "[");
+                for (int i = 0; i < shown; i++) {
+                    if (i > 0) out.append(", ");
+                    out.append(a.get.apply(i));
+                }
+                if (shown < a.length) out.append((shown > 0) ? ", " : "").append("... (" + (a.length - shown) + " more)");
+                out.append("]\n");
+                return;
+            }
+            
+            out.println(prefix, "[");
+            out.incrementTabCount();
+            path.put(a.source, Boolean.TRUE);
+            for (int i = 0; i < shown; i++) value("", a.get.apply(i), depth);
+            path.remove(a.source);
+            if (shown < a.length) out.println("... (", a.length - shown, " more)");
+            out.decrementTabCount();
+            out.println("]");
+        }
+        
+        void entries(String prefix, Map<?, ?> m, int depth) {
+            out.println(prefix, "{");
+            out.incrementTabCount();
+            path.put(m, Boolean.TRUE);
+            int shown = 0;
+            for (var e : m.entrySet()) {
+                if (shown++ == maxElements) break;
+                value(e.getKey() + ": ", e.getValue(), depth);
+            }
+            path.remove(m);
+            if (m.size() > maxElements) out.println("... (", m.size() - maxElements, " more)");
+            out.decrementTabCount();
+            out.println("}");
+        }
+        
+        static String ref(Object v) {
+            return v.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(v));
+        }
+        
+        static boolean isLeaf(Object v) {
+            return v == null || v instanceof CharSequence || v instanceof Number || v instanceof Boolean
+                || v instanceof Character || v instanceof Enum<?> || v instanceof Class<?>;
+        }
+        
+        /** JDK classes are printed as they print themselves rather than picked apart. */
+        static boolean isJdk(Class<?> type) {
+            var pkg = type.getPackageName();
+            return pkg.startsWith("java.") || pkg.startsWith("javax.") || pkg.startsWith("jdk.") || pkg.startsWith("sun.");
+        }
+    }
+    
+    /** Indexed access to any array, or to the first 'limit' elements of a collection. */
+    private record Indexed(Object source, int length, boolean primitive, IntFunction<Object> get) {
+        static Indexed of(Object arr, int limit) {
+            return switch (arr) {
+            case boolean[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case byte[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case char[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case short[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case int[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case long[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case float[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case double[] a -> new Indexed(a, a.length, true, i -> a[i]);
+            case Object[] a -> new Indexed(a, a.length, false, i -> a[i]);
+            case Collection<?> c -> {
+                // only the elements that will be printed are copied out
+                var first = new Object[Math.min(c.size(), limit)];
+                var it = c.iterator();
+                for (int i = 0; i < first.length && it.hasNext(); i++) first[i] = it.next();
+                yield new Indexed(c, c.size(), false, i -> first[i]);
+            }
+            default -> throw new IllegalArgumentException("Not an array or collection: " + arr.getClass());
+            };
+        }
     }
     
 }
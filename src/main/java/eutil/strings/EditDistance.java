@@ -0,0 +1,233 @@
+package eutil.strings;
+
+import java.util.Arrays;
+
+/**
+ * Edit distance kernels for a fixed pattern which is compared against
+ * many other strings.
+ *
+ * <p>
+ * Patterns of up to 64 characters use Myers' bit-parallel algorithm in
+ * the form given by Hyyrö, which keeps a whole column of the distance
+ * matrix in two longs and so costs a handful of word operations per
+ * character of the other string. Longer patterns fall back to the classic
+ * two row table. Both stop as soon as the result is known to exceed the
+ * given maximum.
+ *
+ * <blockquote><pre>
+ *     var typo = EditDistance.of("recieve");
+ *     for (var word : dictionary) {
+ *         if (typo.damerau(word, 1) &lt;= 1) ...
+ *     }
+ * </pre></blockquote><p>
+ *
+ * {@link #levenshtein} counts insertions, deletions, and substitutions.
+ * {@link #damerau} also counts swapping two adjacent characters as a
+ * single edit, in the restricted (optimal string alignment) form where no
+ * part of the string is edited twice. Characters are compared as UTF-16
+ * chars exactly like {@link String#equals}. Compiled patterns are
+ * immutable and thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class EditDistance {
+
+	/** Used as the maximum when no limit is given, leaving room for 'max + 1'. */
+	private static final int NO_LIMIT = Integer.MAX_VALUE - 1;
+
+	private final char[] pattern;
+	/** For each ASCII char, the bit of every pattern position holding it. Null past 64 chars. */
+	private final long[] asciiMasks;
+	/** The non-ASCII chars of the pattern, sorted, with their position bits. */
+	private final char[] otherChars;
+	private final long[] otherMasks;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private EditDistance(CharSequence patternIn) {
+		int m = patternIn.length();
+		pattern = new char[m];
+		for (int i = 0; i < m; i++) pattern[i] = patternIn.charAt(i);
+
+		if (m > 64) {
+			asciiMasks = null;
+			otherChars = null;
+			otherMasks = null;
+			return;
+		}
+
+		asciiMasks = new long[128];
+		var others = new char[m];
+		int count = 0;
+		for (char c : pattern) if (c >= 128) others[count++] = c;
+		others = Arrays.copyOf(others, count);
+		Arrays.sort(others);
+		// collapse repeats so each char has one mask
+		int distinct = 0;
+		for (int i = 0; i < count; i++) if (distinct == 0 || others[distinct - 1] != others[i]) others[distinct++] = others[i];
+		otherChars = Arrays.copyOf(others, distinct);
+		otherMasks = new long[distinct];
+
+		for (int i = 0; i < m; i++) {
+			char c = pattern[i];
+			if (c < 128) asciiMasks[c] |= 1L << i;
+			else otherMasks[Arrays.binarySearch(otherChars, c)] |= 1L << i;
+		}
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Compiles the given pattern for repeated comparisons. */
+	public static EditDistance of(CharSequence pattern) { return new EditDistance(pattern); }
+
+	//--------------------
+	// Static Comparisons
+	//--------------------
+
+	/** Returns the Levenshtein distance between the two given strings. */
+	public static int levenshtein(CharSequence a, CharSequence b) { return levenshtein(a, b, NO_LIMIT); }
+
+	/**
+	 * Returns the Levenshtein distance between the two given strings if it
+	 * is at most 'max', otherwise returns 'max' + 1.
+	 */
+	public static int levenshtein(CharSequence a, CharSequence b, int max) {
+		// the shorter string is more likely to fit the bit-parallel kernel
+		return (a.length() <= b.length()) ? of(a).levenshtein(b, max) : of(b).levenshtein(a, max);
+	}
+
+	/** Returns the restricted Damerau-Levenshtein distance between the two given strings. */
+	public static int damerau(CharSequence a, CharSequence b) { return damerau(a, b, NO_LIMIT); }
+
+	/**
+	 * Returns the restricted Damerau-Levenshtein distance between the two
+	 * given strings if it is at most 'max', otherwise returns 'max' + 1.
+	 */
+	public static int damerau(CharSequence a, CharSequence b, int max) {
+		return (a.length() <= b.length()) ? of(a).damerau(b, max) : of(b).damerau(a, max);
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns the Levenshtein distance from this pattern to the given text. */
+	public int levenshtein(CharSequence text) { return levenshtein(text, NO_LIMIT); }
+
+	/**
+	 * Returns the Levenshtein distance from this pattern to the given text
+	 * if it is at most 'max', otherwise returns 'max' + 1.
+	 */
+	public int levenshtein(CharSequence text, int max) {
+		return distance(text, clamp(max), false);
+	}
+
+	/** Returns the restricted Damerau-Levenshtein distance from this pattern to the given text. */
+	public int damerau(CharSequence text) { return damerau(text, NO_LIMIT); }
+
+	/**
+	 * Returns the restricted Damerau-Levenshtein distance from this pattern
+	 * to the given text if it is at most 'max', otherwise returns 'max' + 1.
+	 */
+	public int damerau(CharSequence text, int max) {
+		return distance(text, clamp(max), true);
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int length() { return pattern.length; }
+	public String getPattern() { return new String(pattern); }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static int clamp(int max) {
+		if (max < 0) throw new IllegalArgumentException("The maximum distance cannot be negative: " + max);
+		return Math.min(max, NO_LIMIT);
+	}
+
+	private int distance(CharSequence text, int max, boolean transpose) {
+		final int m = pattern.length, n = text.length();
+		// every length difference costs at least one edit
+		if (Math.abs(m - n) > max) return max + 1;
+		if (m == 0) return n;
+		return (asciiMasks != null) ? bitParallel(text, max, transpose) : table(text, max, transpose);
+	}
+
+	private long maskOf(char c) {
+		if (c < 128) return asciiMasks[c];
+		int i = Arrays.binarySearch(otherChars, c);
+		return (i >= 0) ? otherMasks[i] : 0L;
+	}
+
+	/**
+	 * Walks the text one column at a time, tracking only which cells of the
+	 * column went up or down by one from the cell above. The bottom cell is
+	 * the distance so far and can drop by at most one per remaining column,
+	 * which gives the cutoff.
+	 */
+	private int bitParallel(CharSequence text, int max, boolean transpose) {
+		final int m = pattern.length, n = text.length();
+		final long last = 1L << (m - 1);
+		long vp = -1L, vn = 0L;
+		long d0 = 0L, prevEq = 0L;
+		int score = m;
+
+		for (int j = 0; j < n; j++) {
+			long eq = maskOf(text.charAt(j));
+			// a swap matches where this char follows the previous one and the diagonal was not already a match
+			long tr = (transpose) ? (((~d0) & eq) << 1) & prevEq : 0L;
+			d0 = (((eq & vp) + vp) ^ vp) | eq | vn | tr;
+			long hp = vn | ~(d0 | vp);
+			long hn = vp & d0;
+			if ((hp & last) != 0) score++;
+			else if ((hn & last) != 0) score--;
+			if (score - (n - 1 - j) > max) return max + 1;
+			hp = (hp << 1) | 1L;
+			hn <<= 1;
+			vp = hn | ~(d0 | hp);
+			vn = hp & d0;
+			prevEq = eq;
+		}
+		return (score <= max) ? score : max + 1;
+	}
+
+	/** The textbook table kept to three columns, stopping once a whole column exceeds 'max'. */
+	private int table(CharSequence text, int max, boolean transpose) {
+		final int m = pattern.length, n = text.length();
+		int[] before = new int[m + 1];
+		int[] prev = new int[m + 1];
+		int[] cur = new int[m + 1];
+		for (int i = 0; i <= m; i++) prev[i] = i;
+
+		for (int j = 1; j <= n; j++) {
+			char tc = text.charAt(j - 1);
+			cur[0] = j;
+			int best = j;
+			for (int i = 1; i <= m; i++) {
+				char pc = pattern[i - 1];
+				int v = Math.min(Math.min(prev[i], cur[i - 1]) + 1, prev[i - 1] + ((pc == tc) ? 0 : 1));
+				if (transpose && i > 1 && j > 1 && pc == text.charAt(j - 2) && pattern[i - 2] == tc) {
+					v = Math.min(v, before[i - 2] + 1);
+				}
+				cur[i] = v;
+				if (v < best) best = v;
+			}
+			if (best > max) return max + 1;
+			int[] t = before;
+			before = prev;
+			prev = cur;
+			cur = t;
+		}
+		return (prev[m] <= max) ? prev[m] : max + 1;
+	}
+
+}
@@ -0,0 +1,367 @@
+package eutil.strings;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.EList;
+import eutil.random.WordList;
+
+/**
+ * A typo tolerant index over a fixed list of strings.
+ *
+ * <p>
+ * Two structures are kept over the same entries. A BK-tree arranges the
+ * entries by their Levenshtein distance to one another so that a search
+ * can skip every subtree the triangle inequality rules out. A trigram
+ * inverted index maps every three character run to the entries containing
+ * it, and since each edit can only break a few trigrams, an entry close to
+ * the query must share most of the query's trigrams. Searches use
+ * whichever structure rules out more for the given query and distance,
+ * and every candidate is confirmed with {@link EditDistance}.
+ *
+ * <blockquote><pre>
+ *     var index = FuzzyIndex.of(dictionary, true);
+ *     for (var s : index.findWithin("recieve", 2)) ...
+ *     var best = index.suggest("definately", 5);
+ * </pre></blockquote><p>
+ *
+ * Entries keep the order they were given in, which is also how ties are
+ * broken in results. An index built with 'damerau' set measures distance
+ * with {@link EditDistance#damerau} so swapped adjacent characters count
+ * as a single edit. Building in parallel splits the BK-tree into one tree
+ * per worker and sorts the trigram postings with
+ * {@link Arrays#parallelSort}. Indexes are immutable and thread safe,
+ * though each searching thread keeps one int per entry of scratch space.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class FuzzyIndex {
+
+	/** An entry and its distance from the query it was found for. */
+	public record Suggestion(String value, int distance, int index) {}
+
+	private static final Comparator<Suggestion> BEST_FIRST = Comparator.comparingInt(Suggestion::distance).thenComparingInt(Suggestion::index);
+
+	/** The number of entries each BK-tree is given when building in parallel. */
+	private static final int MIN_TREE_SIZE = 1 << 14;
+
+	private final String[] entries;
+	private final boolean damerau;
+	private final int maxLength;
+
+	// BK-trees, with every node being the entry of the same index
+	private final int[] roots;
+	private final int[] firstChild;
+	private final int[] nextSibling;
+	private final int[] edge;
+
+	// trigram postings, the entries containing trigram 't' being postings[starts[t] until starts[t + 1]]
+	private final ConcurrentHashMap<Long, Integer> trigramIds;
+	private final int[] starts;
+	private final int[] postings;
+
+	private final ThreadLocal<int[]> scratch;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private FuzzyIndex(String[] entriesIn, boolean damerauIn, boolean parallel) {
+		entries = entriesIn;
+		damerau = damerauIn;
+		final int n = entries.length;
+		int longest = 0;
+		for (var e : entries) longest = Math.max(longest, e.length());
+		maxLength = longest;
+
+		firstChild = new int[n];
+		nextSibling = new int[n];
+		edge = new int[n];
+		Arrays.fill(firstChild, -1);
+		Arrays.fill(nextSibling, -1);
+
+		int trees = (parallel) ? Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), n / MIN_TREE_SIZE)) : 1;
+		roots = new int[(n == 0) ? 0 : trees];
+		IntStream treeRange = IntStream.range(0, roots.length);
+		(parallel ? treeRange.parallel() : treeRange).forEach(t -> buildTree(t, (int) ((long) n * t / roots.length), (int) ((long) n * (t + 1) / roots.length)));
+
+		// every entry of length L has L - 2 trigrams, laid out one after another
+		var offsets = new int[n + 1];
+		for (int i = 0; i < n; i++) offsets[i + 1] = offsets[i] + Math.max(0, entries[i].length() - 2);
+		trigramIds = new ConcurrentHashMap<>();
+		var nextId = new AtomicInteger();
+		var pairs = new long[offsets[n]];
+		IntStream entryRange = IntStream.range(0, n);
+		(parallel ? entryRange.parallel() : entryRange).forEach(i -> {
+			var s = entries[i];
+			for (int k = 0, p = offsets[i]; k + 2 < s.length(); k++, p++) {
+				int id = trigramIds.computeIfAbsent(trigram(s, k), key -> nextId.getAndIncrement());
+				pairs[p] = ((long) id << 32) | i;
+			}
+		});
+		if (parallel) Arrays.parallelSort(pairs);
+		else Arrays.sort(pairs);
+
+		starts = new int[nextId.get() + 1];
+		postings = new int[pairs.length];
+		for (int p = 0; p < pairs.length; p++) {
+			starts[(int) (pairs[p] >>> 32) + 1]++;
+			postings[p] = (int) pairs[p];
+		}
+		for (int t = 0; t + 1 < starts.length; t++) starts[t + 1] += starts[t];
+
+		scratch = ThreadLocal.withInitial(() -> new int[n]);
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Indexes the given entries by Levenshtein distance. */
+	public static FuzzyIndex of(Collection<String> entries) { return of(entries, false, false); }
+	public static FuzzyIndex of(Collection<String> entries, boolean parallel) { return of(entries, false, parallel); }
+
+	/**
+	 * Indexes the given entries, skipping nulls.
+	 *
+	 * @param damerau  Whether swapping two adjacent characters counts as one edit
+	 * @param parallel Whether to build using the common fork join pool
+	 */
+	public static FuzzyIndex of(Collection<String> entries, boolean damerau, boolean parallel) {
+		var arr = entries.stream().filter(e -> e != null).toArray(String[]::new);
+		return new FuzzyIndex(arr, damerau, parallel);
+	}
+
+	/** Indexes every entry of the given word list. */
+	public static FuzzyIndex of(WordList list, boolean damerau, boolean parallel) {
+		var arr = new String[list.size()];
+		for (int i = 0; i < arr.length; i++) arr[i] = list.get(i);
+		return new FuzzyIndex(arr, damerau, parallel);
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/**
+	 * Returns every entry within 'maxDistance' edits of the given query,
+	 * closest first.
+	 */
+	public EList<Suggestion> findWithin(CharSequence query, int maxDistance) {
+		if (maxDistance < 0) throw new IllegalArgumentException("The maximum distance cannot be negative: " + maxDistance);
+		var out = new EArrayList<Suggestion>();
+		if (query == null) return out;
+		var q = EditDistance.of(query);
+		int need = query.length() - 2 - trigramsBrokenPerEdit() * maxDistance;
+
+		// a query long enough to keep trigrams after 'maxDistance' edits can be filtered by them
+		if (need >= 1) {
+			int[] counts = scratch.get();
+			var touched = countShared(query, counts);
+			for (int i = 0; i < touched.size; i++) {
+				int e = touched.data[i];
+				int shared = counts[e];
+				counts[e] = 0;
+				var s = entries[e];
+				if (Math.abs(s.length() - query.length()) > maxDistance) continue;
+				if (shared < Math.max(s.length(), query.length()) - 2 - trigramsBrokenPerEdit() * maxDistance) continue;
+				int d = distance(q, s, maxDistance);
+				if (d <= maxDistance) out.add(new Suggestion(s, d, e));
+			}
+		}
+		else {
+			var found = new PriorityQueue<Suggestion>(BEST_FIRST.reversed());
+			for (int root : roots) searchTree(root, q, maxDistance, Integer.MAX_VALUE, found, null);
+			out.addAll(found);
+		}
+
+		out.sort(BEST_FIRST);
+		return out;
+	}
+
+	/**
+	 * Returns the 'k' entries closest to the given query, closest first.
+	 * Entries sharing the most trigrams with the query are checked first
+	 * to narrow the BK-tree search that follows.
+	 */
+	public EList<Suggestion> suggest(CharSequence query, int k) {
+		var out = new EArrayList<Suggestion>();
+		if (query == null || k <= 0 || entries.length == 0) return out;
+		var q = EditDistance.of(query);
+		var best = new PriorityQueue<Suggestion>(k + 1, BEST_FIRST.reversed());
+
+		int[] counts = scratch.get();
+		var touched = countShared(query, counts);
+		try {
+			// seed with the strongest trigram matches, marking them so the trees skip them
+			int top = 0;
+			for (int i = 0; i < touched.size; i++) top = Math.max(top, counts[touched.data[i]]);
+			int seeded = 0;
+			for (int level = top; level > 0 && seeded < 4 * k; level--) {
+				for (int i = 0; i < touched.size && seeded < 4 * k; i++) {
+					int e = touched.data[i];
+					if (counts[e] != level) continue;
+					counts[e] = -1;
+					seeded++;
+					offer(best, k, new Suggestion(entries[e], distance(q, entries[e], limit(best, k, q)), e));
+				}
+			}
+			for (int root : roots) searchTree(root, q, -1, k, best, counts);
+		}
+		finally {
+			for (int i = 0; i < touched.size; i++) counts[touched.data[i]] = 0;
+		}
+
+		out.addAll(best);
+		out.sort(BEST_FIRST);
+		return out;
+	}
+
+	/** Returns the closest entry to the given query, or null if this index is empty. */
+	public String closest(CharSequence query) {
+		var s = suggest(query, 1);
+		return (s.isEmpty()) ? null : s.get(0).value();
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public int size() { return entries.length; }
+	public String get(int index) { return entries[index]; }
+	public boolean isDamerau() { return damerau; }
+	/** Returns the number of separate BK-trees the entries were split into. */
+	public int getTreeCount() { return roots.length; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/** Swapping two chars can break the trigrams around both of them, one more than any other edit. */
+	private int trigramsBrokenPerEdit() {
+		return (damerau) ? 4 : 3;
+	}
+
+	private int distance(EditDistance q, String s, int max) {
+		return (damerau) ? q.damerau(s, max) : q.levenshtein(s, max);
+	}
+
+	private static long trigram(CharSequence s, int at) {
+		return ((long) s.charAt(at) << 32) | ((long) s.charAt(at + 1) << 16) | s.charAt(at + 2);
+	}
+
+	private void buildTree(int t, int from, int to) {
+		roots[t] = from;
+		for (int i = from + 1; i < to; i++) {
+			// trees are always measured by Levenshtein distance, which unlike Damerau is a true metric
+			var q = EditDistance.of(entries[i]);
+			int node = from;
+			while (true) {
+				int d = q.levenshtein(entries[node]);
+				int child = firstChild[node];
+				while (child >= 0 && edge[child] != d) child = nextSibling[child];
+				if (child < 0) {
+					edge[i] = d;
+					nextSibling[i] = firstChild[node];
+					firstChild[node] = i;
+					break;
+				}
+				node = child;
+			}
+		}
+	}
+
+	/**
+	 * Searches one tree. With 'radius' given every entry within it is kept,
+	 * otherwise the closest 'k' are kept, the radius shrinking as closer
+	 * entries are found. Entries marked -1 in 'seen' were already offered.
+	 */
+	private void searchTree(int root, EditDistance q, int radius, int k, PriorityQueue<Suggestion> found, int[] seen) {
+		var stack = new int[64];
+		int size = 0;
+		stack[size++] = root;
+
+		while (size > 0) {
+			int node = stack[--size];
+			int r = (radius >= 0) ? radius : limit(found, k, q);
+			// a Damerau distance of r allows a Levenshtein distance of up to 2r
+			int treeRadius = (damerau) ? 2 * r : r;
+			int d = q.levenshtein(entries[node]);
+
+			if (d <= treeRadius && (seen == null || seen[node] != -1)) {
+				int score = (damerau) ? q.damerau(entries[node], r) : d;
+				if (score <= r) offer(found, k, new Suggestion(entries[node], score, node));
+			}
+
+			for (int c = firstChild[node]; c >= 0; c = nextSibling[c]) {
+				if (edge[c] < d - treeRadius || edge[c] > d + treeRadius) continue;
+				if (size == stack.length) stack = Arrays.copyOf(stack, size * 2);
+				stack[size++] = c;
+			}
+		}
+	}
+
+	/**
+	 * The largest distance a new entry may have and still be kept, which
+	 * until 'k' entries are found is the most any two strings here can be
+	 * apart.
+	 */
+	private int limit(PriorityQueue<Suggestion> found, int k, EditDistance q) {
+		return (found.size() < k) ? Math.max(q.length(), maxLength) : found.peek().distance();
+	}
+
+	private static void offer(PriorityQueue<Suggestion> found, int k, Suggestion s) {
+		found.add(s);
+		if (found.size() > k) found.poll();
+	}
+
+	/** Adds up, per entry, how many of the query's trigrams it shares counting repeats, returning the entries touched. */
+	private Touched countShared(CharSequence query, int[] counts) {
+		var touched = new Touched();
+		int n = query.length() - 2;
+		if (n <= 0) return touched;
+
+		var keys = new long[n];
+		for (int k = 0; k < n; k++) keys[k] = trigram(query, k);
+		Arrays.sort(keys);
+
+		for (int k = 0; k < n; ) {
+			int run = 1;
+			while (k + run < n && keys[k + run] == keys[k]) run++;
+			var id = trigramIds.get(keys[k]);
+			k += run;
+			if (id == null) continue;
+
+			// an entry's repeats of a trigram are listed together
+			for (int p = starts[id], end = starts[id + 1]; p < end; ) {
+				int e = postings[p];
+				int times = 1;
+				while (p + times < end && postings[p + times] == e) times++;
+				p += times;
+				if (counts[e] == 0) touched.add(e);
+				counts[e] += Math.min(run, times);
+			}
+		}
+		return touched;
+	}
+
+	/** The entries whose scratch counts were changed by a search. */
+	private static final class Touched {
+		int[] data = new int[16];
+		int size;
+
+		void add(int e) {
+			if (size == data.length) data = Arrays.copyOf(data, size * 2);
+			data[size++] = e;
+		}
+	}
+
+}
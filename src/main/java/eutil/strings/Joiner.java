@@ -0,0 +1,333 @@
+package eutil.strings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * A single pass engine for joining the elements of arrays, collections,
+ * and maps with a separator.
+ *
+ * <p>
+ * Separators are only ever written between elements, so nothing has to
+ * be trimmed off the end, and String results are built in a builder
+ * presized from the element count. Primitive arrays are appended straight
+ * from their primitive values without boxing.
+ *
+ * <p>
+ * The 'appendTo' methods write to any {@link Appendable}. Builders are
+ * written to directly, while every other destination, such as a
+ * {@link Writer}, receives the output in chunks of at most 8K characters
+ * so that joining a huge array never holds the whole result in memory.
+ * {@link #writeTo(OutputStream, Object, String)} does the same for raw
+ * byte streams. I/O failures are rethrown as {@link UncheckedIOException}.
+ *
+ * <p>
+ * Null elements are written as "null", maps are written as "key=value"
+ * entries, and a map containing itself is written as "Itself!".
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class Joiner {
+
+	/** The number of buffered characters at which output is handed to a non-builder destination. */
+	private static final int CHUNK = 8192;
+	/** String results are never presized beyond this, the builder grows normally after it. */
+	private static final int MAX_PRESIZE = 1 << 20;
+
+	private Joiner() {}
+
+	//----------------
+	// String Results
+	//----------------
+
+	public static String join(boolean[] e, String sep) { return appendTo(builder(e.length, 5, sep), e, sep).toString(); }
+	public static String join(byte[] e, String sep) { return appendTo(builder(e.length, 3, sep), e, sep).toString(); }
+	public static String join(char[] e, String sep) { return appendTo(builder(e.length, 1, sep), e, sep).toString(); }
+	public static String join(short[] e, String sep) { return appendTo(builder(e.length, 4, sep), e, sep).toString(); }
+	public static String join(int[] e, String sep) { return appendTo(builder(e.length, 6, sep), e, sep).toString(); }
+	public static String join(long[] e, String sep) { return appendTo(builder(e.length, 10, sep), e, sep).toString(); }
+	public static String join(float[] e, String sep) { return appendTo(builder(e.length, 8, sep), e, sep).toString(); }
+	public static String join(double[] e, String sep) { return appendTo(builder(e.length, 12, sep), e, sep).toString(); }
+	public static String join(Object[] e, String sep) { return appendTo(builder(e.length, 16, sep), e, sep).toString(); }
+	public static String join(List<?> e, String sep) { return appendTo(builder(e.size(), 16, sep), e, sep).toString(); }
+	public static String join(Iterable<?> e, String sep) { return appendTo(new StringBuilder(), e, sep).toString(); }
+	public static String join(Iterator<?> e, String sep) { return appendTo(new StringBuilder(), e, sep).toString(); }
+	public static String join(Enumeration<?> e, String sep) { return appendTo(new StringBuilder(), e, sep).toString(); }
+	public static String join(Map<?, ?> e, String sep) { return appendTo(builder(e.size(), 24, sep), e, sep).toString(); }
+
+	public static <E> String join(E[] e, Function<? super E, ?> mapper, String sep) {
+		return appendTo(builder(e.length, 16, sep), e, mapper, sep).toString();
+	}
+
+	public static <E> String join(Iterable<E> e, Function<? super E, ?> mapper, String sep) {
+		return appendTo(new StringBuilder(), e, mapper, sep).toString();
+	}
+
+	//-------------------------
+	// Appendable Destinations
+	//-------------------------
+
+	public static <A extends Appendable> A appendTo(A out, boolean[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, byte[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, char[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, short[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, int[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, long[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, float[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, double[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, Object[] e, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(e[i]);
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, Iterable<?> e, String sep) {
+		if (e instanceof List<?> list && e instanceof RandomAccess) {
+			var s = sink(out);
+			for (int i = 0, size = list.size(); i < size; i++) {
+				if (i > 0) s.sb.append(sep);
+				s.sb.append(list.get(i));
+				s.spill();
+			}
+			return s.finish(out);
+		}
+		return appendTo(out, e.iterator(), sep);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, Iterator<?> e, String sep) {
+		var s = sink(out);
+		boolean first = true;
+		while (e.hasNext()) {
+			if (!first) s.sb.append(sep);
+			s.sb.append(e.next());
+			s.spill();
+			first = false;
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, Enumeration<?> e, String sep) {
+		return appendTo(out, e.asIterator(), sep);
+	}
+
+	public static <A extends Appendable> A appendTo(A out, Map<?, ?> e, String sep) {
+		var s = sink(out);
+		boolean first = true;
+		for (var entry : e.entrySet()) {
+			if (!first) s.sb.append(sep);
+			var k = entry.getKey();
+			var v = entry.getValue();
+			s.sb.append((k == e) ? "Itself!" : k).append('=').append((v == e) ? "Itself!" : v);
+			s.spill();
+			first = false;
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable, E> A appendTo(A out, E[] e, Function<? super E, ?> mapper, String sep) {
+		var s = sink(out);
+		for (int i = 0; i < e.length; i++) {
+			if (i > 0) s.sb.append(sep);
+			s.sb.append(mapper.apply(e[i]));
+			s.spill();
+		}
+		return s.finish(out);
+	}
+
+	public static <A extends Appendable, E> A appendTo(A out, Iterable<E> e, Function<? super E, ?> mapper, String sep) {
+		var s = sink(out);
+		boolean first = true;
+		for (var val : e) {
+			if (!first) s.sb.append(sep);
+			s.sb.append(mapper.apply(val));
+			s.spill();
+			first = false;
+		}
+		return s.finish(out);
+	}
+
+	/**
+	 * Joins any array, {@link Iterable}, {@link Iterator},
+	 * {@link Enumeration}, or {@link Map} into the given destination.
+	 * Anything else is appended as its 'toString' value.
+	 */
+	public static <A extends Appendable> A appendAll(A out, Object elements, String sep) {
+		return switch (elements) {
+		case boolean[] a -> appendTo(out, a, sep);
+		case byte[] a -> appendTo(out, a, sep);
+		case char[] a -> appendTo(out, a, sep);
+		case short[] a -> appendTo(out, a, sep);
+		case int[] a -> appendTo(out, a, sep);
+		case long[] a -> appendTo(out, a, sep);
+		case float[] a -> appendTo(out, a, sep);
+		case double[] a -> appendTo(out, a, sep);
+		case Object[] a -> appendTo(out, a, sep);
+		case Iterable<?> i -> appendTo(out, i, sep);
+		case Iterator<?> i -> appendTo(out, i, sep);
+		case Enumeration<?> en -> appendTo(out, en, sep);
+		case Map<?, ?> m -> appendTo(out, m, sep);
+		case null, default -> {
+			var s = sink(out);
+			s.sb.append(elements);
+			yield s.finish(out);
+		}
+		};
+	}
+
+	//----------------------
+	// OutputStream Targets
+	//----------------------
+
+	/** Joins the given elements (see {@link #appendAll}) straight to the given stream as UTF-8. */
+	public static void writeTo(OutputStream out, Object elements, String sep) {
+		writeTo(out, StandardCharsets.UTF_8, elements, sep);
+	}
+
+	/**
+	 * Joins the given elements (see {@link #appendAll}) straight to the
+	 * given stream in the given charset. The stream is flushed but not
+	 * closed.
+	 */
+	public static void writeTo(OutputStream out, Charset charset, Object elements, String sep) {
+		var writer = new OutputStreamWriter(out, charset);
+		appendAll(writer, elements, sep);
+		try {
+			writer.flush();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private static StringBuilder builder(int count, int perElement, String sep) {
+		long estimate = (long) count * (perElement + sep.length());
+		return new StringBuilder((int) Math.min(estimate, MAX_PRESIZE));
+	}
+
+	private static Sink sink(Appendable out) {
+		return (out instanceof StringBuilder sb) ? new Sink(sb, null) : new Sink(new StringBuilder(CHUNK + 64), out);
+	}
+
+	/** Collects output in a builder, handing it to 'dest' in chunks when the real destination is not a builder. */
+	private static final class Sink {
+		final StringBuilder sb;
+		final Appendable dest;
+
+		Sink(StringBuilder sbIn, Appendable destIn) {
+			sb = sbIn;
+			dest = destIn;
+		}
+
+		void spill() {
+			if (dest != null && sb.length() >= CHUNK) flush();
+		}
+
+		<A> A finish(A out) {
+			if (dest != null && sb.length() > 0) flush();
+			return out;
+		}
+
+		private void flush() {
+			try {
+				dest.append(sb);
+				sb.setLength(0);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+}
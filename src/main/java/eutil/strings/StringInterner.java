@@ -0,0 +1,233 @@
+package eutil.strings;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent cache which hands back one shared String for
+ * every run of equal characters it is asked for.
+ *
+ * <p>
+ * Values that repeat heavily, such as host names or enum-like columns,
+ * can be looked up straight from a {@code char[]} or {@link CharSequence}
+ * range, so a hit allocates nothing and only a miss creates a String.
+ *
+ * <blockquote><pre>
+ *     var hosts = new StringInterner(1 &lt;&lt; 14);
+ *     var t = Tokenizer.of(line, ',').interning(hosts);
+ *     String host = t.nextString();
+ * </pre></blockquote><p>
+ *
+ * Entries live in a fixed, open addressed table and are probed for within
+ * a small window starting at their hash. When the window is full, one of
+ * its entries is evicted using the clock policy: entries that were used
+ * since the last sweep get a second chance, so values that keep repeating
+ * stay cached while one-off values are replaced. Memory is bounded by the
+ * capacity and by the longest value that will be cached.
+ *
+ * <p>
+ * Interners are thread safe without locking. Two threads missing on the
+ * same value at once may briefly produce two copies of it, which only
+ * costs memory, never correctness. Hits, misses, and evictions are counted
+ * for tuning the capacity.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class StringInterner {
+
+	/** The number of slots, starting at a value's hash, that may hold it. */
+	private static final int PROBE = 8;
+
+	private static final StringInterner SHARED = new StringInterner(1 << 16, 64);
+
+	private final AtomicReferenceArray<String> slots;
+	/** Clock bits, set when a slot is hit and cleared as the eviction hand passes. */
+	private final byte[] used;
+	private final int mask;
+	private final int maxLength;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	//--------------
+	// Constructors
+	//--------------
+
+	/** Creates an interner holding about 'capacity' values of up to 64 chars each. */
+	public StringInterner(int capacity) { this(capacity, 64); }
+
+	/**
+	 * Creates an interner holding about 'capacity' values, rounded up to a
+	 * power of two. Longer values than 'maxLength' are never cached.
+	 */
+	public StringInterner(int capacity, int maxLength) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		if (maxLength < 0) throw new IllegalArgumentException("Max length cannot be negative: " + maxLength);
+		int size = Math.max(PROBE, Integer.highestOneBit(Math.min(capacity, 1 << 30) - 1) << 1);
+		slots = new AtomicReferenceArray<>(size);
+		used = new byte[size];
+		mask = size - 1;
+		this.maxLength = maxLength;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Returns the interner shared by {@link EStringUtil#intern}. */
+	public static StringInterner shared() { return SHARED; }
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns the cached String equal to the given sequence, or null if given null. */
+	public String intern(CharSequence s) {
+		if (s == null) return null;
+		return intern(s, 0, s.length());
+	}
+
+	/** Returns the cached String equal to chars [from, to) of the given sequence. */
+	public String intern(CharSequence s, int from, int to) {
+		int len = to - from;
+		if (len > maxLength) {
+			misses.increment();
+			return s.subSequence(from, to).toString();
+		}
+		int h = 0;
+		for (int i = from; i < to; i++) h = 31 * h + s.charAt(i);
+
+		int start = spread(h);
+		for (int p = 0; p < PROBE; p++) {
+			int i = (start + p) & mask;
+			String e = slots.get(i);
+			if (e == null) break;
+			if (e.hashCode() == h && e.length() == len && matches(e, s, from)) return hit(i, e);
+		}
+
+		String value = (s instanceof String str) ? str.substring(from, to) : s.subSequence(from, to).toString();
+		return insert(start, value);
+	}
+
+	/** Returns the cached String equal to 'len' chars of the given array starting at 'off'. */
+	public String intern(char[] chars, int off, int len) {
+		if (len > maxLength) {
+			misses.increment();
+			return new String(chars, off, len);
+		}
+		int h = 0;
+		for (int i = off, end = off + len; i < end; i++) h = 31 * h + chars[i];
+
+		int start = spread(h);
+		for (int p = 0; p < PROBE; p++) {
+			int i = (start + p) & mask;
+			String e = slots.get(i);
+			if (e == null) break;
+			if (e.hashCode() == h && e.length() == len && matches(e, chars, off)) return hit(i, e);
+		}
+
+		return insert(start, new String(chars, off, len));
+	}
+
+	/** Empties this interner and resets its statistics. */
+	public void clear() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.set(i, null);
+			used[i] = 0;
+		}
+		resetStats();
+	}
+
+	public void resetStats() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	public long getHits() { return hits.sum(); }
+	public long getMisses() { return misses.sum(); }
+	public long getEvictions() { return evictions.sum(); }
+	/** Returns the number of slots, which bounds the number of cached values. */
+	public int getCapacity() { return slots.length(); }
+	public int getMaxLength() { return maxLength; }
+
+	/** Returns the fraction of lookups answered from the cache, or 0 if there were none. */
+	public double getHitRatio() {
+		long h = hits.sum(), total = h + misses.sum();
+		return (total == 0) ? 0 : (double) h / total;
+	}
+
+	/** Counts the cached values by walking the table. */
+	public int size() {
+		int n = 0;
+		for (int i = 0; i < slots.length(); i++) if (slots.get(i) != null) n++;
+		return n;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("StringInterner[capacity=%d, hits=%d, misses=%d, evictions=%d, hitRatio=%.3f]",
+							 getCapacity(), getHits(), getMisses(), getEvictions(), getHitRatio());
+	}
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private int spread(int h) {
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	private String hit(int slot, String e) {
+		// clock bits are only hints, so a racy plain write is fine
+		if (used[slot] == 0) used[slot] = 1;
+		hits.increment();
+		return e;
+	}
+
+	/**
+	 * Places a missed value into the first free slot of its window, or else
+	 * evicts the first slot whose clock bit is clear after one sweep.
+	 */
+	private String insert(int start, String value) {
+		misses.increment();
+		for (int p = 0; p < PROBE; p++) {
+			int i = (start + p) & mask;
+			if (slots.get(i) == null && slots.compareAndSet(i, null, value)) return value;
+		}
+
+		int victim = -1;
+		for (int p = 0; p < PROBE && victim < 0; p++) {
+			int i = (start + p) & mask;
+			if (used[i] != 0) used[i] = 0;
+			else victim = i;
+		}
+		// every slot had a second chance, so the hand wraps back to the start
+		if (victim < 0) victim = start;
+
+		String old = slots.get(victim);
+		if (slots.compareAndSet(victim, old, value)) evictions.increment();
+		return value;
+	}
+
+	private static boolean matches(String e, CharSequence s, int from) {
+		for (int i = 0, len = e.length(); i < len; i++) {
+			if (e.charAt(i) != s.charAt(from + i)) return false;
+		}
+		return true;
+	}
+
+	private static boolean matches(String e, char[] chars, int off) {
+		for (int i = 0, len = e.length(); i < len; i++) {
+			if (e.charAt(i) != chars[off + i]) return false;
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,357 @@
+package eutil.strings;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.function.IntConsumer;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.EList;
+
+/**
+ * A compiled set of patterns which can be searched for all at once.
+ *
+ * <p>
+ * Patterns are built into an Aho-Corasick automaton so that finding which
+ * of them occur in a piece of text takes a single pass over the text no
+ * matter how many patterns there are. Prefix and exact checks walk the
+ * same trie without following failure links, and suffix checks walk a
+ * second trie of the reversed patterns which is only built when first
+ * needed.
+ *
+ * <blockquote><pre>
+ *     var keywords = EStringUtil.compileMatcher(blockedWords, true);
+ *     for (var line : lines) {
+ *         if (keywords.containsAny(line)) ...
+ *     }
+ * </pre></blockquote><p>
+ *
+ * Patterns are identified by their index in the collection they were
+ * compiled from, and whenever more than one pattern could answer a query
+ * the lowest index wins, exactly like the looping EStringUtil methods.
+ * Null patterns are ignored. Case insensitive matchers compare characters
+ * one at a time in the same way as {@link String#equalsIgnoreCase}.
+ * Matchers are immutable and thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class StringMatcher {
+
+	/** A pattern occurrence covering [start, end) of the searched text. */
+	public record Match(int start, int end, int pattern) {}
+
+	private final String[] patterns;
+	private final boolean ignoreCase;
+	private final Trie forward;
+	/** The lowest pattern index reachable through each node's output links, or MAX_VALUE. */
+	private final int[] bestOutput;
+	private volatile Trie reversed;
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private StringMatcher(String[] patternsIn, boolean ignoreCaseIn) {
+		patterns = patternsIn;
+		ignoreCase = ignoreCaseIn;
+		forward = new Trie(patternsIn, ignoreCaseIn, false);
+		bestOutput = forward.buildLinks();
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	public static StringMatcher of(String... patterns) { return of(Arrays.asList(patterns), false); }
+	public static StringMatcher of(Collection<?> patterns) { return of(patterns, false); }
+
+	/** Compiles the 'toString' values of the given patterns, skipping nulls. */
+	public static StringMatcher of(Collection<?> patterns, boolean ignoreCase) {
+		var arr = new String[patterns.size()];
+		int i = 0;
+		for (var p : patterns) arr[i++] = (p == null) ? null : String.valueOf(p);
+		return new StringMatcher(arr, ignoreCase);
+	}
+
+	//----------
+	// Contains
+	//----------
+
+	/** Returns true if any pattern occurs anywhere in the given text. */
+	public boolean containsAny(CharSequence text) {
+		return find(text) != null;
+	}
+
+	/**
+	 * Returns the first occurrence in the given text, being the one that
+	 * ends earliest, or null if no pattern occurs.
+	 */
+	public Match find(CharSequence text) {
+		if (text == null) return null;
+		final Trie t = forward;
+		if (t.output[0] >= 0) return new Match(0, 0, t.output[0]);
+
+		int s = 0;
+		for (int i = 0, len = text.length(); i < len; i++) {
+			s = t.next(s, fold(text.charAt(i)));
+			int o = (t.output[s] >= 0) ? s : t.dictLink[s];
+			if (o > 0) return new Match(i + 1 - t.depth[o], i + 1, t.output[o]);
+		}
+		return null;
+	}
+
+	/** Returns every occurrence of every pattern in the given text ordered by where they end. */
+	public EList<Match> findAll(CharSequence text) {
+		var out = new EArrayList<Match>();
+		if (text == null) return out;
+		final Trie t = forward;
+		final int empty = t.output[0];
+		if (empty >= 0) out.add(new Match(0, 0, empty));
+
+		int s = 0;
+		for (int i = 0, len = text.length(); i < len; i++) {
+			s = t.next(s, fold(text.charAt(i)));
+			for (int o = (t.output[s] >= 0) ? s : t.dictLink[s]; o > 0; o = t.dictLink[o]) {
+				out.add(new Match(i + 1 - t.depth[o], i + 1, t.output[o]));
+			}
+			if (empty >= 0) out.add(new Match(i + 1, i + 1, empty));
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the lowest index of any pattern occurring in the given text,
+	 * or -1 if none occur. Unlike {@link #find} this always reads the
+	 * entire text.
+	 */
+	public int firstPattern(CharSequence text) {
+		if (text == null) return -1;
+		final Trie t = forward;
+		final int[] best = bestOutput;
+		int result = best[0];
+
+		int s = 0;
+		for (int i = 0, len = text.length(); i < len && result > 0; i++) {
+			s = t.next(s, fold(text.charAt(i)));
+			if (best[s] < result) result = best[s];
+		}
+		return (result == Integer.MAX_VALUE) ? -1 : result;
+	}
+
+	/** Passes the index of every distinct pattern that occurs in the given text to the consumer. */
+	public void forEachPattern(CharSequence text, IntConsumer action) {
+		if (text == null) return;
+		var seen = new boolean[patterns.length];
+		for (var m : findAll(text)) {
+			if (!seen[m.pattern()]) {
+				seen[m.pattern()] = true;
+				action.accept(m.pattern());
+			}
+		}
+	}
+
+	//------------------
+	// Prefix and Exact
+	//------------------
+
+	/** Returns the lowest index of any pattern the given text starts with, or -1. */
+	public int prefixOf(CharSequence text) {
+		if (text == null) return -1;
+		return walk(forward, text, false, false);
+	}
+
+	/** Returns the lowest index of any pattern the given text ends with, or -1. */
+	public int suffixOf(CharSequence text) {
+		if (text == null) return -1;
+		return walk(reversed(), text, true, false);
+	}
+
+	/** Returns the lowest index of any pattern equal to the given text, or -1. */
+	public int indexOf(CharSequence text) {
+		if (text == null) return -1;
+		return walk(forward, text, false, true);
+	}
+
+	public boolean startsWithAny(CharSequence text) { return prefixOf(text) >= 0; }
+	public boolean endsWithAny(CharSequence text) { return suffixOf(text) >= 0; }
+	public boolean equalsAny(CharSequence text) { return indexOf(text) >= 0; }
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the pattern at the given index. */
+	public String getPattern(int index) { return patterns[index]; }
+	/** Returns the pattern at the given index, or null if the index is -1. */
+	public String getPatternOrNull(int index) { return (index < 0) ? null : patterns[index]; }
+	public int size() { return patterns.length; }
+	public boolean isIgnoreCase() { return ignoreCase; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	private char fold(char c) {
+		return (ignoreCase) ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+	}
+
+	/** Follows trie edges only, collecting the lowest pattern index on the path or only at its end. */
+	private int walk(Trie t, CharSequence text, boolean backwards, boolean exactOnly) {
+		int len = text.length();
+		int best = (!exactOnly || len == 0) ? t.output[0] : -1;
+		if (best < 0) best = Integer.MAX_VALUE;
+
+		int s = 0;
+		for (int i = 0; i < len; i++) {
+			char c = fold(text.charAt(backwards ? len - 1 - i : i));
+			s = t.child(s, c);
+			if (s < 0) break;
+			if (t.output[s] >= 0 && t.output[s] < best && (!exactOnly || i == len - 1)) best = t.output[s];
+		}
+		return (best == Integer.MAX_VALUE) ? -1 : best;
+	}
+
+	private Trie reversed() {
+		var r = reversed;
+		if (r == null) {
+			synchronized (this) {
+				r = reversed;
+				if (r == null) reversed = r = new Trie(patterns, ignoreCase, true);
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * A trie flattened into arrays. Each node's edges are stored sorted by
+	 * character in one shared range so that lookups are a binary search,
+	 * with the root's ASCII edges also kept in a direct table.
+	 */
+	private static final class Trie {
+		final int[] edgeStart;
+		final char[] edgeChars;
+		final int[] edgeTargets;
+		final int[] rootAscii = new int[128];
+		/** The lowest pattern index ending at each node, or -1. */
+		final int[] output;
+		final int[] depth;
+		int[] fail;
+		/** The nearest node along the failure chain that has an output, or 0. */
+		int[] dictLink;
+
+		Trie(String[] patterns, boolean ignoreCase, boolean reverse) {
+			// build with maps first, then flatten once every node is known
+			var children = new EArrayList<HashMap<Character, Integer>>();
+			var out = new EArrayList<Integer>();
+			var dep = new EArrayList<Integer>();
+			children.add(new HashMap<>());
+			out.add(-1);
+			dep.add(0);
+
+			for (int p = 0; p < patterns.length; p++) {
+				String pat = patterns[p];
+				if (pat == null) continue;
+				int s = 0;
+				for (int i = 0, len = pat.length(); i < len; i++) {
+					char c = pat.charAt(reverse ? len - 1 - i : i);
+					if (ignoreCase) c = Character.toLowerCase(Character.toUpperCase(c));
+					Integer next = children.get(s).get(c);
+					if (next == null) {
+						next = children.size();
+						children.get(s).put(c, next);
+						children.add(new HashMap<>());
+						out.add(-1);
+						dep.add(dep.get(s) + 1);
+					}
+					s = next;
+				}
+				if (out.get(s) < 0) out.set(s, p);
+			}
+
+			int n = children.size();
+			edgeStart = new int[n + 1];
+			output = new int[n];
+			depth = new int[n];
+			int edges = 0;
+			for (int s = 0; s < n; s++) edges += children.get(s).size();
+			edgeChars = new char[edges];
+			edgeTargets = new int[edges];
+			Arrays.fill(rootAscii, -1);
+
+			int e = 0;
+			for (int s = 0; s < n; s++) {
+				edgeStart[s] = e;
+				output[s] = out.get(s);
+				depth[s] = dep.get(s);
+				var keys = children.get(s).keySet().toArray(new Character[0]);
+				Arrays.sort(keys);
+				for (Character c : keys) {
+					edgeChars[e] = c;
+					edgeTargets[e] = children.get(s).get(c);
+					if (s == 0 && c < 128) rootAscii[c] = edgeTargets[e];
+					e++;
+				}
+			}
+			edgeStart[n] = e;
+		}
+
+		/** Computes failure and output links breadth first, returning the best output of every node. */
+		int[] buildLinks() {
+			int n = output.length;
+			fail = new int[n];
+			dictLink = new int[n];
+			var best = new int[n];
+			best[0] = (output[0] >= 0) ? output[0] : Integer.MAX_VALUE;
+
+			var queue = new ArrayDeque<Integer>();
+			for (int e = edgeStart[0]; e < edgeStart[1]; e++) queue.add(edgeTargets[e]);
+
+			while (!queue.isEmpty()) {
+				int s = queue.poll();
+				int f = fail[s];
+				dictLink[s] = (output[f] >= 0) ? f : dictLink[f];
+				int own = (output[s] >= 0) ? output[s] : Integer.MAX_VALUE;
+				best[s] = Math.min(own, best[f]);
+
+				for (int e = edgeStart[s]; e < edgeStart[s + 1]; e++) {
+					char c = edgeChars[e];
+					int t = edgeTargets[e];
+					// the child's failure is the longest proper suffix that is also in the trie
+					int g = f;
+					int link;
+					while ((link = child(g, c)) < 0 && g != 0) g = fail[g];
+					fail[t] = (link >= 0 && link != t) ? link : 0;
+					queue.add(t);
+				}
+			}
+			return best;
+		}
+
+		/** Returns the child of 's' along 'c', or -1. */
+		int child(int s, char c) {
+			if (s == 0 && c < 128) return rootAscii[c];
+			int lo = edgeStart[s], hi = edgeStart[s + 1] - 1;
+			while (lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				char m = edgeChars[mid];
+				if (m < c) lo = mid + 1;
+				else if (m > c) hi = mid - 1;
+				else return edgeTargets[mid];
+			}
+			return -1;
+		}
+
+		/** Returns the automaton state after reading 'c' in state 's'. */
+		int next(int s, char c) {
+			while (true) {
+				int t = child(s, c);
+				if (t >= 0) return t;
+				if (s == 0) return 0;
+				s = fail[s];
+			}
+		}
+	}
+
+}
@@ -0,0 +1,418 @@
+package eutil.strings;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.EList;
+import eutil.math.NumberParser;
+
+/**
+ * Splits any {@link CharSequence} into delimiter separated fields without
+ * copying it.
+ *
+ * <p>
+ * Each field is exposed as a {@link CharSequence} view over the original
+ * characters, so splitting a String, StringBuilder, EStringBuilder, or
+ * CharBuffer neither runs a regex nor allocates per field. Numeric fields
+ * can be read with {@link #nextInt()}, {@link #nextLong()}, and
+ * {@link #nextDouble()} which parse straight out of the source.
+ *
+ * <blockquote><pre>
+ *     var t = Tokenizer.of(line, ',').quoted('"');
+ *     String name = t.nextString();
+ *     int count = t.nextInt();
+ *     double price = t.nextDouble();
+ * </pre></blockquote><p>
+ *
+ * Delimiters may be a single char, a multi-char string, or a class of
+ * chars given as a predicate. Unlike {@link String#split}, empty fields
+ * (including trailing ones) are returned unless {@link #skipEmpty()} is
+ * set. With a quote char set, a field which starts with the quote runs to
+ * the matching closing quote, delimiters inside it are ignored, and a
+ * doubled quote stands for a single one. With a limit set, the last field
+ * holds the rest of the input as is.
+ *
+ * <p>
+ * The view returned by {@link #next()} is reused and is only valid until
+ * the tokenizer advances again; call 'toString' on it to keep it. The
+ * source must not be modified while it is being tokenized. Tokenizers are
+ * not thread safe.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public final class Tokenizer implements Iterator<CharSequence>, Iterable<CharSequence> {
+
+	private final CharSequence src;
+	private final int end;
+
+	private final char delimChar;
+	private final String delimString;
+	private final IntPredicate delimClass;
+
+	private char quote;
+	private boolean quoting;
+	private boolean skipEmpty;
+	private int limit = Integer.MAX_VALUE;
+	private StringInterner interner;
+
+	/** Where the next field begins, or -1 once every field has been read. */
+	private int pos;
+	private int fieldCount;
+	private final View view = new View();
+	private final NumberParser parser = new NumberParser();
+
+	//--------------
+	// Constructors
+	//--------------
+
+	private Tokenizer(CharSequence srcIn, char charIn, String stringIn, IntPredicate classIn) {
+		src = srcIn;
+		end = srcIn.length();
+		delimChar = charIn;
+		delimString = stringIn;
+		delimClass = classIn;
+	}
+
+	//-----------------
+	// Static Creation
+	//-----------------
+
+	/** Splits the given sequence on a single char. */
+	public static Tokenizer of(CharSequence src, char delimiter) {
+		return new Tokenizer(src, delimiter, null, null);
+	}
+
+	/** Splits the given sequence on a literal (not regex) string. */
+	public static Tokenizer of(CharSequence src, String delimiter) {
+		if (delimiter.isEmpty()) throw new IllegalArgumentException("The delimiter cannot be empty!");
+		if (delimiter.length() == 1) return of(src, delimiter.charAt(0));
+		return new Tokenizer(src, '\0', delimiter, null);
+	}
+
+	/** Splits the given sequence on every char the predicate accepts. */
+	public static Tokenizer of(CharSequence src, IntPredicate delimiterClass) {
+		return new Tokenizer(src, '\0', null, delimiterClass);
+	}
+
+	/** Splits the given sequence into words separated by runs of whitespace. */
+	public static Tokenizer words(CharSequence src) {
+		return of(src, Character::isWhitespace).skipEmpty();
+	}
+
+	//---------------
+	// Configuration
+	//---------------
+
+	/** Treats fields beginning with the given char as quoted. */
+	public Tokenizer quoted(char quoteIn) {
+		quote = quoteIn;
+		quoting = true;
+		return this;
+	}
+
+	/** Skips empty fields, so runs of delimiters act as one. */
+	public Tokenizer skipEmpty() {
+		skipEmpty = true;
+		return this;
+	}
+
+	/** Stops splitting after 'maxFields' - 1 fields, leaving the rest of the input in the last one. */
+	public Tokenizer limit(int maxFields) {
+		if (maxFields < 1) throw new IllegalArgumentException("A limit must allow at least one field: " + maxFields);
+		limit = maxFields;
+		return this;
+	}
+
+	/**
+	 * Makes {@link #nextString()}, {@link #toList()}, and {@link #toArray()}
+	 * return Strings from the given interner, so repeated field values share
+	 * one instance and hits are read straight out of the source.
+	 */
+	public Tokenizer interning(StringInterner internerIn) {
+		interner = internerIn;
+		return this;
+	}
+
+	//-----------
+	// Overrides
+	//-----------
+
+	@Override
+	public Iterator<CharSequence> iterator() {
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (pos < 0) return false;
+		if (!skipEmpty) return true;
+		// look ahead past empty fields without consuming a non-empty one, leaving
+		// the view on the field last returned by next() as it is still in use
+		int from = view.from, to = view.to;
+		var copy = view.copy;
+		boolean found = false;
+		while (pos >= 0 && !found) {
+			int save = pos, count = fieldCount;
+			advance();
+			if (view.to > view.from || view.copy != null) {
+				pos = save;
+				fieldCount = count;
+				found = true;
+			}
+		}
+		view.set(from, to);
+		view.copy = copy;
+		return found;
+	}
+
+	/** Returns a view of the next field, valid until this tokenizer advances again. */
+	@Override
+	public CharSequence next() {
+		if (!hasNext()) throw new NoSuchElementException();
+		advance();
+		return view;
+	}
+
+	//---------
+	// Methods
+	//---------
+
+	/** Returns the next field as a String, shared with earlier equal fields when interning. */
+	public String nextString() {
+		next();
+		return (interner != null) ? view.intern(interner) : view.toString();
+	}
+
+	/** Skips the next field. */
+	public Tokenizer skip() {
+		next();
+		return this;
+	}
+
+	/**
+	 * Parses the next field as an int.
+	 *
+	 * @throws NumberFormatException if the field is not a valid int
+	 */
+	public int nextInt() {
+		next();
+		check(view.parse(parser, 'i'));
+		return parser.intValue();
+	}
+
+	/**
+	 * Parses the next field as a long.
+	 *
+	 * @throws NumberFormatException if the field is not a valid long
+	 */
+	public long nextLong() {
+		next();
+		check(view.parse(parser, 'l'));
+		return parser.longValue();
+	}
+
+	/**
+	 * Parses the next field as a double.
+	 *
+	 * @throws NumberFormatException if the field is not a valid double
+	 */
+	public double nextDouble() {
+		next();
+		check(view.parse(parser, 'd'));
+		return parser.doubleValue();
+	}
+
+	/** Parses the next field as an int, returning the default value if it is missing or invalid. */
+	public int nextInt(int defaultValue) {
+		if (!hasNext()) return defaultValue;
+		next();
+		return (view.parse(parser, 'i') == NumberParser.OK) ? parser.intValue() : defaultValue;
+	}
+
+	/** Parses the next field as a double, returning the default value if it is missing or invalid. */
+	public double nextDouble(double defaultValue) {
+		if (!hasNext()) return defaultValue;
+		next();
+		return (view.parse(parser, 'd') == NumberParser.OK) ? parser.doubleValue() : defaultValue;
+	}
+
+	/** Copies every remaining field into a list of Strings. */
+	public EList<String> toList() {
+		var out = new EArrayList<String>();
+		while (hasNext()) out.add(nextString());
+		return out;
+	}
+
+	/** Copies every remaining field into an array of Strings. */
+	public String[] toArray() {
+		return toList().toArray(new String[0]);
+	}
+
+	/** Counts the remaining fields, consuming them. */
+	public int countRemaining() {
+		int n = 0;
+		while (hasNext()) {
+			advance();
+			n++;
+		}
+		return n;
+	}
+
+	//---------
+	// Getters
+	//---------
+
+	/** Returns the start of the last field read within the source, excluding any opening quote. */
+	public int fieldStart() { return view.from; }
+	/** Returns the end (exclusive) of the last field read within the source, excluding any closing quote. */
+	public int fieldEnd() { return view.to; }
+	/** Returns the number of fields read so far, including skipped ones. */
+	public int getFieldCount() { return fieldCount; }
+
+	//------------------
+	// Internal Methods
+	//------------------
+
+	/** Moves the view onto the field starting at 'pos' and moves 'pos' past its delimiter. */
+	private void advance() {
+		view.copy = null;
+		fieldCount++;
+
+		if (fieldCount >= limit) {
+			view.set(pos, end);
+			pos = -1;
+			return;
+		}
+
+		int start = pos;
+		int d;
+		if (quoting && start < end && src.charAt(start) == quote) {
+			// anything between the closing quote and the next delimiter is dropped
+			int close = readQuoted(start + 1);
+			d = findDelimiter(Math.min(close + 1, end));
+		}
+		else {
+			d = findDelimiter(start);
+			view.set(start, (d < 0) ? end : d);
+		}
+		pos = (d < 0) ? -1 : d + delimLength();
+	}
+
+	/**
+	 * Reads a quoted field whose contents begin at 'from', pointing the view
+	 * at them and returning the index of the closing quote (or the end). A
+	 * field containing doubled quotes is unescaped into a copy.
+	 */
+	private int readQuoted(int from) {
+		StringBuilder copy = null;
+		int runStart = from;
+		int i = from;
+		while (i < end) {
+			char c = src.charAt(i);
+			if (c == quote) {
+				if (i + 1 < end && src.charAt(i + 1) == quote) {
+					if (copy == null) copy = new StringBuilder();
+					copy.append(src, runStart, i + 1);
+					i += 2;
+					runStart = i;
+					continue;
+				}
+				break;
+			}
+			i++;
+		}
+		if (copy != null) {
+			copy.append(src, runStart, i);
+			view.copy = copy;
+		}
+		view.set(from, i);
+		return i;
+	}
+
+	private int findDelimiter(int from) {
+		if (delimString != null) {
+			if (src instanceof String s) return s.indexOf(delimString, from);
+			if (src instanceof StringBuilder sb) return sb.indexOf(delimString, from);
+			char first = delimString.charAt(0);
+			int len = delimString.length();
+			for (int i = from, last = end - len; i <= last; i++) {
+				if (src.charAt(i) != first) continue;
+				int j = 1;
+				while (j < len && src.charAt(i + j) == delimString.charAt(j)) j++;
+				if (j == len) return i;
+			}
+			return -1;
+		}
+		if (delimClass != null) {
+			for (int i = from; i < end; i++) if (delimClass.test(src.charAt(i))) return i;
+			return -1;
+		}
+		if (src instanceof String s) return s.indexOf(delimChar, from);
+		for (int i = from; i < end; i++) if (src.charAt(i) == delimChar) return i;
+		return -1;
+	}
+
+	private int delimLength() {
+		return (delimString != null) ? delimString.length() : 1;
+	}
+
+	private void check(int status) {
+		if (status != NumberParser.OK) throw new NumberFormatException("For input string: \"" + view + "\"");
+	}
+
+	/** A reusable window onto [from, to) of the source, or onto an unescaped copy of a quoted field. */
+	private final class View implements CharSequence {
+		int from;
+		int to;
+		StringBuilder copy;
+
+		void set(int fromIn, int toIn) {
+			from = fromIn;
+			to = toIn;
+		}
+
+		String intern(StringInterner in) {
+			return (copy != null) ? in.intern(copy) : in.intern(src, from, to);
+		}
+
+		int parse(NumberParser p, char type) {
+			CharSequence s = (copy != null) ? copy : src;
+			int f = (copy != null) ? 0 : from;
+			int t = (copy != null) ? copy.length() : to;
+			return switch (type) {
+			case 'i' -> p.parseInt(s, f, t);
+			case 'l' -> p.parseLong(s, f, t);
+			default -> p.parseDouble(s, f, t);
+			};
+		}
+
+		@Override
+		public int length() {
+			return (copy != null) ? copy.length() : to - from;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (copy != null) return copy.charAt(index);
+			if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException(index);
+			return src.charAt(from + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int stop) {
+			if (copy != null) return copy.subSequence(start, stop);
+			return src.subSequence(from + start, from + stop);
+		}
+
+		@Override
+		public String toString() {
+			if (copy != null) return copy.toString();
+			if (src instanceof String s) return s.substring(from, to);
+			return src.subSequence(from, to).toString();
+		}
+	}
+
+}
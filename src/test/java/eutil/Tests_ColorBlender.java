@@ -0,0 +1,87 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.colors.BlendMode;
+import eutil.colors.ColorBlender;
+
+/**
+ * A series of tests for the premultiplied alpha compositing engine.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_ColorBlender {
+
+	@Test
+	public void test_modesAgainstReference() {
+		var rand = new Random(3);
+		for (int i = 0; i < 100_000; i++) {
+			int s = ColorBlender.premultiply(rand.nextInt());
+			int d = ColorBlender.premultiply(rand.nextInt());
+			for (var mode : BlendMode.values()) {
+				int out = ColorBlender.blend(mode, s, d);
+				for (int shift = 0; shift <= 24; shift += 8) {
+					double expected = reference(mode, s, d, shift);
+					assertEquals(expected, (out >>> shift) & 0xff, 1.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_regions() {
+		int w = 300, h = 200, stride = 320;
+		var rand = new Random(4);
+		var src = new int[stride * h];
+		var dst = new int[stride * h];
+		for (int i = 0; i < src.length; i++) {
+			src[i] = ColorBlender.premultiply(rand.nextInt());
+			dst[i] = ColorBlender.premultiply(rand.nextInt());
+		}
+
+		var serial = dst.clone();
+		var parallel = dst.clone();
+		ColorBlender.composite(BlendMode.SRC_OVER, src, 10, stride, serial, 10, stride, w, h);
+		ColorBlender.compositeParallel(BlendMode.SRC_OVER, src, 10, stride, parallel, 10, stride, w, h);
+		assertArrayEquals(serial, parallel);
+
+		// pixels outside of the region must be left untouched
+		assertEquals(dst[0], serial[0]);
+		assertEquals(dst[stride - 1], serial[stride - 1]);
+		assertEquals(ColorBlender.blend(BlendMode.SRC_OVER, src[10], dst[10]), serial[10]);
+	}
+
+	@Test
+	public void test_overlayColor() {
+		assertEquals(0xffff0000, ColorBlender.overlayColor(0xff0000ff, 0xffff0000));
+		assertEquals(0xff0000ff, ColorBlender.overlayColor(0xff0000ff, 0x00ff0000));
+
+		int half = ColorBlender.overlayColor(0xff0000ff, 0x80ff0000);
+		assertEquals(0xff, half >>> 24);
+		assertEquals(0x80, (half >> 16) & 0xff);
+		assertEquals(0x7f, half & 0xff);
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static double reference(BlendMode mode, int s, int d, int shift) {
+		double sa = (s >>> 24) / 255.0, da = (d >>> 24) / 255.0;
+		double sc = ((s >>> shift) & 0xff) / 255.0, dc = ((d >>> shift) & 0xff) / 255.0;
+		double r;
+		switch (mode) {
+		case SRC_OVER: r = sc + dc * (1 - sa); break;
+		case MULTIPLY: r = (shift == 24) ? sa + da - sa * da : sc * dc + sc * (1 - da) + dc * (1 - sa); break;
+		case SCREEN: r = sc + dc - sc * dc; break;
+		default: r = Math.min(1, sc + dc); break;
+		}
+		return Math.min(255, r * 255);
+	}
+
+}
@@ -0,0 +1,73 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.colors.ColorOps;
+import eutil.colors.EColors;
+import eutil.colors.HSLColor;
+
+/**
+ * A series of tests for the bulk pixel buffer color kernels.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_ColorOps {
+
+	@Test
+	public void test_hslRoundTrip() {
+		var pixels = randomPixels(100_000, 1);
+		int n = pixels.length;
+		var h = new float[n];
+		var s = new float[n];
+		var l = new float[n];
+
+		ColorOps.toHSLParallel(pixels, h, s, l);
+		var back = new int[n];
+		ColorOps.fromHSLParallel(h, s, l, 0xff, back);
+
+		for (int i = 0; i < n; i++) assertEquals(pixels[i] | 0xff000000, back[i]);
+
+		assertEquals(0xff0000, new HSLColor(0, 1, 0.5).getRGB());
+		assertEquals(0x808080, new HSLColor(0, 0, 0.5).getRGB());
+	}
+
+	@Test
+	public void test_bufferOps() {
+		var pixels = randomPixels(70_000, 2);
+		var copy = pixels.clone();
+
+		ColorOps.adjustBrightnessParallel(copy, 100);
+		for (int i = 0; i < pixels.length; i++) {
+			int p = pixels[i];
+			assertEquals(p >>> 24, copy[i] >>> 24);
+			assertEquals(((p >> 16) & 0xff) * 100 / 255, (copy[i] >> 16) & 0xff);
+			assertEquals((p & 0xff) * 100 / 255, copy[i] & 0xff);
+		}
+
+		ColorOps.setOpacity(copy, 0x40);
+		for (int c : copy) assertEquals(0x40, c >>> 24);
+
+		var mixed = new int[pixels.length];
+		ColorOps.mixParallel(pixels, copy, mixed);
+		for (int i = 0; i < pixels.length; i++) assertEquals(EColors.mix(pixels[i], copy[i]), mixed[i]);
+
+		assertEquals(0xff7f7f7f, EColors.changeBrightness(0xffffffff, 127));
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static int[] randomPixels(int count, long seed) {
+		var rand = new Random(seed);
+		var pixels = new int[count];
+		for (int i = 0; i < count; i++) pixels[i] = rand.nextInt();
+		return pixels;
+	}
+
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import eutil.debug.DebugToolKit;
+import eutil.strings.CompiledFormat;
+import eutil.strings.EStringBuilder;
 
 public class Tests_DevToolKit {
 	
@@ -26,4 +28,34 @@ public class Tests_DevToolKit {
 		assertEquals("{0b}", DebugToolKit.format("{0{1}}", "123", 'b'));
 	}
 	
+	@Test
+	public void test_compiledFormat() {
+		//check that compiled formats follow the same rules as format
+		var fmt = CompiledFormat.of("{1}, {0}! {} {x} {2");
+		assertEquals("World, Hello! {} {x} {2", fmt.format("Hello", "World"));
+		assertEquals(2, fmt.getArgCount());
+		
+		//check that the same format string instance is only compiled once
+		String source = "row {0}";
+		assertSame(CompiledFormat.of(source), CompiledFormat.of(source));
+		
+		//check that missing arguments are reported
+		assertThrows(IndexOutOfBoundsException.class, () -> DebugToolKit.format("{3}", 1, 2));
+		
+		//check that primitive arguments render like their boxed forms and that args are reusable
+		var row = CompiledFormat.of("{0}: {1} {2} {3} {4}");
+		var args = row.args();
+		var sb = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			args.add("p" + i).add(i).add(i * 1_000_000_000_000L).add(i / 4.0).add(i == 1).appendTo(sb).append('\n');
+		}
+		assertEquals("p0: 0 0 0.0 false\np1: 1 1000000000000 0.25 true\np2: 2 2000000000000 0.5 false\n", sb.toString());
+		assertEquals("x: y 1 c null", row.args().add('x').add("y").add(1).add('c').add((Object) null).format());
+		
+		//check that other destinations receive the same text
+		var esb = new EStringBuilder();
+		row.appendTo(esb, "a", 1, 2, 3, 4);
+		assertEquals("a: 1 2 3 4", esb.toString());
+	}
+	
 }
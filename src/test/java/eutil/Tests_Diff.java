@@ -0,0 +1,129 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.datatypes.EArrayList;
+import eutil.datatypes.util.Diff;
+import eutil.datatypes.util.EList;
+
+/**
+ * A series of tests for the Myers diff engine and its edit scripts.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_Diff {
+
+	@Test
+	public void test_minimalScripts() {
+		var rand = new Random(5);
+		for (int i = 0; i < 2000; i++) {
+			var a = randomList(rand);
+			var b = randomList(rand);
+			Diff<Integer> diff = (i % 2 == 0) ? Diff.of(a, b) : Diff.of(a, b, Integer::equals);
+			assertEquals(b, new ArrayList<>(diff.apply(a)));
+			assertEquals(a, new ArrayList<>(diff.revert(b)));
+			// a shortest script keeps every element of a longest common subsequence
+			assertEquals(a.size() + b.size() - 2 * lcs(a, b), diff.getEditCount(), a + " -> " + b);
+		}
+		assertTrue(Diff.of(List.of(1, 2, 3), List.of(1, 2, 3)).isEmpty());
+	}
+
+	@Test
+	public void test_changes() {
+		EList<String> before = new EArrayList<>("a", "b", "c", "d");
+		var diff = before.diff(List.of("a", "x", "y", "d", "e"));
+		var changes = diff.getChanges();
+		assertEquals(2, changes.size());
+		assertEquals(new Diff.Change<>(1, 1, EList.newList("b", "c"), EList.newList("x", "y")), changes.get(0));
+		assertEquals(new Diff.Change<>(4, 4, EList.newList(), EList.newList("e")), changes.get(1));
+
+		// case blind equality leaves nothing to change
+		assertTrue(before.diff(List.of("A", "B", "C", "D"), String::equalsIgnoreCase).isEmpty());
+
+		// a script only applies to a list holding what it removes
+		assertThrows(IllegalStateException.class, () -> diff.apply(List.of("a", "q", "c", "d")));
+	}
+
+	@Test
+	public void test_textAndFiles() throws IOException {
+		var chars = Diff.chars("kitten", "sitting");
+		assertEquals(5, chars.getEditCount());
+		assertEquals("sitting", Diff.patch(chars, "kitten"));
+
+		var source = "a\nb\nc\nd\ne\nf\ng\nh\ni\nj";
+		var target = "a\nb\nX\nd\ne\nf\ng\nh\nj\nk";
+		var expected = """
+			--- old
+			+++ new
+			@@ -1,5 +1,5 @@
+			 a
+			 b
+			-c
+			+X
+			 d
+			 e
+			@@ -7,4 +7,4 @@
+			 g
+			 h
+			-i
+			 j
+			+k
+			""";
+		assertEquals(expected, Diff.lines(source, target).toUnified("old", "new", 2));
+
+		File a = tempFile(source);
+		File b = tempFile(target);
+		var fileDiff = Diff.lines(a, b);
+		assertEquals(Diff.lines(source, target).getChanges(), fileDiff.getChanges());
+		assertEquals("", Diff.lines(a, a).toUnified("a", "a", 3));
+		
+		// a final newline does not start another line and empty text has none
+		assertEquals("--- a\n+++ b\n@@ -0,0 +1 @@\n+x\n", Diff.lines("", "x\n").toUnified("a", "b", 3));
+		assertEquals("--- a\n+++ b\n@@ -1,2 +0,0 @@\n-x\n-y\n", Diff.lines("x\ny\n", "").toUnified("a", "b", 3));
+		assertEquals("--- a\n+++ b\n@@ -1,2 +1,2 @@\n x\n-y\n+z\n", Diff.lines("x\ny\n", "x\nz\n").toUnified("a", "b", 3));
+		assertTrue(Diff.lines("x\n", "x").isEmpty());
+		assertEquals(1, Diff.lines("", "\n").getEditCount());
+		File c = tempFile(source + "\n");
+		File d = tempFile(target + "\n");
+		assertEquals(Diff.lines(source + "\n", target + "\n").getChanges(), Diff.lines(c, d).getChanges());
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static List<Integer> randomList(Random rand) {
+		var list = new ArrayList<Integer>();
+		int alphabet = 1 + rand.nextInt(4);
+		for (int i = rand.nextInt(30); i > 0; i--) list.add(rand.nextInt(alphabet));
+		return list;
+	}
+
+	private static int lcs(List<Integer> a, List<Integer> b) {
+		var d = new int[a.size() + 1][b.size() + 1];
+		for (int i = 1; i <= a.size(); i++) {
+			for (int j = 1; j <= b.size(); j++) {
+				d[i][j] = (a.get(i - 1).equals(b.get(j - 1))) ? d[i - 1][j - 1] + 1 : Math.max(d[i - 1][j], d[i][j - 1]);
+			}
+		}
+		return d[a.size()][b.size()];
+	}
+
+	private static File tempFile(String contents) throws IOException {
+		var file = Files.createTempFile("diff", ".txt");
+		Files.writeString(file, contents);
+		file.toFile().deleteOnExit();
+		return file.toFile();
+	}
+
+}
@@ -0,0 +1,132 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.dimensions.DimensionIntersector;
+import eutil.math.dimensions.Dimension_i;
+
+/**
+ * A series of tests for the DimensionIntersector sweep.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_DimensionIntersector {
+
+	/**
+	 * Verifies that the sweep produces exactly the same pairs as a nested
+	 * 'partiallyContains' loop, including edge touching dimensions.
+	 */
+	@Test
+	public void test_intersect() {
+		var a = randomDims(300, 1);
+		var b = randomDims(250, 2);
+
+		var expected = bruteForce(a, b);
+		var found = new HashSet<Long>();
+		DimensionIntersector.intersect(a, b, (i, j) -> assertTrue(found.add(key(i, j))));
+
+		assertEquals(expected, found);
+	}
+
+	@Test
+	public void test_intersectParallel() {
+		var a = randomDims(400, 3);
+		var b = randomDims(400, 4);
+
+		var expected = bruteForce(a, b);
+		var buffer = DimensionIntersector.intersectParallel(a, b);
+		var found = new HashSet<Long>();
+		buffer.forEach((i, j) -> assertTrue(found.add(key(i, j))));
+
+		assertEquals(expected.size(), buffer.size());
+		assertEquals(expected, found);
+	}
+
+	/**
+	 * Dimensions starting at the very end of the X axis belong to the last
+	 * strip, even when so many start there that inner strips end there too.
+	 */
+	@Test
+	public void test_intersectParallelAxisEnd() {
+		int max = Integer.MAX_VALUE;
+		var a = randomDims(100, 6);
+		var b = randomDims(100, 7);
+		for (int i = 0; i < 60; i++) {
+			a[i] = Dimension_i.of(max, i, max, i + 5);
+			b[i] = Dimension_i.of(max - i, i, max, i + 1);
+		}
+
+		var expected = bruteForce(a, b);
+		var found = ConcurrentHashMap.<Long>newKeySet();
+		DimensionIntersector.intersectParallel(a, b, 4, (i, j) -> assertTrue(found.add(key(i, j))));
+
+		assertEquals(expected, found);
+	}
+
+	@Test
+	public void test_intersectSelf() {
+		var dims = randomDims(300, 5);
+
+		var expected = new HashSet<Long>();
+		for (int i = 0; i < dims.length; i++) {
+			for (int j = i + 1; j < dims.length; j++) {
+				if (dims[i].partiallyContains(dims[j])) expected.add(key(i, j));
+			}
+		}
+
+		var found = new HashSet<Long>();
+		DimensionIntersector.intersectSelf(dims, (i, j) -> {
+			assertTrue(i < j);
+			assertTrue(found.add(key(i, j)));
+		});
+
+		assertEquals(expected, found);
+	}
+
+	@Test
+	public void test_touchingEdges() {
+		var a = new Dimension_i[] { Dimension_i.of(0, 0, 10, 10) };
+		var b = new Dimension_i[] { Dimension_i.of(10, 10, 20, 20), Dimension_i.of(11, 0, 20, 5) };
+
+		var buffer = DimensionIntersector.intersect(a, b);
+
+		assertEquals(1, buffer.size());
+		assertEquals(0, buffer.getA(0));
+		assertEquals(0, buffer.getB(0));
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static Dimension_i[] randomDims(int count, long seed) {
+		var rand = new Random(seed);
+		var dims = new Dimension_i[count];
+		for (int i = 0; i < count; i++) {
+			int x = rand.nextInt(1000) - 500, y = rand.nextInt(1000) - 500;
+			dims[i] = Dimension_i.of(x, y, x + rand.nextInt(60), y + rand.nextInt(60));
+		}
+		return dims;
+	}
+
+	private static Set<Long> bruteForce(Dimension_i[] a, Dimension_i[] b) {
+		var pairs = new HashSet<Long>();
+		for (int i = 0; i < a.length; i++) {
+			for (int j = 0; j < b.length; j++) {
+				if (a[i].partiallyContains(b[j])) pairs.add(key(i, j));
+			}
+		}
+		return pairs;
+	}
+
+	private static long key(int a, int b) { return ((long) a << 32) | b; }
+
+}
@@ -0,0 +1,73 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.colors.EColors;
+import eutil.colors.PaletteIndex;
+
+/**
+ * A series of tests for the EColors lookups and nearest palette index.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_EColors {
+
+	@Test
+	public void test_exactLookups() {
+		for (EColors c : EColors.values()) {
+			// several colors share values and names, the first declared one must win
+			EColors first = null;
+			for (EColors o : EColors.values()) if (o.intVal == c.intVal) { first = o; break; }
+			assertSame(first, EColors.byIntVal(c.intVal));
+			assertSame(c, EColors.byCode(Integer.parseInt(c.color_replacement_code_string)));
+		}
+		assertSame(EColors.seafoam, EColors.byName("SEAFOAM"));
+		assertSame(EColors.mc_darkaqua, EColors.byName("mc dark aqua"));
+		assertNull(EColors.byName("not a color"));
+		assertNull(EColors.byCode(-1));
+	}
+
+	@Test
+	public void test_nearest() {
+		assertSame(EColors.red, EColors.nearest(0xfffa0a05));
+		assertSame(EColors.black, EColors.nearest(0x00010101));
+
+		var index = EColors.paletteIndex();
+		var rand = new Random(8);
+		var image = new int[10_000];
+		for (int i = 0; i < image.length; i++) image[i] = rand.nextInt();
+
+		var ordinals = new int[image.length];
+		EColors.quantize(image, ordinals);
+
+		// a cell's shared answer may differ from the exact nearest, but by no more than twice the
+		// distance from any pixel to its cell center
+		double slack = 2 * Math.sqrt(3 * 4 * 4);
+		for (int i = 0; i < image.length; i++) {
+			double cached = Math.sqrt(distance(image[i], index.getColor(ordinals[i])));
+			double exact = Math.sqrt(distance(image[i], index.getColor(index.nearestExact(image[i]))));
+			assertTrue(cached <= exact + slack);
+		}
+
+		var small = new PaletteIndex(0x000000, 0xffffff);
+		assertEquals(0, small.nearest(0x7f7f7f));
+		assertEquals(1, small.nearest(0x808080));
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static int distance(int a, int b) {
+		int dr = ((a >> 16) & 0xff) - ((b >> 16) & 0xff);
+		int dg = ((a >> 8) & 0xff) - ((b >> 8) & 0xff);
+		int db = (a & 0xff) - (b & 0xff);
+		return dr * dr + dg * dg + db * db;
+	}
+
+}
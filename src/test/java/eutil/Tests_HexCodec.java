@@ -0,0 +1,71 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.HexCodec;
+import eutil.math.HexMath;
+
+/**
+ * A series of tests for the table driven hex codec and its HexMath wrappers.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_HexCodec {
+
+	@Test
+	public void test_roundTrip() {
+		var bytes = new byte[1000];
+		new Random(5).nextBytes(bytes);
+
+		var hex = HexCodec.encode(bytes);
+		var sb = new StringBuilder();
+		for (byte b : bytes) sb.append(String.format("%02x", b));
+		assertEquals(sb.toString(), hex);
+		assertArrayEquals(bytes, HexCodec.decode(hex));
+		assertArrayEquals(bytes, HexCodec.decode(hex.toUpperCase()));
+
+		assertEquals("00000000deadbeef", HexCodec.encode(0xDEADBEEFL));
+		assertEquals(0xDEADBEEFL, HexCodec.decodeLong("0xDeadBeef"));
+		assertThrows(IllegalArgumentException.class, () -> HexCodec.decode("0g"));
+	}
+
+	@Test
+	public void test_streaming() {
+		var bytes = new byte[50_000];
+		new Random(6).nextBytes(bytes);
+
+		var text = new ByteArrayOutputStream();
+		assertEquals(bytes.length, HexCodec.encode(new ByteArrayInputStream(bytes), text));
+		assertEquals(HexCodec.encode(bytes), text.toString(StandardCharsets.US_ASCII));
+
+		var raw = new ByteArrayOutputStream();
+		HexCodec.decode(new ByteArrayInputStream(text.toByteArray()), raw);
+		assertArrayEquals(bytes, raw.toByteArray());
+
+		var src = ByteBuffer.wrap(bytes);
+		var dst = ByteBuffer.allocateDirect(101);
+		assertEquals(50, HexCodec.encode(src, dst));
+		assertEquals(50, src.position());
+		assertEquals(100, dst.position());
+	}
+
+	@Test
+	public void test_hexMath() {
+		assertEquals("10101111", HexMath.hexToBinary("aF"));
+		assertEquals("0xaf", HexMath.binaryToHex("10101111"));
+		assertEquals("0x16", HexMath.binaryToHex("10110"));
+		assertEquals("1011", HexMath.twosComplement("0101"));
+		assertEquals("10000", HexMath.twosComplement("0000"));
+		assertEquals(-5, HexMath.getTwosCompValue("1011"));
+	}
+
+}
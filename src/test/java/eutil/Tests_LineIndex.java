@@ -0,0 +1,158 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.file.LineIndex;
+import eutil.random.RandomSource;
+
+/**
+ * A series of tests for the line offset index behind EFileUtil's line access.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_LineIndex {
+
+	@Test
+	public void test_lineAt() throws IOException {
+		Path file = tempFile("alpha\r\nbeta\n\nsecond to last\nlast without newline");
+		var index = LineIndex.of(file);
+		assertEquals(5, index.lineCount());
+		assertEquals("alpha", index.lineAt(0));
+		assertEquals("beta", index.lineAt(1));
+		assertEquals("", index.lineAt(2));
+		assertEquals("second to last", index.lineAt(3));
+		assertEquals("last without newline", index.lineAt(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> index.lineAt(5));
+
+		// a trailing newline does not start another line and empty files have none
+		assertEquals(2, LineIndex.of(tempFile("a\nb\n")).lineCount());
+		assertEquals(0, LineIndex.of(tempFile("")).lineCount());
+		assertNull(LineIndex.of(tempFile("")).randomLine());
+	}
+
+	@Test
+	public void test_matchesReadAllLines() throws IOException {
+		// long enough to exercise the 8 byte scan on both sides of every line feed
+		var sb = new StringBuilder();
+		var rng = RandomSource.create(3);
+		for (int i = 0; i < 2000; i++) {
+			sb.append("line ").append(i).append(" é".repeat(rng.nextInt(0, 9))).append('\n');
+		}
+		Path file = tempFile(sb.toString());
+		var expected = Files.readAllLines(file);
+		var index = LineIndex.of(file);
+		assertEquals(expected.size(), index.lineCount());
+		for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), index.lineAt(i));
+	}
+
+	@Test
+	public void test_cacheAndSidecar() throws IOException {
+		Path file = tempFile("one\ntwo\nthree\n");
+		var index = LineIndex.of(file, true);
+		assertSame(index, LineIndex.of(file));
+		assertTrue(Files.exists(LineIndex.sidecarOf(file)));
+
+		// a persisted index is reloaded without rescanning
+		LineIndex.evict(file);
+		var loaded = LineIndex.of(file, true);
+		assertNotSame(index, loaded);
+		assertEquals(3, loaded.lineCount());
+		assertEquals("three", loaded.lineAt(2));
+
+		// changing the file invalidates both the cache and the sidecar
+		Files.writeString(file, "only\n");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+		var rebuilt = LineIndex.of(file, true);
+		assertEquals(1, rebuilt.lineCount());
+		assertEquals("only", rebuilt.lineAt(0));
+		Files.delete(LineIndex.sidecarOf(file));
+
+		// a sidecar that cannot be written does not fail the index
+		Path blocked = tempFile("x\ny\n");
+		Files.createDirectory(LineIndex.sidecarOf(blocked));
+		assertEquals("y", LineIndex.of(blocked, true).lineAt(1));
+		Files.delete(LineIndex.sidecarOf(blocked));
+	}
+
+	@Test
+	public void test_readsAcrossChunks() throws IOException {
+		// lines of awkward lengths spread over several read buffers
+		var sb = new StringBuilder();
+		for (int i = 0; i < 30_000; i++) sb.append("x".repeat(i % 13)).append(i).append((i % 3 == 0) ? "\r\n" : "\n");
+		Path file = tempFile(sb.toString());
+		var expected = Files.readAllLines(file);
+		assertEquals(expected.size(), LineIndex.countLines(file));
+
+		var index = LineIndex.of(file);
+		assertEquals(expected.size(), index.lineCount());
+		for (int i = 0; i < expected.size(); i += 997) assertEquals(expected.get(i), index.lineAt(i));
+		assertEquals(expected.get(expected.size() - 1), index.lineAt(expected.size() - 1));
+
+		// the index holds nothing open, so the file can go away underneath it
+		LineIndex.evict(file);
+		Files.delete(file);
+		assertThrows(UncheckedIOException.class, () -> index.lineAt(0));
+	}
+
+	@Test
+	public void test_cacheIsBounded() throws IOException {
+		Path first = tempFile("first\n");
+		var index = LineIndex.of(first);
+		assertSame(index, LineIndex.of(first));
+
+		// only the most recently used files stay cached
+		for (int i = 0; i < LineIndex.CACHE_SIZE; i++) LineIndex.of(tempFile("other " + i));
+		assertNotSame(index, LineIndex.of(first));
+	}
+
+	@Test
+	public void test_countLines() throws IOException {
+		String[] contents = { "", "\n", "a", "a\n", "a\nb", "a\r\nb\r\n", "\n\n\n", "0123456\n89abcdef\nxyz" };
+		for (var c : contents) {
+			Path file = tempFile(c);
+			assertEquals(LineIndex.of(file).lineCount(), LineIndex.countLines(file), c);
+			LineIndex.evict(file);
+			assertEquals(LineIndex.of(file).lineCount(), LineIndex.countLines(tempFile(c)), c);
+		}
+	}
+
+	@Test
+	public void test_randomLines() throws IOException {
+		var sb = new StringBuilder();
+		for (int i = 0; i < 100; i++) sb.append(i).append('\n');
+		var index = LineIndex.of(tempFile(sb.toString()));
+		var rng = RandomSource.create(9).generator();
+
+		var picked = index.randomLines(30, rng);
+		assertEquals(30, picked.size());
+		assertEquals(30, new HashSet<>(picked).size());
+		assertEquals(100, index.randomLines(500, rng).size());
+
+		// only line 7 has any weight
+		var table = index.weights(s -> s.equals("7") ? 1.0 : 0.0);
+		for (int i = 0; i < 50; i++) assertEquals("7", index.randomLine(table, rng));
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static Path tempFile(String contents) throws IOException {
+		Path file = Files.createTempFile("lineindex", ".txt");
+		file.toFile().deleteOnExit();
+		Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+}
@@ -0,0 +1,105 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.Matrix;
+import eutil.math.linear.DenseMatrix;
+import eutil.math.linear.LinearAlgebra;
+
+/**
+ * A series of tests for the dense matrix bridge to commons-math3.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_LinearAlgebra {
+
+	private static final double EPS = 1e-9;
+
+	@Test
+	public void test_solveInverseDeterminant() {
+		var a = DenseMatrix.of(3, 3,
+			2, 1, -1,
+			-3, -1, 2,
+			-2, 1, 2);
+
+		assertArrayEquals(new double[] { 2, 3, -1 }, LinearAlgebra.solve(a, new double[] { 8, -11, -3 }), EPS);
+		assertEquals(-1.0, LinearAlgebra.determinant(a), EPS);
+
+		// A * A^-1 must be the identity
+		var product = a.multiply(LinearAlgebra.inverse(a));
+		assertArrayEquals(DenseMatrix.identity(3).getData(), product.getData(), EPS);
+
+		// each column of B is solved on its own
+		var b = DenseMatrix.of(3, 2, 8, 1, -11, 0, -3, 0);
+		var x = LinearAlgebra.solve(a, b);
+		assertArrayEquals(b.getData(), a.multiply(x).getData(), EPS);
+
+		// random systems round trip through A * x
+		var rand = new Random(3);
+		for (int n = 1; n <= 12; n++) {
+			var m = new DenseMatrix(n, n);
+			var expected = new double[n];
+			for (int i = 0; i < n; i++) {
+				expected[i] = rand.nextDouble() * 10 - 5;
+				for (int j = 0; j < n; j++) m.set(i, j, rand.nextDouble() + ((i == j) ? n : 0));
+			}
+			assertArrayEquals(expected, LinearAlgebra.solve(m, m.multiply(expected)), 1e-8);
+		}
+
+		// the boxed overloads agree with the dense ones
+		assertEquals(-1.0, LinearAlgebra.determinant(a.toMatrix()), EPS);
+		assertEquals(0.5, LinearAlgebra.inverse(new Matrix(1, 1, 2.0)).get(0, 0), EPS);
+	}
+
+	@Test
+	public void test_realMatrixView() {
+		var data = new double[] { 1, 2, 3, 4, 5, 6 };
+		var m = new DenseMatrix(2, 3, data);
+		var view = m.asRealMatrix();
+
+		assertEquals(2, view.getRowDimension());
+		assertEquals(3, view.getColumnDimension());
+		assertEquals(6.0, view.getEntry(1, 2));
+
+		// writes through the view land in the backing array and the other way around
+		view.setEntry(0, 1, 20.0);
+		assertEquals(20.0, data[1]);
+		assertEquals(20.0, m.get(0, 1));
+		view.addToEntry(1, 0, 1.0);
+		assertEquals(5.0, data[3]);
+		data[5] = -6.0;
+		assertEquals(-6.0, view.getEntry(1, 2));
+
+		// unwrapping a view hands back the same matrix without copying
+		assertSame(m, LinearAlgebra.toDense(view));
+		// while a copy is detached from the original array
+		view.copy().setEntry(0, 0, 99.0);
+		assertEquals(1.0, data[0]);
+	}
+
+	@Test
+	public void test_matrixConversion() {
+		var dense = DenseMatrix.of(2, 3, 1.5, -2, 3, 4, 0, 6.25);
+		Matrix boxed = dense.toMatrix();
+		assertEquals(2, boxed.numRows());
+		assertEquals(3, boxed.numCols());
+		assertEquals(6.25, boxed.getRow(1).get(2).doubleValue());
+
+		var back = DenseMatrix.of(boxed);
+		assertArrayEquals(dense.getData(), back.getData());
+
+		// matrices with no columns or no rows convert to empty dense matrices
+		var noCols = DenseMatrix.of(new Matrix(3, 0));
+		assertEquals(3, noCols.numRows());
+		assertEquals(0, noCols.numCols());
+		assertEquals(0, noCols.getData().length);
+		assertEquals(0, DenseMatrix.of(new Matrix(0, 4)).numRows());
+		assertEquals(3, new DenseMatrix(3, 0).toMatrix().numRows());
+	}
+
+}
@@ -0,0 +1,142 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.datatypes.util.JavaDatatype;
+import eutil.math.ENumUtil;
+import eutil.math.NumberParser;
+
+/**
+ * A series of tests for the allocation free number parser.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_NumberParser {
+
+	@Test
+	public void test_integers() {
+		var p = new NumberParser();
+
+		assertEquals(NumberParser.OK, p.parseLong("-9223372036854775808"));
+		assertEquals(Long.MIN_VALUE, p.longValue());
+		assertEquals(NumberParser.OK, p.parseLong("+9223372036854775807"));
+		assertEquals(Long.MAX_VALUE, p.longValue());
+		assertEquals(NumberParser.OVERFLOW, p.parseLong("9223372036854775808"));
+		assertEquals(NumberParser.OVERFLOW, p.parseInt("2147483648"));
+		assertEquals(NumberParser.EMPTY, p.parseInt(""));
+		assertEquals(NumberParser.INVALID, p.parseInt("-"));
+		assertEquals(NumberParser.INVALID, p.parseInt("12a"));
+
+		var bytes = "x,-42,y".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(-42, NumberParser.parseInt(bytes, 2, 5, 0));
+
+		assertEquals(-5, ENumUtil.parseInt("-5", 0));
+		assertEquals(7, ENumUtil.parseByte("abc", (byte) 7));
+		assertEquals(7, ENumUtil.parseByte("128", (byte) 7));
+		assertEquals(3, ENumUtil.parseInt(new String[] { "1" }, 4, 3));
+		assertTrue(ENumUtil.isInteger("-120"));
+		assertFalse(ENumUtil.isInteger("1.5"));
+		assertEquals(-12L, ENumUtil.parseNumber("-12"));
+		assertEquals(-1.5, ENumUtil.parseNumber("-1.5"));
+		assertNull(ENumUtil.parseNumber("."));
+	}
+
+	@Test
+	public void test_plainNumberSyntax() {
+		// parseNumber and isNumber keep their plain digits, '.' and '-' syntax
+		assertEquals(5L, ENumUtil.parseNumber("5"));
+		assertEquals(0.5, ENumUtil.parseNumber(".5"));
+		assertEquals(-5.0, ENumUtil.parseNumber("-5."));
+		assertEquals(12L, ENumUtil.parseNumber("\u0661\u0662"));
+		String[] rejected = { "NaN", "Infinity", "-Infinity", "1e5", "+5", "-", "-.", "1.2.3", " 5", "99999999999999999999" };
+		for (var s : rejected) {
+			assertNull(ENumUtil.parseNumber(s), s);
+			assertFalse(ENumUtil.isNumber(s), s);
+		}
+
+		// so strings are classified exactly as before
+		assertEquals(JavaDatatype.STRING, JavaDatatype.getStringDataType("NaN"));
+		assertEquals(JavaDatatype.STRING, JavaDatatype.getStringDataType("1e5"));
+		assertEquals(JavaDatatype.DOUBLE, JavaDatatype.getStringDataType("-2.5"));
+		assertEquals(JavaDatatype.NULL, JavaDatatype.getNumberType("Infinity"));
+		assertEquals(JavaDatatype.LONG, JavaDatatype.getNumberType("42"));
+
+		// while the parser itself reads the wider syntax
+		assertTrue(NumberParser.isNumber("1e5"));
+		assertEquals(5L, NumberParser.valueOf("+5"));
+	}
+
+	@Test
+	public void test_jdkSyntax() {
+		// input outside the fast parser's syntax still parses as it did through the JDK
+		assertEquals(1.5, ENumUtil.parseDouble("1.5d", -1));
+		assertEquals(2f, ENumUtil.parseFloat("2f", -1));
+		assertEquals(8.0, ENumUtil.parseDouble("0x1p3", -1));
+		assertEquals(-0.25f, ENumUtil.parseFloat(" -0x1p-2 ", -1));
+		assertEquals(12, ENumUtil.parseInt("\u0661\u0662", -1));
+		assertEquals(12L, ENumUtil.parseLong("\u0661\u0662", -1));
+		assertEquals(12, ENumUtil.parseByte("\u0661\u0662", (byte) -1));
+
+		// while anything neither accepts still falls back to the default
+		assertEquals(-1.0, ENumUtil.parseDouble("1.5q", -1));
+		assertEquals(-1.0, ENumUtil.parseDouble("1.5dd", -1));
+		assertEquals(-1f, ENumUtil.parseFloat("0x", -1));
+		assertEquals(-1, ENumUtil.parseInt("\u0661x", -1));
+		assertEquals(-1, ENumUtil.parseInt("99999999999", -1));
+	}
+
+	@Test
+	public void test_doubles() {
+		String[] cases = {
+			"0", "-0.0", "1", "1.5", ".5", "5.", "1e10", "1E-10", "+3.25e+2", "0.1", "0.3",
+			"2.2250738585072014E-308", "2.2250738585072011E-308", "4.9e-324", "2.4e-324", "1e-400",
+			"1.7976931348623157e308", "1.7976931348623159e308", "1e400", "9007199254740993",
+			"123456789012345678901234567890", "0.000000000000000000000000000001234567890123456789012",
+			"3.14159265358979323846264338327950288", "NaN", "-Infinity"
+		};
+
+		var p = new NumberParser();
+		for (var s : cases) {
+			assertEquals(NumberParser.OK, p.parseDouble(s), s);
+			assertEquals(Double.parseDouble(s), p.doubleValue(), s);
+		}
+
+		String[] invalid = { "", "-", ".", "e5", "1e", "1e+", "1..2", "1.2.3", "Inf", " 1" };
+		for (var s : invalid) assertNotEquals(NumberParser.OK, p.parseDouble(s), s);
+
+		// random values must round trip bit for bit with the JDK parser
+		var rand = new Random(31);
+		for (int i = 0; i < 200_000; i++) {
+			double d = Double.longBitsToDouble(rand.nextLong());
+			if (Double.isNaN(d)) continue;
+			var s = Double.toString(d);
+			assertEquals(NumberParser.OK, p.parseDouble(s), s);
+			assertEquals(d, p.doubleValue(), s);
+		}
+
+		// as well as random digit strings with varying lengths and exponents
+		var sb = new StringBuilder();
+		for (int i = 0; i < 200_000; i++) {
+			sb.setLength(0);
+			int digits = 1 + rand.nextInt(25);
+			for (int j = 0; j < digits; j++) sb.append((char) ('0' + rand.nextInt(10)));
+			if (rand.nextBoolean()) sb.insert(rand.nextInt(digits + 1), '.');
+			sb.append('e').append(rand.nextInt(700) - 350);
+			var s = sb.toString();
+			if (s.startsWith(".e")) continue;
+			assertEquals(NumberParser.OK, p.parseDouble(s), s);
+			assertEquals(Double.parseDouble(s), p.doubleValue(), s);
+		}
+
+		assertEquals(2.5, ENumUtil.parseDouble(" 2.5 ", 0));
+		assertEquals(0.1f, ENumUtil.parseFloat("0.1", 0));
+		assertEquals(-1.0, ENumUtil.parseDouble("x", -1.0));
+	}
+
+}
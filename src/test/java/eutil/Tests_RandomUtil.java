@@ -2,9 +2,21 @@ package eutil;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.UUID;
+
 import org.junit.jupiter.api.Test;
 
 import eutil.random.ERandomUtil;
+import eutil.random.ERandomUtil.RandStringTypes;
+import eutil.random.RandomNames;
+import eutil.random.RandomSource;
+import eutil.random.RandomStrings;
+import eutil.random.RandomWords;
+import eutil.random.WordList;
 
 /**
  * A series of unit tests for the RandomUtil library.
@@ -35,6 +47,118 @@ public class Tests_RandomUtil {
 		for (int i = 0; i < randDoubles.length; i++) assertBetween(randDoubles[i], 0d, 9d);
 	}
 	
+	/**
+	 * Tests that seeded RandomSources are reproducible and that parallel
+	 * fills do not depend on thread scheduling.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_randomSource() {
+		for (String algorithm : new String[] { RandomSource.L64X128_MIX, RandomSource.XOSHIRO_256 }) {
+			int[] a = new int[300_000], b = new int[300_000];
+			RandomSource.create(algorithm, 7).fillParallel(a, -3, 3);
+			RandomSource.create(algorithm, 7).fillParallel(b, -3, 3);
+			assertArrayEquals(a, b);
+			
+			int[] counts = new int[7];
+			for (int v : a) counts[v + 3]++;
+			for (int c : counts) assertEquals(a.length / 7.0, c, a.length / 7.0 * 0.05);
+			
+			double[] g = new double[200_000];
+			RandomSource.create(algorithm, 9).fillGaussianParallel(g, 5.0, 2.0);
+			double mean = 0;
+			for (double d : g) mean += d;
+			assertEquals(5.0, mean / g.length, 0.05);
+		}
+		
+		long[] longs = new long[1000];
+		RandomSource.create(1).fill(longs, Long.MAX_VALUE - 2, Long.MAX_VALUE);
+		for (long l : longs) assertBetween(l, Long.MAX_VALUE - 2, Long.MAX_VALUE);
+		
+		var splits = RandomSource.create(11).split(2);
+		assertNotEquals(splits[0].nextInt(0, 1_000_000), splits[1].nextInt(0, 1_000_000));
+	}
+	
+	/**
+	 * Tests that the packed word lists decode every entry and that custom
+	 * lists can be registered from files.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_wordLists() throws IOException {
+		assertEquals(239, RandomWords.list().size());
+		assertEquals("Adult", RandomWords.list().get(0));
+		assertEquals(199, RandomNames.list().size());
+		assertSame(RandomNames.list(), WordList.named("names"));
+		assertNotNull(ERandomUtil.randomWord());
+		
+		var packed = WordList.of("caf\u00e9", "", "na\u00efve\r");
+		assertEquals(2, packed.size());
+		assertEquals("caf\u00e9", packed.get(0));
+		assertEquals("na\u00efve", packed.get(1));
+		
+		Path file = Files.createTempFile("words", ".txt");
+		file.toFile().deleteOnExit();
+		Files.writeString(file, "red\r\ngreen\n\nblue\n");
+		WordList.register("colors", file);
+		var colors = WordList.named("colors");
+		assertEquals(3, colors.size());
+		assertEquals("blue", colors.get(2));
+		assertSame(colors, WordList.named("colors"));
+		assertNull(WordList.named("missing"));
+	}
+	
+	/**
+	 * Tests that the bulk string generator stays within its alphabet, draws
+	 * every character evenly, and produces well formed UUIDs and word codes.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_randomStrings() {
+		var rng = RandomSource.create(5).generator();
+		
+		char[] buf = new char[62 * 2000];
+		RandomStrings.BASE62.fill(rng, buf, 0, buf.length);
+		int[] counts = new int[128];
+		for (char c : buf) counts[c]++;
+		for (char c : RandomStrings.BASE62.getAlphabet().toCharArray()) assertEquals(2000, counts[c], 2000 * 0.12);
+		
+		byte[] bytes = new byte[64];
+		RandomStrings.BASE32_CROCKFORD.fill(rng, bytes, 0, bytes.length);
+		for (byte b : bytes) assertTrue(RandomStrings.BASE32_CROCKFORD.getAlphabet().indexOf(b) >= 0);
+		
+		var seen = new HashSet<String>();
+		RandomStrings.HEX.generate(100, 16, rng, s -> {
+			assertEquals(16, s.length());
+			seen.add(s.toString());
+		});
+		assertEquals(100, seen.size());
+		
+		var sb = new StringBuilder("id:");
+		RandomStrings.NUMERIC.appendTo(sb, 600, rng);
+		assertEquals(603, sb.length());
+		assertTrue(sb.substring(3).chars().allMatch(Character::isDigit));
+		
+		for (int i = 0; i < 100; i++) {
+			var uuid = RandomStrings.uuid(rng);
+			assertEquals(4, UUID.fromString(uuid).version());
+			assertEquals(2, UUID.fromString(uuid).variant());
+			var code = RandomStrings.wordCode(rng);
+			assertTrue(code.matches(".+-.+-\\d{3}"));
+			assertEquals(code.toLowerCase(), code);
+		}
+		
+		var symbols = ERandomUtil.randomString(500, RandStringTypes.SYMBOLS);
+		assertTrue(symbols.chars().noneMatch(Character::isLetterOrDigit));
+		
+		// non-positive lengths give an empty string rather than throwing
+		assertEquals("", ERandomUtil.randomString(-3));
+		assertEquals("", ERandomUtil.randomString(0, RandStringTypes.LETTERS_ALL));
+	}
+	
 	//------------------------------
 	// Internal Test Helper Methods
 	//------------------------------
@@ -0,0 +1,80 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.datatypes.util.EList;
+import eutil.random.AliasTable;
+import eutil.random.RandomSource;
+import eutil.random.Sampling;
+
+/**
+ * A series of tests for the reservoir, alias, and without replacement samplers.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_Sampling {
+
+	@Test
+	public void test_reservoir() {
+		var rng = RandomSource.create(1).generator();
+		int n = 50, k = 5, trials = 40_000;
+		int[] counts = new int[n];
+		for (int t = 0; t < trials; t++) {
+			for (int v : Sampling.reservoir(IntStream.range(0, n), k, rng)) counts[v]++;
+		}
+		double expected = (double) trials * k / n;
+		for (int c : counts) assertEquals(expected, c, expected * 0.06);
+
+		// a long stream is consumed without being collected
+		var picked = Sampling.reservoir(Stream.iterate(0L, i -> i + 1).limit(5_000_000), 3, rng);
+		assertEquals(3, picked.size());
+		assertEquals(3, new HashSet<>(picked).size());
+
+		assertEquals(2, Sampling.reservoir(EList.of("a", "b"), 5, rng).size());
+		assertNull(Sampling.pickOne(new LinkedList<String>(), rng));
+	}
+
+	@Test
+	public void test_withoutReplacement() {
+		var rng = RandomSource.create(2).generator();
+		for (int t = 0; t < 1000; t++) {
+			int[] indices = Sampling.sampleIndices(100, 30, rng);
+			var distinct = new HashSet<Integer>();
+			for (int i : indices) {
+				assertTrue(i >= 0 && i < 100);
+				distinct.add(i);
+			}
+			assertEquals(30, distinct.size());
+		}
+
+		var list = EList.of(1, 2, 3, 4, 5);
+		assertEquals(5, new HashSet<>(list.getRandom(10)).size());
+		assertEquals(3, Sampling.sample(new double[] { 1, 2, 3, 4 }, 3, rng).length);
+		assertThrows(IllegalArgumentException.class, () -> Sampling.sampleIndices(3, 4));
+	}
+
+	@Test
+	public void test_aliasTable() {
+		var rng = RandomSource.create(3).generator();
+		double[] weights = { 1, 0, 3, 6 };
+		var table = new AliasTable(weights);
+		int[] draws = new int[200_000];
+		table.fill(rng, draws);
+
+		int[] counts = new int[weights.length];
+		for (int d : draws) counts[d]++;
+		assertEquals(0, counts[1]);
+		assertEquals(0.1, counts[0] / (double) draws.length, 0.005);
+		assertEquals(0.3, counts[2] / (double) draws.length, 0.005);
+		assertEquals(0.6, counts[3] / (double) draws.length, 0.005);
+	}
+
+}
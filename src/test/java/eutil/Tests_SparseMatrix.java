@@ -0,0 +1,81 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.Matrix;
+import eutil.math.sparse.SparseMatrixCOO;
+import eutil.math.sparse.SparseMatrixCSR;
+
+/**
+ * A series of tests for the sparse matrix formats.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_SparseMatrix {
+
+	@Test
+	public void test_buildAndConvert() {
+		var csr = SparseMatrixCSR.builder(3, 4)
+			.add(2, 3, 5.0)
+			.add(0, 1, 1.0)
+			.add(0, 1, 2.0)
+			.add(1, 0, -4.0)
+			.toCSR();
+
+		assertEquals(3, csr.nnz());
+		assertEquals(3.0, csr.get(0, 1));
+		assertEquals(-4.0, csr.get(1, 0));
+		assertEquals(5.0, csr.get(2, 3));
+		assertEquals(0.0, csr.get(2, 2));
+
+		Matrix m = csr.toMatrix();
+		assertEquals(3.0, m.getRow(0).get(1).doubleValue());
+
+		var back = SparseMatrixCSR.fromMatrix(m);
+		assertEquals(3, back.nnz());
+		assertEquals(5.0, back.get(2, 3));
+	}
+
+	@Test
+	public void test_multiply() {
+		int rows = 2000, cols = 1500;
+		var rand = new Random(7);
+		var dense = new double[rows][cols];
+		var coo = new SparseMatrixCOO(rows, cols);
+
+		for (int i = 0; i < 20_000; i++) {
+			int r = rand.nextInt(rows), c = rand.nextInt(cols);
+			double v = rand.nextDouble() - 0.5;
+			dense[r][c] += v;
+			coo.add(r, c, v);
+		}
+
+		var x = new double[cols];
+		for (int i = 0; i < cols; i++) x[i] = rand.nextDouble();
+
+		var csr = coo.toCSR();
+		var y = csr.multiply(x);
+		var yp = csr.multiplyParallel(x);
+
+		for (int r = 0; r < rows; r++) {
+			double expected = 0.0;
+			for (int c = 0; c < cols; c++) expected += dense[r][c] * x[c];
+			assertEquals(expected, y[r], 1e-9);
+		}
+		assertArrayEquals(y, yp, 0.0);
+
+		// (A^T)^T * x must match A * x
+		assertArrayEquals(y, csr.transpose().transpose().multiply(x), 1e-12);
+
+		var b = new double[cols * 2];
+		for (int i = 0; i < b.length; i++) b[i] = (i % 2 == 0) ? x[i / 2] : 1.0;
+		var c = csr.multiplyDense(b, 2);
+		for (int r = 0; r < rows; r++) assertEquals(y[r], c[r * 2], 1e-9);
+	}
+
+}
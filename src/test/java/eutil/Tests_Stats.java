@@ -0,0 +1,123 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.stats.CovarianceStats;
+import eutil.math.stats.StreamingStats;
+import eutil.math.stats.StripedStats;
+import eutil.math.stats.TDigest;
+
+/**
+ * A series of tests for the streaming statistics accumulators.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_Stats {
+
+	@Test
+	public void test_streamingStats() {
+		var data = randomData(10_000, 1);
+
+		double mean = 0;
+		for (double d : data) mean += d;
+		mean /= data.length;
+		double var = 0;
+		for (double d : data) var += (d - mean) * (d - mean);
+		var /= data.length;
+
+		var single = new StreamingStats();
+		for (double d : data) single.accept(d);
+
+		// chunked and parallel reductions must agree with one value at a time
+		var chunked = new StreamingStats().accept(data, 0, 3000).accept(data, 3000, data.length - 3000);
+		var parallel = DoubleStream.of(data).parallel().collect(StreamingStats::new, StreamingStats::accept, StreamingStats::merge);
+
+		for (var s : new StreamingStats[] { single, chunked, parallel }) {
+			assertEquals(data.length, s.getCount());
+			assertEquals(mean, s.getMean(), 1e-9);
+			assertEquals(var, s.getVariance(), 1e-9);
+			assertEquals(DoubleStream.of(data).min().getAsDouble(), s.getMin());
+			assertEquals(DoubleStream.of(data).max().getAsDouble(), s.getMax());
+		}
+
+		assertTrue(Double.isNaN(new StreamingStats().getMean()));
+	}
+
+	@Test
+	public void test_stripedStats() throws InterruptedException {
+		var striped = new StripedStats(4);
+		var threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> { for (int i = 1; i <= 1000; i++) striped.accept(i); });
+			threads[t].start();
+		}
+		for (var t : threads) t.join();
+
+		var s = striped.snapshot();
+		assertEquals(4000, s.getCount());
+		assertEquals(500.5, s.getMean(), 1e-9);
+	}
+
+	@Test
+	public void test_covariance() {
+		var xs = randomData(5000, 2);
+		var ys = new double[xs.length];
+		for (int i = 0; i < xs.length; i++) ys[i] = 3 * xs[i] + 1;
+
+		var whole = new CovarianceStats().accept(xs, ys);
+		var merged = new CovarianceStats().accept(xs, ys, 0, 2000).merge(new CovarianceStats().accept(xs, ys, 2000, 3000));
+
+		double sumProducts = 0;
+		for (int i = 0; i < xs.length; i++) sumProducts += xs[i] * ys[i];
+
+		assertEquals(1.0, whole.getCorrelation(), 1e-9);
+		assertEquals(3 * whole.getXStats().getVariance(), whole.getCovariance(), 1e-6);
+		assertEquals(whole.getCovariance(), merged.getCovariance(), 1e-9);
+		assertEquals(sumProducts, whole.getSumOfProducts(), 1e-6);
+	}
+
+	@Test
+	public void test_tdigest() {
+		var a = new TDigest();
+		var b = new TDigest();
+		for (int i = 0; i < 100_000; i++) {
+			if (i % 2 == 0) a.accept(i);
+			else b.accept(i);
+		}
+		a.merge(b);
+
+		assertEquals(100_000, (long) a.getCount());
+		assertEquals(50_000, a.quantile(0.5), 1000);
+		assertEquals(99_000, a.quantile(0.99), 200);
+		assertEquals(1_000, a.quantile(0.01), 200);
+		assertEquals(0.25, a.cdf(25_000), 0.01);
+		assertTrue(a.centroidCount() < 300);
+
+		// a merge keeps the other digest's true extremes rather than its outer centroid means
+		var coarse = new TDigest(10);
+		for (int i = 0; i < 10_000; i++) coarse.accept(i);
+		var merged = new TDigest(10).merge(coarse);
+		assertEquals(0.0, merged.getMin());
+		assertEquals(9_999.0, merged.getMax());
+		assertEquals(0.0, merged.quantile(0.0));
+		assertEquals(9_999.0, merged.quantile(1.0));
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static double[] randomData(int count, long seed) {
+		var rand = new Random(seed);
+		var data = new double[count];
+		for (int i = 0; i < count; i++) data[i] = rand.nextGaussian() * 10 + 50;
+		return data;
+	}
+
+}
@@ -2,12 +2,34 @@ package eutil;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import eutil.file.LineReader;
+import eutil.strings.EStringBuilder;
 import eutil.strings.EStringUtil;
+import eutil.strings.EToStringBuilder;
+import eutil.strings.EditDistance;
+import eutil.strings.FuzzyIndex;
+import eutil.strings.Joiner;
+import eutil.strings.StringInterner;
+import eutil.strings.StringMatcher;
+import eutil.strings.Tokenizer;
 
 /**
  * A series of unit tests for the StringUtil library.
@@ -70,4 +92,420 @@ public class Tests_StringUtil {
 		assertEquals(null, EStringUtil.equalsAnyR(base, "a", 'b', "c", not_match, "d", "e"));
 	}
 	
+	/**
+	 * Tests the compiled multi-pattern matcher against the looping
+	 * 'Any' methods it can stand in for.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_compiledMatcher() {
+		var m = EStringUtil.compileMatcher(List.of("he", "she", "his", "hers"));
+		var hits = m.findAll("ushers");
+		assertEquals(3, hits.size());
+		assertEquals(new StringMatcher.Match(1, 4, 1), hits.get(0));
+		assertEquals(new StringMatcher.Match(2, 4, 0), hits.get(1));
+		assertEquals(new StringMatcher.Match(2, 6, 3), hits.get(2));
+		assertEquals(new StringMatcher.Match(1, 4, 1), m.find("ushers"));
+		assertEquals(0, m.firstPattern("ushers"));
+		assertNull(m.find("xyz"));
+		
+		assertEquals(0, m.prefixOf("hers and his"));
+		assertEquals(2, m.prefixOf("his hers"));
+		assertEquals(2, m.suffixOf("not his"));
+		assertEquals(1, m.indexOf("she"));
+		assertEquals(-1, m.indexOf("sh"));
+		assertFalse(m.startsWithAny("ahe"));
+		
+		var ci = EStringUtil.compileMatcher(List.of("ERROR", "Warn"), true);
+		assertTrue(ci.containsAny("a warning was logged"));
+		assertTrue(ci.endsWithAny("...error"));
+		assertFalse(ci.containsAny("all good"));
+		
+		// compare against the looping methods with many overlapping keywords
+		var rng = new Random(4);
+		var words = new ArrayList<String>();
+		for (int i = 0; i < 300; i++) words.add(randomWord(rng, 1 + rng.nextInt(4)));
+		var matcher = EStringUtil.compileMatcher(words);
+		for (int t = 0; t < 200; t++) {
+			String text = randomWord(rng, rng.nextInt(400));
+			String expected = null;
+			for (var w : words) if (text.contains(w)) { expected = w; break; }
+			assertEquals(expected, matcher.getPatternOrNull(matcher.firstPattern(text)));
+			assertEquals(expected, EStringUtil.containsAnyR(text, words));
+			assertEquals(expected != null, matcher.containsAny(text));
+			assertEquals(EStringUtil.startsWithAnyR(text, words), matcher.getPatternOrNull(matcher.prefixOf(text)));
+			assertEquals(EStringUtil.endsWithAnyR(text, words), matcher.getPatternOrNull(matcher.suffixOf(text)));
+			
+			int count = 0;
+			for (var w : new HashSet<>(words)) {
+				for (int i = text.indexOf(w); i >= 0; i = text.indexOf(w, i + 1)) count++;
+			}
+			assertEquals(count, matcher.findAll(text).size());
+		}
+	}
+	
+	/**
+	 * Tests that the joiner writes separators only between elements and
+	 * produces the same output for every destination.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_joiner() {
+		assertEquals("1, 2, 3", EStringUtil.toString(new int[] { 1, 2, 3 }));
+		assertEquals("", EStringUtil.toString(new long[0]));
+		assertEquals("true|false", EStringUtil.toString(new boolean[] { true, false }, "|"));
+		assertEquals("a-b", EStringUtil.toString(new char[] { 'a', 'b' }, "-"));
+		assertEquals("1.5, -2.0", EStringUtil.toString(new double[] { 1.5, -2.0 }));
+		assertEquals("x, null", EStringUtil.toString(new String[] { "x", null }));
+		assertEquals("1 2", EStringUtil.toString(List.of("a", "bb"), String::length));
+		assertEquals("A;B", EStringUtil.toString(new String[] { "a", "b" }, String::toUpperCase, ";"));
+		
+		var map = new LinkedHashMap<Object, Object>();
+		map.put("k", 1);
+		map.put("self", map);
+		assertEquals("k=1, self=Itself!", EStringUtil.toString(map));
+		
+		// large outputs reach other destinations in chunks but must match the String result
+		int[] big = new int[50_000];
+		for (int i = 0; i < big.length; i++) big[i] = i * 31 - 7000;
+		String expected = Joiner.join(big, ",");
+		assertEquals(Arrays.stream(big).mapToObj(String::valueOf).collect(Collectors.joining(",")), expected);
+		
+		var writer = new StringWriter();
+		assertSame(writer, Joiner.appendTo(writer, big, ","));
+		assertEquals(expected, writer.toString());
+		
+		var bytes = new ByteArrayOutputStream();
+		Joiner.writeTo(bytes, big, ",");
+		assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+		
+		var sb = new StringBuilder("[");
+		Joiner.appendAll(sb, List.of("\u00e9", 2), ", ").append(']');
+		assertEquals("[\u00e9, 2]", sb.toString());
+	}
+	
+	/**
+	 * Tests the in place EStringBuilder operations and the thread local pool.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_stringBuilderInPlace() {
+		var esb = new EStringBuilder("  \t hello world \n ");
+		var buffer = esb.getSB();
+		assertFalse(esb.isBlank());
+		assertEquals("hello world", esb.trim());
+		assertTrue(esb.contains("o w"));
+		assertFalse(esb.contains("xyz"));
+		assertEquals("lo wor", esb.setSubstring(3, 9));
+		assertEquals("lo wor!", esb.tempAdd('!'));
+		assertEquals("lo wor", esb.clear("   "));
+		assertTrue(esb.isBlank());
+		assertEquals("", esb.trim());
+		assertSame(buffer, esb.getSB());
+		assertThrows(StringIndexOutOfBoundsException.class, () -> esb.setSubstringRT(1, 0));
+		
+		var a = EStringBuilder.acquire();
+		a.setTabCount(2);
+		a.print("x");
+		assertEquals("        x", a.toStringAndRelease());
+		EStringBuilder.release(a);
+		var b = EStringBuilder.acquire();
+		assertSame(a, b);
+		assertEquals(0, b.length());
+		assertEquals(0, b.getCurrentTabCount());
+		assertNotSame(b, EStringBuilder.acquire());
+		
+		b.append("x".repeat(EStringBuilder.MAX_POOLED_CAPACITY + 1));
+		EStringBuilder.release(b);
+		assertNotSame(b, EStringBuilder.acquire());
+	}
+	
+	/**
+	 * Tests that a spilling EStringBuilder writes exactly what a normal one
+	 * would build while only holding a bounded amount in memory.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_stringBuilderSpill() {
+		var expected = new EStringBuilder();
+		var out = new StringWriter();
+		var spilling = EStringBuilder.spillingTo(out).spillTo(out, 1024, 40);
+		for (var esb : List.of(expected, spilling)) {
+			esb.println("root {");
+			esb.incrementTabCount();
+			for (int i = 0; i < 5000; i++) {
+				esb.print("value ", i, " = ").append(i * 7L).append('\n');
+				if (esb == spilling) assertTrue(esb.length() < 2048 + 64);
+			}
+			esb.decrementTabCount();
+			esb.println("}");
+			// a single long line is still written out in pieces
+			esb.append("x".repeat(5000));
+		}
+		assertTrue(spilling.getSpilledLength() > 0);
+		assertTrue(spilling.length() <= 2048 + 64);
+		assertEquals(expected.toString().substring(expected.length() - 40), spilling.getTail());
+		spilling.close();
+		assertEquals(expected.toString(), out.toString());
+		assertFalse(spilling.isSpilling());
+		
+		var tsOut = new StringWriter();
+		var ts = new EToStringBuilder(new Object(), tsOut);
+		ts.a("count", 3);
+		ts.close();
+		assertTrue(tsOut.toString().endsWith("    count: 3\n}\n"));
+	}
+	
+	/**
+	 * Tests the zero copy tokenizer's delimiter kinds, quoting, limits, and
+	 * numeric field extraction across different CharSequence sources.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_tokenizer() {
+		assertEquals(List.of("a", "", "b", ""), Tokenizer.of("a,,b,", ',').toList());
+		assertEquals(List.of("a", "b"), Tokenizer.of("a,,b,", ',').skipEmpty().toList());
+		assertEquals(List.of("x", "y", "z"), Tokenizer.of("x::y::z", "::").toList());
+		assertEquals(List.of("one", "two", "three"), Tokenizer.words("  one \t two\nthree ").toList());
+		assertEquals(List.of("k", "v=w"), Tokenizer.of("k=v=w", '=').limit(2).toList());
+		assertEquals(List.of("1", "2;3"), Tokenizer.of("1;2;3", (int c) -> c == ';').limit(2).toList());
+		
+		var csv = Tokenizer.of("\"Smith, J\",42,\"say \"\"hi\"\"\",-3.5e2", ',').quoted('"');
+		assertEquals("Smith, J", csv.nextString());
+		assertEquals(42, csv.nextInt());
+		assertEquals("say \"hi\"", csv.nextString());
+		assertEquals(-350.0, csv.nextDouble());
+		assertFalse(csv.hasNext());
+		
+		// every CharSequence source gives the same fields without being copied
+		var text = "10 20 30";
+		var sources = List.<CharSequence>of(text, new StringBuilder(text), new EStringBuilder(text), CharBuffer.wrap(text));
+		for (var src : sources) {
+			var t = Tokenizer.of(src, ' ');
+			assertEquals(10, t.nextInt());
+			var field = t.next();
+			assertEquals("20", field.toString());
+			assertEquals(3, t.fieldStart());
+			assertEquals(30L, t.nextLong());
+		}
+		assertEquals(List.of("a", "b"), new EStringBuilder("a|b").tokenize('|').toList());
+		
+		var bad = Tokenizer.of("12,x", ',');
+		assertEquals(12, bad.nextInt());
+		assertThrows(NumberFormatException.class, bad::nextInt);
+		assertEquals(7, Tokenizer.of("", ',').nextInt(7));
+		assertThrows(NoSuchElementException.class, () -> Tokenizer.of("a", ',').skip().next());
+		
+		// looking ahead past empty fields leaves the last field untouched
+		var skipping = Tokenizer.of("a,,\"q\"\"\",,", ',').quoted('"').skipEmpty();
+		var first = skipping.next();
+		assertTrue(skipping.hasNext());
+		assertEquals("a", first.toString());
+		assertEquals(0, skipping.fieldStart());
+		assertEquals(1, skipping.fieldEnd());
+		var quoted = skipping.next();
+		assertFalse(skipping.hasNext());
+		assertEquals("q\"", quoted.toString());
+		var words = Tokenizer.words("one  two");
+		var one = words.next();
+		words.hasNext();
+		assertEquals("one", one.toString());
+	}
+	
+	/**
+	 * Tests that the bounded interner shares equal values across every kind
+	 * of source, stays within its capacity, and counts its hits.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_interner() throws Exception {
+		var in = new StringInterner(64);
+		String a = in.intern(new StringBuilder("host-1"));
+		assertSame(a, in.intern("xxhost-1yy", 2, 8));
+		assertSame(a, in.intern("host-1".toCharArray(), 0, 6));
+		assertSame(a, in.intern(CharBuffer.wrap("host-1")));
+		assertEquals(3, in.getHits());
+		assertEquals(1, in.getMisses());
+		assertEquals(0.75, in.getHitRatio());
+		assertNull(in.intern(null));
+		
+		// values past the max length are returned but never cached
+		var longValue = "x".repeat(100);
+		assertEquals(longValue, in.intern(longValue));
+		assertEquals(1, in.size());
+		
+		// flooding with one-off values evicts but never grows past the table
+		for (int i = 0; i < 10_000; i++) assertEquals("v" + i, in.intern("v" + i));
+		assertTrue(in.size() <= in.getCapacity());
+		assertTrue(in.getEvictions() > 0);
+		
+		in.clear();
+		assertEquals(0, in.size());
+		assertEquals(0, in.getHits());
+		
+		var fields = Tokenizer.of("GET,GET,POST,GET", ',').interning(in).toList();
+		assertEquals(List.of("GET", "GET", "POST", "GET"), fields);
+		assertSame(fields.get(0), fields.get(3));
+		assertSame(EStringUtil.intern("shared-value"), EStringUtil.intern(new StringBuilder("shared-value")));
+		
+		Path file = Files.createTempFile("interned", ".txt");
+		try {
+			Files.writeString(file, "alpha\nbeta\nalpha\n");
+			try (var reader = new LineReader(file.toFile()).interning(in)) {
+				var first = reader.nextLine();
+				reader.nextLine();
+				assertSame(first, reader.nextLine());
+			}
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	/**
+	 * Tests the edit distance kernels against a plain table and the fuzzy
+	 * index against a brute force scan.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_fuzzySearch() {
+		assertEquals(3, EStringUtil.levenshtein("kitten", "sitting"));
+		assertEquals(2, EStringUtil.levenshtein("abcd", "acbd"));
+		assertEquals(1, EStringUtil.damerau("abcd", "acbd"));
+		assertEquals(2, EditDistance.levenshtein("kitten", "sitting", 1));
+		assertEquals(5, EditDistance.levenshtein("", "hello"));
+		
+		// both kernels (up to 64 chars and past it) must agree with the table
+		var rand = new Random(7);
+		for (int i = 0; i < 2000; i++) {
+			int max = (i % 10 == 0) ? 80 : 12;
+			var a = randomText(rand, max, "abc\u00e9");
+			var b = randomText(rand, max, "abc\u00e9");
+			assertEquals(tableDistance(a, b, false), EditDistance.levenshtein(a, b), a + " / " + b);
+			assertEquals(tableDistance(a, b, true), EditDistance.damerau(a, b), a + " / " + b);
+		}
+		
+		var words = new ArrayList<String>();
+		for (int i = 0; i < 5000; i++) words.add(randomText(rand, 10, "abcdef"));
+		for (boolean damerau : new boolean[] { false, true }) {
+			var index = FuzzyIndex.of(words, damerau, true);
+			for (int i = 0; i < 50; i++) {
+				var query = words.get(rand.nextInt(words.size())) + ((i % 2 == 0) ? "ab" : "");
+				int maxDist = i % 4;
+				
+				var expected = new ArrayList<String>();
+				for (var w : words) {
+					if (tableDistance(query, w, damerau) <= maxDist) expected.add(w);
+				}
+				var found = index.findWithin(query, maxDist);
+				assertEquals(expected.size(), found.size(), query);
+				for (var s : found) assertEquals(tableDistance(query, s.value(), damerau), s.distance());
+				
+				var top = index.suggest(query, 3);
+				int closest = words.stream().mapToInt(w -> tableDistance(query, w, damerau)).min().getAsInt();
+				assertEquals(3, top.size());
+				assertEquals(closest, top.get(0).distance());
+			}
+		}
+		assertEquals("apple", FuzzyIndex.of(List.of("apple", "maple", "angle")).closest("appel"));
+	}
+	
+	/**
+	 * Tests reflective rendering of fields, nesting, cycles, depth limits,
+	 * and element caps.
+	 * 
+	 * @since 2.7.1
+	 */
+	@Test
+	public void test_reflectToString() {
+		var a = new ReflectNode("a", 3);
+		var b = new ReflectNode("b", 4);
+		a.next = b;
+		b.next = a;
+		a.data = new int[100];
+		a.tags = List.of("x", "y");
+		
+		var out = EToStringBuilder.reflect(a);
+		assertTrue(out.startsWith("ReflectNode@"), out);
+		assertTrue(out.contains("    name: a\n"), out);
+		assertTrue(out.contains("    weight: 3\n"), out);
+		assertTrue(out.contains("    next: ReflectNode@"), out);
+		assertTrue(out.contains("        name: b\n"), out);
+		assertTrue(out.contains("        next: ReflectNode@" + Integer.toHexString(System.identityHashCode(a)) + " (cycle)"), out);
+		assertTrue(out.contains("data: [0, 0, 0"), out);
+		assertTrue(out.contains("... (68 more)]"), out);
+		assertTrue(out.contains("tags: [x, y]"), out);
+		assertTrue(out.endsWith("}\n"), out);
+		
+		// a long chain is cut off at the depth limit
+		var head = new ReflectNode("0", 0);
+		var tail = head;
+		for (int i = 1; i < 10; i++) tail = tail.next = new ReflectNode(String.valueOf(i), i);
+		var chain = EToStringBuilder.reflect(head, 2, 4);
+		assertTrue(chain.contains("name: 2\n"), chain);
+		assertFalse(chain.contains("name: 3\n"), chain);
+		assertTrue(chain.contains(" {...}"), chain);
+		
+		// the second call reuses the cached plan and renders the same way
+		assertEquals(chain, EToStringBuilder.reflect(head, 2, 4));
+		assertEquals("null\n", EToStringBuilder.reflect(null));
+		
+		var hand = new EToStringBuilder(b);
+		hand.aFields(b);
+		assertTrue(hand.toString().contains("    name: b\n"));
+	}
+	
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+	
+	private static String randomText(Random rand, int maxLength, String alphabet) {
+		var sb = new StringBuilder();
+		for (int i = rand.nextInt(maxLength + 1); i > 0; i--) sb.append(alphabet.charAt(rand.nextInt(alphabet.length())));
+		return sb.toString();
+	}
+	
+	private static int tableDistance(String a, String b, boolean transpose) {
+		var d = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+		for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+		for (int i = 1; i <= a.length(); i++) {
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+				d[i][j] = Math.min(Math.min(d[i - 1][j], d[i][j - 1]) + 1, d[i - 1][j - 1] + cost);
+				if (transpose && i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+					d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+				}
+			}
+		}
+		return d[a.length()][b.length()];
+	}
+	
+	private static String randomWord(Random rng, int length) {
+		var sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) sb.append((char) ('a' + rng.nextInt(4)));
+		return sb.toString();
+	}
+	
+	/** A small object graph for the reflective toString test. */
+	private static class ReflectNode {
+		String name;
+		int weight;
+		ReflectNode next;
+		int[] data;
+		List<String> tags;
+		
+		ReflectNode(String nameIn, int weightIn) {
+			name = nameIn;
+			weight = weightIn;
+		}
+	}
+	
 }
@@ -0,0 +1,97 @@
+package eutil;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import eutil.math.transforms.Mat3f;
+import eutil.math.transforms.Mat4f;
+import eutil.math.transforms.Quatf;
+import eutil.math.vectors.Vec3f;
+
+/**
+ * A series of tests for the fixed size transform types.
+ *
+ * @author Hunter Bragg
+ * @since 2.7.1
+ */
+public class Tests_Transforms {
+
+	private static final float EPS = 1e-4f;
+
+	@Test
+	public void test_invert() {
+		var q = new Quatf().rotationAxis(0.7f, 1, 2, 3);
+		var affine = new Mat4f().translationRotateScale(4, -2, 9, q, 2, 3, 0.5f);
+		assertIdentity(new Mat4f(affine).invert().mul(affine));
+
+		var projective = new Mat4f(affine);
+		projective.m30 = 0.1f;
+		projective.m31 = -0.2f;
+		projective.m33 = 2.0f;
+		assertIdentity(new Mat4f(projective).invert().mul(projective));
+
+		var m3 = new Mat3f(affine);
+		var r = new Mat3f(m3).invert().mul(m3);
+		assertEquals(1.0f, r.m00, EPS);
+		assertEquals(0.0f, r.m01, EPS);
+		assertEquals(1.0f, r.m22, EPS);
+	}
+
+	@Test
+	public void test_quaternionMatchesMatrix() {
+		var q = new Quatf().rotationAxis(1.3f, -1, 0.5f, 2);
+		var m = q.toMat4f();
+
+		var a = q.transform(new Vec3f(1, 2, 3));
+		var b = m.transformPoint(new Vec3f(1, 2, 3));
+
+		assertEquals(a.x, b.x, EPS);
+		assertEquals(a.y, b.y, EPS);
+		assertEquals(a.z, b.z, EPS);
+
+		var composed = new Quatf().rotationY(0.4f).mul(new Quatf().rotationX(0.9f));
+		var mc = new Mat4f().rotation(new Quatf().rotationY(0.4f)).rotate(new Quatf().rotationX(0.9f));
+		var c = composed.transform(new Vec3f(3, -1, 2));
+		var d = mc.transformPoint(new Vec3f(3, -1, 2));
+
+		assertEquals(c.x, d.x, EPS);
+		assertEquals(c.y, d.y, EPS);
+		assertEquals(c.z, d.z, EPS);
+	}
+
+	@Test
+	public void test_transformAll() {
+		var m = new Mat4f().translationRotateScale(1, 2, 3, new Quatf().rotationZ(0.5f), 2, 2, 2);
+		int count = 70_000;
+		var xyz = new float[count * 3];
+		for (int i = 0; i < xyz.length; i++) xyz[i] = (i % 97) * 0.25f;
+
+		var serial = xyz.clone();
+		var parallel = xyz.clone();
+		m.transformAll(serial, count);
+		m.transformAllParallel(parallel, count);
+
+		for (int i = 0; i < count; i += 1000) {
+			var v = m.transformPoint(new Vec3f(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]));
+			assertEquals(v.x, serial[i * 3], EPS);
+			assertEquals(v.y, serial[i * 3 + 1], EPS);
+			assertEquals(v.z, serial[i * 3 + 2], EPS);
+		}
+
+		assertArrayEquals(serial, parallel, 0.0f);
+	}
+
+	//------------------------------
+	// Internal Test Helper Methods
+	//------------------------------
+
+	private static void assertIdentity(Mat4f m) {
+		var id = new Mat4f();
+		assertEquals(id.m00, m.m00, EPS); assertEquals(id.m01, m.m01, EPS); assertEquals(id.m02, m.m02, EPS); assertEquals(id.m03, m.m03, EPS);
+		assertEquals(id.m10, m.m10, EPS); assertEquals(id.m11, m.m11, EPS); assertEquals(id.m12, m.m12, EPS); assertEquals(id.m13, m.m13, EPS);
+		assertEquals(id.m20, m.m20, EPS); assertEquals(id.m21, m.m21, EPS); assertEquals(id.m22, m.m22, EPS); assertEquals(id.m23, m.m23, EPS);
+		assertEquals(id.m30, m.m30, EPS); assertEquals(id.m31, m.m31, EPS); assertEquals(id.m32, m.m32, EPS); assertEquals(id.m33, m.m33, EPS);
+	}
+
+}